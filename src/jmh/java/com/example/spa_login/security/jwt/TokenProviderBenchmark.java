@@ -0,0 +1,85 @@
+package com.example.spa_login.security.jwt;
+
+import com.example.spa_login.user.model.UserEntity;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.MacAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 비용 측정
+ * - tokenProvider*: 실제 TokenProvider 코드 경로 (HS512)
+ * - create/validate: 서명 알고리즘별 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    @Param({"HS256", "HS384", "HS512"})
+    private String algorithm;
+
+    private TokenProvider tokenProvider;
+    private UserEntity user;
+    private String providerToken;
+
+    private MacAlgorithm macAlgorithm;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider();
+        user = UserEntity.builder().id(1L).username("user@example.com").build();
+        providerToken = tokenProvider.create(user);
+
+        macAlgorithm = switch (algorithm) {
+            case "HS256" -> Jwts.SIG.HS256;
+            case "HS384" -> Jwts.SIG.HS384;
+            default -> Jwts.SIG.HS512;
+        };
+        key = macAlgorithm.key().build();
+        token = create();
+    }
+
+    @Benchmark
+    public String tokenProviderCreate() {
+        return tokenProvider.create(user);
+    }
+
+    @Benchmark
+    public String tokenProviderValidate() {
+        return tokenProvider.validateAndGetUserId(providerToken);
+    }
+
+    // TokenProvider.create와 같은 클레임 구성으로 알고리즘만 바꿔서 생성
+    @Benchmark
+    public String create() {
+        return Jwts.builder()
+                .signWith(key, macAlgorithm)
+                .subject("1")
+                .issuer("spa-login")
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .compact();
+    }
+
+    // TokenProvider.validateAndGetUserId와 같은 검증 경로로 알고리즘만 바꿔서 검증
+    @Benchmark
+    public String validate() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+}
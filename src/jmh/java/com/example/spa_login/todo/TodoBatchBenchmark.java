@@ -0,0 +1,94 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Todo 1,000건 생성: 단건 호출 1,000번 vs 일괄 처리 1번
+ * - singleWithListReread: 기존 POST /todo (매번 전체 목록 재조회)
+ * - singleOnly: POST /todo?mode=single (재조회 없음)
+ * - batch: POST /todo/batch (한 트랜잭션, JDBC 배치)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoBatchBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"1000"})
+    private int operations;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoRepository todoRepository;
+
+    private List<TodoBatchOperationDTO> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = TodoBenchmarkContext.start("batch");
+        todoService = context.getBean(TodoService.class);
+        todoRepository = context.getBean(TodoRepository.class);
+
+        batch = new ArrayList<>(operations);
+        for (int i = 0; i < operations; i++) {
+            batch.add(TodoBatchOperationDTO.builder()
+                    .op(TodoBatchOperationDTO.Operation.CREATE)
+                    .todo(TodoDTO.builder().title("할 일 " + i).build())
+                    .build());
+        }
+    }
+
+    // 측정마다 빈 테이블에서 시작
+    @Setup(Level.Iteration)
+    public void clear() {
+        todoRepository.deleteAllInBatch();
+        context.getBean(TodoListCache.class).clear(); // 캐시를 거치지 않은 삭제이므로 캐시도 비움
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleWithListReread() {
+        int size = 0;
+        for (int i = 0; i < operations; i++) {
+            size = todoService.create(newTodo(i)).value().size();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long singleOnly() {
+        long lastId = 0;
+        for (int i = 0; i < operations; i++) {
+            lastId = todoService.createOne(newTodo(i)).getId();
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    public int batch() {
+        return todoService.applyBatch(USER_ID, batch).value().size();
+    }
+
+    private static TodoEntity newTodo(int i) {
+        return TodoEntity.builder()
+                .userId(USER_ID)
+                .title("할 일 " + i)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.common.config.JpaBatchConfig;
+import com.example.spa_login.todo.model.TodoEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * DB가 필요한 Todo 벤치마크용 Spring 컨텍스트 (H2 인메모리 DB, 웹/보안 제외)
+ * - todo 패키지의 서비스 계층만 등록 (컨트롤러, 클래스패스에 함께 올라오는 테스트 설정 제외)
+ * - 변경 번호 증가에 MySQL 문법(ON DUPLICATE KEY UPDATE)을 사용하므로 H2 MySQL 호환 모드 사용
+ * - 캐시/카운터 메트릭용 MeterRegistry 를 직접 등록 (actuator 메트릭 자동 설정 여부와 관계없이 컨텍스트가 뜨도록)
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = TodoEntity.class)
+@EnableJpaRepositories(basePackageClasses = TodoRepository.class)
+@ComponentScan(basePackageClasses = TodoService.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION,
+                classes = {RestController.class, TestConfiguration.class}))
+@Import(JpaBatchConfig.class)
+public class TodoBenchmarkContext {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    public static ConfigurableApplicationContext start(String name) {
+        return new SpringApplicationBuilder(TodoBenchmarkContext.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
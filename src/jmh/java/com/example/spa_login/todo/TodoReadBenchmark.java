@@ -0,0 +1,67 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * GET /todo 목록 조회: 엔터티 조회 후 TodoDTO::new 변환 vs DTO 프로젝션 조회 (H2)
+ * - gc 프로파일러의 gc.alloc.rate.norm 으로 응답 1회당 힙 할당량 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoReadBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = TodoBenchmarkContext.start("read");
+        todoRepository = context.getBean(TodoRepository.class);
+
+        List<TodoEntity> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            entities.add(TodoEntity.builder()
+                    .userId(USER_ID)
+                    .title("할 일 " + i)
+                    .done(i % 2 == 0)
+                    .build());
+        }
+        todoRepository.saveAll(entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 기존 경로: 엔터티 조회 (영속성 컨텍스트, 스냅샷) + DTO 복사
+    @Benchmark
+    public List<TodoDTO> entityThenMap() {
+        return todoRepository.findByUserId(USER_ID).stream()
+                .map(TodoDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    // DTO 프로젝션 조회 (읽기 전용 트랜잭션, TodoListCache 를 거치지 않도록 리포지토리 직접 호출)
+    @Benchmark
+    public List<TodoDTO> projection() {
+        return todoRepository.findDtosByUserId(USER_ID);
+    }
+}
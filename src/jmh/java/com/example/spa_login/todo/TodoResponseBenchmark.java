@@ -0,0 +1,69 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.common.model.ResponseDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Todo 목록 응답 생성 비용 측정 (목록 크기 별)
+ * - TodoDTO::new 매핑
+ * - ResponseDTO<TodoDTO> Jackson 직렬화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TodoResponseBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<TodoEntity> entities;
+    private ResponseDTO<TodoDTO> response;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            entities.add(TodoEntity.builder()
+                    .id(i)
+                    .userId(1L)
+                    .title("할 일 " + i)
+                    .done(i % 2 == 0)
+                    .build());
+        }
+
+        response = ResponseDTO.<TodoDTO>builder().data(mapToDto()).build();
+    }
+
+    @Benchmark
+    public List<TodoDTO> mapToDto() {
+        return entities.stream()
+                .map(TodoDTO::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // 컨트롤러와 같은 경로: 매핑 + 직렬화
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        ResponseDTO<TodoDTO> body = ResponseDTO.<TodoDTO>builder().data(mapToDto()).build();
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
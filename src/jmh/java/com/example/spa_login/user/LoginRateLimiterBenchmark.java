@@ -0,0 +1,49 @@
+package com.example.spa_login.user;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoginRateLimiter 판단 비용 측정
+ * - 동시 스레드 4개, 키 개수 별 (같은 키 경합 ~ 키 분산)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoginRateLimiterBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    private int keys;
+
+    private LoginRateLimiter limiter;
+    private String[] usernames;
+    private String[] ips;
+
+    @Setup
+    public void setUp() {
+        limiter = new LoginRateLimiter(true,
+                new LoginRateLimiter.Limit(5, Duration.ofMinutes(1)),
+                new LoginRateLimiter.Limit(20, Duration.ofMinutes(1)),
+                keys * 2 + 1, System::nanoTime);
+
+        usernames = new String[keys];
+        ips = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            usernames[i] = "user" + i + "@example.com";
+            ips[i] = "10.0." + (i / 256 % 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        int i = ThreadLocalRandom.current().nextInt(keys);
+        return limiter.tryAcquire(usernames[i], ips[i]);
+    }
+}
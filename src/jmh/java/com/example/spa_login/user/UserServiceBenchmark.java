@@ -0,0 +1,67 @@
+package com.example.spa_login.user;
+
+import com.example.spa_login.user.model.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserService.getByCredentials 비용 측정 (BCrypt cost 별)
+ * - DB 조회는 메모리 스텁으로 대체하여 비밀번호 검증 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    private static final String USERNAME = "user@example.com";
+    private static final String PASSWORD = "password1234";
+
+    @Param({"4", "10", "12"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(cost);
+
+        UserEntity user = UserEntity.builder()
+                .id(1L)
+                .username(USERNAME)
+                .password(passwordEncoder.encode(PASSWORD))
+                .build();
+
+        // 캐시 비활성화: 매 호출마다 저장소 조회 + 비밀번호 검증
+        UserCache userCache = new UserCache(false, 0, Duration.ZERO, new SimpleMeterRegistry());
+        UsernameBloomFilter bloomFilter = new UsernameBloomFilter(null, false, 1, 0.01, false, new SimpleMeterRegistry());
+        userService = new UserService(stubRepository(user), userCache, bloomFilter);
+    }
+
+    @Benchmark
+    public UserEntity getByCredentials() {
+        return userService.getByCredentials(USERNAME, PASSWORD, passwordEncoder);
+    }
+
+    // findByUsername 만 응답하는 UserRepository 스텁
+    static UserRepository stubRepository(UserEntity user) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByUsername")) {
+                        return user.getUsername().equals(args[0]) ? user : null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
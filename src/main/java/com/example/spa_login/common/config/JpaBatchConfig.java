@@ -0,0 +1,26 @@
+package com.example.spa_login.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정 클래스
+ * - 같은 트랜잭션의 INSERT/UPDATE를 jpa.batch-size 개씩 묶어서 전송
+ * - spring.jpa.properties 로 직접 지정한 값이 있으면 그 값을 우선 사용
+ * - MySQL은 JDBC URL에 rewriteBatchedStatements=true 를 추가해야 다중 행 INSERT로 재작성됨
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize); // 배치 크기
+            properties.putIfAbsent("hibernate.order_inserts", true); // 엔터티 종류별로 INSERT 정렬 (배치 효율)
+            properties.putIfAbsent("hibernate.order_updates", true); // 엔터티 종류별로 UPDATE 정렬 (배치 효율)
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true); // @Version 엔터티도 배치 허용
+        };
+    }
+}
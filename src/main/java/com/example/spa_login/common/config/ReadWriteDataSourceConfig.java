@@ -0,0 +1,89 @@
+package com.example.spa_login.common.config;
+
+import com.example.spa_login.common.datasource.PrimaryPinning;
+import com.example.spa_login.common.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * primary / replica DB 분리 설정 (spring.datasource.replica.url 이 있을 때만 사용)
+ * - primary: spring.datasource.* (커넥션 풀 설정은 spring.datasource.hikari.*)
+ * - replica: spring.datasource.replica.url, username, password (없으면 primary 값), 풀 설정은 spring.datasource.replica.hikari.*
+ * - 읽기 전용 트랜잭션은 replica, 나머지는 primary (ReadWriteRoutingDataSource)
+ * - spring.datasource.replica.pin-after-write: 쓰기 후 해당 사용자의 읽기를 primary 로 보내는 시간 (0 이면 사용 안 함)
+ * - 로컬에서는 두 개의 H2 인메모리 DB를 primary/replica 로 지정하여 확인 가능 (README 참고)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                       @Value("${spring.datasource.replica.url}") String url,
+                                       @Value("${spring.datasource.replica.username:#{null}}") String username,
+                                       @Value("${spring.datasource.replica.password:#{null}}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        if (username != null) {
+            dataSource.setUsername(username);
+        }
+        if (password != null) {
+            dataSource.setPassword(password);
+        }
+        dataSource.setReadOnly(true); // replica 커넥션은 읽기 전용
+        return dataSource;
+    }
+
+    @Bean
+    PrimaryPinning primaryPinning(@Value("${spring.datasource.replica.pin-after-write:2s}") Duration window) {
+        return new PrimaryPinning(window);
+    }
+
+    @Bean
+    ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                 @Qualifier("replicaDataSource") DataSource replica,
+                                                 PrimaryPinning primaryPinning,
+                                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, primaryPinning);
+
+        // 라우팅 통계를 Micrometer 메트릭으로 노출
+        FunctionCounter.builder("datasource.routing.primary", routing, ReadWriteRoutingDataSource::getPrimaryRouteCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("datasource.routing.replica", routing, ReadWriteRoutingDataSource::getReplicaRouteCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("datasource.routing.pinned", routing, ReadWriteRoutingDataSource::getPinnedRouteCount)
+                .register(meterRegistry);
+        Gauge.builder("datasource.routing.pinned-users", primaryPinning, PrimaryPinning::size).register(meterRegistry);
+        return routing;
+    }
+
+    // JPA/JDBC 가 사용하는 DataSource: 첫 SQL 실행 시점(읽기 전용 여부가 정해진 뒤)에 라우팅
+    @Bean
+    @Primary
+    DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.spa_login.common.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 직후의 사용자를 일정 시간 primary DB에 고정 (read-your-writes)
+ * - 쓰기 트랜잭션이 커밋되면 해당 사용자를 window 동안 고정, 고정된 사용자의 읽기 전용 트랜잭션은 primary 로 보냄
+ * - window 는 replica 복제 지연보다 길게 설정 (0 이면 고정하지 않음)
+ * - 만료된 항목은 고정 시 일정 개수를 넘으면 정리
+ * - 고정 정보는 노드(JVM)별 메모리에만 보관: 여러 노드로 운영하면 쓰기를 처리한 노드에서만 고정되므로
+ *   로드밸런서의 사용자별 고정(sticky session)을 함께 사용해야 함
+ */
+public class PrimaryPinning {
+
+    private static final int CLEANUP_THRESHOLD = 10_000; // 이 수를 넘으면 만료된 항목 정리
+
+    private final long windowNanos; // 고정 시간
+    private final LongSupplier nanoTime; // 시각 (테스트에서 교체)
+
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>(); // 사용자 -> 고정 만료 시각
+
+    public PrimaryPinning(final Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    PrimaryPinning(final Duration window, final LongSupplier nanoTime) {
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public boolean isEnabled() {
+        return windowNanos > 0;
+    }
+
+    // 사용자를 지금부터 window 동안 primary 에 고정
+    public void pin(final String user) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        long now = nanoTime.getAsLong();
+        deadlines.put(user, now + windowNanos);
+        if (deadlines.size() > CLEANUP_THRESHOLD) {
+            deadlines.values().removeIf(deadline -> deadline - now <= 0);
+        }
+    }
+
+    // 사용자가 primary 에 고정되어 있는지 여부
+    public boolean isPinned(final String user) {
+        Long deadline = deadlines.get(user);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - nanoTime.getAsLong() > 0) {
+            return true;
+        }
+        deadlines.remove(user, deadline); // 만료
+        return false;
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.spa_login.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica DB로 커넥션을 나누는 라우팅 DataSource
+ * - @Transactional(readOnly = true) 트랜잭션: replica (Spring Data 리포지토리의 조회 메서드도 기본이 읽기 전용)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖의 조회): primary
+ * - 쓰기 트랜잭션이 커밋되면 현재 로그인 사용자를 PrimaryPinning 에 고정하고, 고정된 사용자의 읽기는 primary 로 보냄
+ *   (고정 정보는 노드(JVM)별 메모리에만 있으므로 다른 노드로 간 요청은 고정되지 않음)
+ * - 로그인 전이라 고정할 사용자가 없는 조회(가입 직후 로그인의 사용자 조회 등)는 onPrimary 로 감싸서 primary 로 보냄
+ * - 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서
+ *   첫 SQL 실행 시점에 커넥션을 선택해야 함 (ReadWriteDataSourceConfig 참고)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // onPrimary 실행 중인 스레드 표시 (중첩 호출 시 바깥 호출이 끝날 때 해제)
+    private static final ThreadLocal<Boolean> PRIMARY_SCOPE = new ThreadLocal<>();
+
+    private final PrimaryPinning pinning;
+
+    // 라우팅 통계
+    private final LongAdder primaryRoutes = new LongAdder();
+    private final LongAdder replicaRoutes = new LongAdder();
+    private final LongAdder pinnedRoutes = new LongAdder(); // 고정되어 replica 대신 primary 로 보낸 읽기
+
+    public ReadWriteRoutingDataSource(final DataSource primary, final DataSource replica, final PrimaryPinning pinning) {
+        this.pinning = pinning;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (PRIMARY_SCOPE.get() != null) {
+                primaryRoutes.increment();
+                return Route.PRIMARY;
+            }
+            if (user != null && pinning.isPinned(user)) {
+                pinnedRoutes.increment();
+                primaryRoutes.increment();
+                return Route.PRIMARY;
+            }
+            replicaRoutes.increment();
+            return Route.REPLICA;
+        }
+
+        // 쓰기 트랜잭션: 커밋 후 사용자 고정 (트랜잭션마다 커넥션을 한 번 가져오므로 한 번만 등록됨)
+        if (user != null && pinning.isEnabled() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pinning.pin(user);
+                }
+            });
+        }
+        primaryRoutes.increment();
+        return Route.PRIMARY;
+    }
+
+    // task 안에서 처음 커넥션을 가져오는 읽기 전용 트랜잭션도 primary 로 보냄 (복제 지연을 허용하지 않는 조회)
+    // - 이미 커넥션을 가져온 바깥 트랜잭션 안에서 호출하면 그 커넥션을 그대로 사용
+    public static <T> T onPrimary(final Supplier<T> task) {
+        if (PRIMARY_SCOPE.get() != null) {
+            return task.get();
+        }
+        PRIMARY_SCOPE.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            PRIMARY_SCOPE.remove();
+        }
+    }
+
+    // 현재 로그인 사용자 (JwtAuthenticationFilter 가 설정한 사용자 ID, 없으면 null)
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    public long getPrimaryRouteCount() {
+        return primaryRoutes.sum();
+    }
+
+    public long getReplicaRouteCount() {
+        return replicaRoutes.sum();
+    }
+
+    public long getPinnedRouteCount() {
+        return pinnedRoutes.sum();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.spa_login.common.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,12 @@ import java.util.List;
 public class ResponseDTO<T> {
     private String error; // 에러 메시지 (예: "Unauthorized", "Validation failed")
     private List<T> data; // 실제 응답 데이터 리스트 (TodoDTO, UserDTO 등 다양한 타입 가능)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version; // 데이터 버전 (Todo 목록 등 버전을 관리하는 응답에서만 포함)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor; // 다음 페이지 커서 (페이지 단위 조회에서 다음 페이지가 있을 때만 포함)
 }
 
 /**
@@ -2,10 +2,13 @@ package com.example.spa_login.security;
 
 import com.example.spa_login.security.model.CustomUser;
 import com.example.spa_login.security.model.OAuthAttributes;
+import com.example.spa_login.user.UserCache;
 import com.example.spa_login.user.UserRepository;
+import com.example.spa_login.user.UsernameBloomFilter;
 import com.example.spa_login.user.model.UserEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -35,6 +38,8 @@ import java.util.Map;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final UserCache userCache; // 사용자 조회 근거리 캐시
+    private final UsernameBloomFilter usernameBloomFilter; // 존재하는 사용자명 블룸 필터
 
     // OAuth2 로그인에 성공했을 때 자동으로 호출
     // OAuth2 로그인 사용자의 정보를 가져와서 CustomUser 객체로 변환하는 메서드
@@ -106,16 +111,28 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
     }
 
     // 사용자 정보가 DB에 없으면 새로 저장
+    // - 기존 사용자: 조회 1회로 끝남
+    // - 신규 사용자: 존재 여부 확인 없이 바로 저장하고, 동시 가입으로 유일 제약 조건을 위반하면 다시 조회
     private UserEntity getUserEntity(String username, String authProvider) {
-        if (!userRepository.existsByUsername(username)) {
-            UserEntity userEntity = UserEntity.builder()
-                    .username(username)
-                    .authProvider(authProvider)
-                    .build();
-            return userRepository.save(userEntity); // DB에 저장
+        UserEntity existingUser = userCache.getByUsername(username, userRepository::findByUsername); // 기존 사용자 조회 (캐시 우선)
+        if (existingUser != null) {
+            return existingUser;
         }
 
-        return userRepository.findByUsername(username); // 기존 사용자 조회
+        UserEntity userEntity = UserEntity.builder()
+                .username(username)
+                .authProvider(authProvider)
+                .build();
+
+        try {
+            return userRepository.saveAndFlush(userEntity); // DB에 저장
+        } catch (DataIntegrityViolationException e) {
+            log.info("User {} was registered concurrently", username);
+            return userRepository.findByUsername(username); // 먼저 저장된 사용자 조회
+        } finally {
+            userCache.invalidate(userEntity); // 캐시 무효화
+            usernameBloomFilter.put(username); // 블룸 필터에 사용자명 추가
+        }
     }
 
     // GitHub API를 통해 사용자의 이메일을 직접 가져오는 메서드
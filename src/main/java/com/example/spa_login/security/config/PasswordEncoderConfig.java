@@ -0,0 +1,92 @@
+package com.example.spa_login.security.config;
+
+import com.example.spa_login.security.password.AdaptiveBCryptPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 설정 클래스
+ * - DelegatingPasswordEncoder: 저장된 해시의 접두사({bcrypt}, {pbkdf2}, {argon2})로 알고리즘 선택
+ * - password.encoder.id 로 새 해시에 사용할 알고리즘 지정 (기본 bcrypt)
+ * - password.bcrypt.calibrate=true 이면 기동 시 목표 시간에 맞는 BCrypt cost를 측정하여 사용
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final int MIN_STRENGTH = 4;  // BCrypt 최소 cost
+    private static final int MAX_STRENGTH = 16; // 측정 상한 (한 번 해시에 수 초 이상 걸리는 구간은 제외)
+
+    @Value("${password.encoder.id:bcrypt}")
+    private String encoderId; // 새 비밀번호 해시에 사용할 알고리즘
+
+    @Value("${password.bcrypt.strength:10}")
+    private int strength; // 고정 cost (측정 모드가 아닐 때 사용)
+
+    @Value("${password.bcrypt.calibrate:false}")
+    private boolean calibrate; // 기동 시 cost 측정 여부
+
+    @Value("${password.bcrypt.target-millis:250}")
+    private long targetMillis; // 해시 1회 목표 시간(ms)
+
+    @Value("${password.bcrypt.min-strength:10}")
+    private int minStrength; // 측정 결과의 하한
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        int bcryptStrength = calibrate ? calibrateStrength() : strength;
+        log.info("Password encoder: id {}, bcrypt strength {}", encoderId, bcryptStrength);
+
+        AdaptiveBCryptPasswordEncoder bcrypt = new AdaptiveBCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+        // 접두사가 없는 기존 해시는 BCrypt로 검증 (로그인 시 접두사가 붙은 형식으로 재해시됨)
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return passwordEncoder;
+    }
+
+    // 현재 하드웨어에서 목표 시간을 넘지 않는 가장 큰 cost 측정
+    private int calibrateStrength() {
+        int selected = MIN_STRENGTH;
+
+        for (int cost = MIN_STRENGTH; cost <= MAX_STRENGTH; cost++) {
+            long elapsed = measure(new AdaptiveBCryptPasswordEncoder(cost));
+            log.info("BCrypt cost {} took {} ms", cost, elapsed);
+
+            if (elapsed > targetMillis) {
+                break; // cost가 1 증가할 때마다 시간이 2배가 되므로 이후는 측정하지 않음
+            }
+            selected = cost;
+        }
+
+        int calibrated = Math.max(selected, minStrength);
+        log.info("Calibrated BCrypt strength {} for target {} ms", calibrated, targetMillis);
+        return calibrated;
+    }
+
+    // 해시 3회 중 가장 짧은 시간 (JIT, GC 영향 최소화)
+    private static long measure(PasswordEncoder encoder) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
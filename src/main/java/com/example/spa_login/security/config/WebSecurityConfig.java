@@ -4,6 +4,7 @@ import com.example.spa_login.security.CustomOAuth2UserService;
 import com.example.spa_login.security.jwt.JwtAuthenticationFilter;
 import com.example.spa_login.security.jwt.OAuthSuccessHandler;
 import com.example.spa_login.security.jwt.RedirectUrlCookieFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -60,6 +61,8 @@ public class WebSecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS) // // 세션 사용 안함 (JWT 기반 인증)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(StreamingResponseBody 등)의 ASYNC 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/", "/auth/**").permitAll() // 루트 및 /auth/** 경로는 인증 없이 허용
                         .anyRequest().authenticated() // 나머지 요청은 인증 필요
                 )
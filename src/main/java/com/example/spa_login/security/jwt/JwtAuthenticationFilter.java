@@ -1,5 +1,6 @@
 package com.example.spa_login.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +29,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
 
+    // 서명 검증이 끝난 토큰 캐시
+    private final VerifiedTokenCache verifiedTokenCache;
+
     // OPTIONS 요청은 필터를 건너 뛰도록 설정 (CORS 사전 요청 등 무시)
     // CORS Preflight 요청을 필터에서 제외
     // 인증과 관련 없는 OPTIONS 요청에 대해서는 불필요한 필터 처리 생략 -> 성능, 안정성 Up
@@ -54,7 +58,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 토큰이 존재하고 "null"이 아닌 경우
             if (token != null && !token.equalsIgnoreCase("null")) {
-                String userId = tokenProvider.validateAndGetUserId(token); // 토큰 검증 및 사용자 ID 추출
+                String userId = validateAndGetUserId(token); // 토큰 검증 및 사용자 ID 추출
                 log.info("Authenticated user Id: " + userId);
 
                 // 사용자 ID를 기반으로 인증 객체 생성 (권한 없음)
@@ -80,6 +84,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 캐시에 검증된 토큰이 있으면 바로 사용하고, 없으면 서명 검증 후 캐시에 저장
+    private String validateAndGetUserId(String token) {
+        String userId = verifiedTokenCache.get(token);
+        if (userId != null) {
+            return userId; // 캐시 적중: 서명 검증 및 Claims 파싱 생략
+        }
+
+        Claims claims = tokenProvider.validateAndGetClaims(token); // 서명 검증 (실패 시 예외 발생)
+        verifiedTokenCache.put(token, claims.getSubject(), claims.getExpiration()); // 만료 시각까지 캐시
+
+        return claims.getSubject();
+    }
+
     // Authorization 헤더에서 Bearer 토큰만 추출하는 메서드
     private String parseBearerToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization"); // Authorization 헤더 가져오기
@@ -46,14 +46,17 @@ public class TokenProvider {
 
     // 토큰을 검증하고, 포함된 사용자 ID(subject)를 반환
     public String validateAndGetUserId(String token) {
+        return validateAndGetClaims(token).getSubject(); // 사용자 ID(subject) 반환
+    }
+
+    // 토큰을 검증하고, Claims 전체를 반환 (만료 시각 등이 필요한 경우 사용)
+    public Claims validateAndGetClaims(String token) {
         // 토큰 파싱 및 검증 (서명이 유효한지 확인)
-        Claims claims = Jwts.parser()
+        return Jwts.parser()
                 .verifyWith(SIGNING_KEY) // 서명키 설정
                 .build()
                 .parseSignedClaims(token)// 토큰 파싱
                 .getPayload(); // Payload(Claims) 추출
-
-        return claims.getSubject(); // 사용자 ID(subject) 반환
     }
 
     // 소셜 로그인 인증 정보를 기반으로 JWT 토큰 생성
@@ -0,0 +1,140 @@
+package com.example.spa_login.security.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰을 보관하는 크기 제한 캐시
+ * - 같은 토큰이 반복해서 들어오면 서명 검증과 Claims 파싱을 생략하고 사용자 ID를 바로 반환
+ * - 키는 토큰 원문이 아닌 SHA-256 다이제스트 (토큰 원문을 메모리에 오래 보관하지 않음)
+ * - 각 항목은 토큰의 exp 시각에 만료되며, 만료된 항목은 절대 반환하지 않음
+ * - 변조된 토큰은 다이제스트가 달라지므로 캐시에 적중할 수 없음
+ * - 용량 초과 시 가장 오래 사용하지 않은 항목을 제거 (LRU)
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize; // 최대 보관 항목 수
+    private final Clock clock; // 만료 판단에 사용할 시계 (테스트에서 교체 가능)
+
+    // 캐시 통계 카운터
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // 다이제스트 -> 캐시 항목 (접근 순서 유지, 가장 오래 사용하지 않은 항목부터 제거)
+    private final LinkedHashMap<String, CachedToken> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this(maxSize, Clock.systemUTC());
+
+        // 캐시 통계를 Micrometer 메트릭으로 노출
+        FunctionCounter.builder("jwt.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("jwt.cache.size", this, VerifiedTokenCache::size).register(meterRegistry);
+    }
+
+    public VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    // 캐시에서 검증된 사용자 ID 조회 (없거나 만료된 경우 null)
+    public String get(String token) {
+        String key = digest(token);
+        CachedToken cached;
+        synchronized (this) {
+            cached = cache.get(key); // 접근 순서 갱신
+            if (cached != null && cached.isExpired(clock.millis())) {
+                // 만료된 항목은 제거하고 미스로 처리
+                cache.remove(key);
+                evictions.increment();
+                cached = null;
+            }
+        }
+
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return cached.userId();
+    }
+
+    // 서명 검증이 끝난 토큰을 만료 시각과 함께 저장
+    public void put(String token, String userId, Date expiration) {
+        // 만료 시각이 없거나 이미 지난 토큰은 저장하지 않음
+        if (userId == null || expiration == null || expiration.getTime() <= clock.millis()) {
+            return;
+        }
+
+        String key = digest(token); // 해시 계산은 잠금 밖에서
+        CachedToken cached = new CachedToken(userId, expiration.getTime());
+        synchronized (this) {
+            cache.put(key, cached); // 용량 초과 시 removeEldestEntry 가 LRU 항목 하나를 제거
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    // 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 캐시 항목: 사용자 ID와 토큰 만료 시각(ms)
+    private record CachedToken(String userId, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
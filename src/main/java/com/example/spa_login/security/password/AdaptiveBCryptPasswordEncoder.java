@@ -0,0 +1,41 @@
+package com.example.spa_login.security.password;
+
+import lombok.Getter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 저장된 해시의 cost가 현재 설정과 다르면 재해시 대상으로 판단하는 BCrypt 인코더
+ * - 기본 BCryptPasswordEncoder는 cost가 "낮은" 경우만 재해시 대상으로 판단
+ * - 하드웨어에 맞춰 cost를 낮추는 경우에도 기존 해시가 새 cost로 맞춰지도록 함
+ */
+@Getter
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    // BCrypt 해시 형식: $2a$10$... (버전, cost, salt+hash)
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength; // 현재 설정된 cost
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    // 저장된 해시의 cost가 현재 설정과 다르면 true
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false; // BCrypt 형식이 아니면 판단하지 않음
+        }
+
+        return Integer.parseInt(matcher.group(2)) != strength;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoArchiveEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TodoArchiveEntity(보관된 항목)를 관리하는 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface TodoArchiveRepository extends JpaRepository<TodoArchiveEntity, Long> {
+
+    // Todo 테이블의 항목을 한 번의 INSERT ... SELECT 문으로 보관 테이블에 복사, 복사한 행 수 반환
+    @Modifying
+    @Query(value = "INSERT INTO todo_archive (id, user_id, title, position, tags, completed_at, archived_at) " +
+            "SELECT t.id, t.user_id, t.title, t.position, t.tags, t.completed_at, :archivedAt " +
+            "FROM todo t WHERE t.user_id = :userId AND t.id IN (:ids)", nativeQuery = true)
+    int copyFromTodo(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                     @Param("archivedAt") Instant archivedAt);
+
+    // 키셋 페이지네이션: 특정 사용자의 보관 항목 중 afterId 다음 항목을 id 순으로 limit 개 조회
+    @Query("SELECT a FROM TodoArchiveEntity a WHERE a.userId = :userId AND a.id > :afterId ORDER BY a.id")
+    List<TodoArchiveEntity> findPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                             Limit limit);
+}
@@ -0,0 +1,136 @@
+package com.example.spa_login.todo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래전에 완료된 Todo 항목을 보관 테이블(TodoArchive)로 옮기는 주기 작업 (hot/cold 분리)
+ * - 완료된 지 todo.archive.age 가 지난 항목을 (completedAt, id) 순으로 todo.archive.chunk-size 개씩 조회
+ * - 조회한 묶음을 사용자별로 나누어 TodoService.archive() 호출 (사용자마다 짧은 트랜잭션)
+ * - 묶음 사이에 todo.archive.throttle-ms 만큼 쉬어 온라인 요청과 DB를 나눠 씀
+ * - 완료 시각이 없는 기존 완료 항목은 먼저 현재 시각을 기록 (그때부터 보관 기간 계산)
+ * - 옮긴 항목 수와 소요 시간은 로그와 메트릭(todo.archive.moved, todo.archive.duration)으로 기록
+ */
+@Slf4j
+@Component
+public class TodoArchiver {
+
+    private final TodoRepository todoRepository;
+    private final TodoService todoService;
+
+    private final boolean enabled; // 보관 작업 사용 여부
+    private final Duration age; // 완료 후 이 기간이 지난 항목을 보관
+    private final int chunkSize; // 한 번에 조회/처리할 항목 수
+    private final long throttleMs; // 묶음 사이 대기 시간
+
+    private final Counter moved; // 옮긴 항목 수
+    private final Timer duration; // 작업 한 번의 소요 시간
+
+    public TodoArchiver(TodoRepository todoRepository,
+                        TodoService todoService,
+                        @Value("${todo.archive.enabled:true}") boolean enabled,
+                        @Value("${todo.archive.age:90d}") Duration age,
+                        @Value("${todo.archive.chunk-size:500}") int chunkSize,
+                        @Value("${todo.archive.throttle-ms:200}") long throttleMs,
+                        MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.todoService = todoService;
+        this.enabled = enabled;
+        this.age = age;
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+
+        this.moved = Counter.builder("todo.archive.moved").register(meterRegistry);
+        this.duration = Timer.builder("todo.archive.duration").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Instant cutoff = Instant.now().minus(age);
+        long total = 0;
+        int chunks = 0;
+
+        try {
+            stampLegacy();
+
+            Instant afterCompletedAt = Instant.EPOCH;
+            Long afterId = 0L;
+            List<TodoRepository.ArchiveCandidate> chunk;
+            do {
+                chunk = todoRepository.findArchiveCandidates(cutoff, afterCompletedAt, afterId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                chunks++;
+                total += archiveChunk(chunk, cutoff);
+
+                TodoRepository.ArchiveCandidate last = chunk.get(chunk.size() - 1);
+                afterCompletedAt = last.getCompletedAt();
+                afterId = last.getId();
+            } while (chunk.size() == chunkSize && pause());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            moved.increment(total);
+            duration.record(Duration.ofNanos(elapsed));
+            log.info("Archived {} completed todos in {} chunks, took {} ms", total, chunks, elapsed / 1_000_000);
+        }
+    }
+
+    // 완료 시각이 없는 완료 항목에 현재 시각 기록 (chunk-size 개씩)
+    private void stampLegacy() {
+        int stamped;
+        do {
+            stamped = todoRepository.stampCompletedAt(Instant.now(), chunkSize);
+        } while (stamped == chunkSize && pause());
+    }
+
+    // 묶음을 사용자별로 나누어 보관하고 옮긴 항목 수 반환 (한 사용자의 실패는 다른 사용자에 영향 없음)
+    private long archiveChunk(List<TodoRepository.ArchiveCandidate> chunk, Instant cutoff) {
+        Map<Long, List<Long>> idsByUser = new LinkedHashMap<>();
+        for (TodoRepository.ArchiveCandidate candidate : chunk) {
+            idsByUser.computeIfAbsent(candidate.getUserId(), userId -> new ArrayList<>()).add(candidate.getId());
+        }
+
+        long archived = 0;
+        for (Map.Entry<Long, List<Long>> entry : idsByUser.entrySet()) {
+            try {
+                archived += todoService.archive(entry.getKey(), entry.getValue(), cutoff);
+            } catch (RuntimeException e) {
+                log.warn("Failed to archive todos for user {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+        return archived;
+    }
+
+    // 다음 묶음 전 대기, 중단 요청을 받으면 false (작업 종료)
+    private boolean pause() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
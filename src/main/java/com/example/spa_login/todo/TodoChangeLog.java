@@ -0,0 +1,91 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoChangeLogEntity;
+import com.example.spa_login.todo.model.TodoSyncStateEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * 증분 동기화(GET /todo/sync)를 위한 사용자별 변경 번호와 삭제 이력 관리
+ * - 변경 트랜잭션마다 사용자의 변경 번호(seq)를 1 증가시키고, 변경된 항목의 TodoEntity.changeSeq 에 기록
+ * - 변경 번호 증가 시 사용자 행이 커밋까지 잠기므로 같은 사용자의 변경은 번호 순서대로 커밋됨
+ * - 삭제는 항목이 없어지므로 삭제 이력(TodoChangeLogEntity)으로 기록
+ * - 삭제된 항목을 알 수 없는 조건 일괄 삭제는 horizon 을 올려 이전 version 의 클라이언트가 전체 목록을 받도록 함
+ * - 보존 기간(todo.sync.retention)이 지난 삭제 이력은 주기적으로 정리하고, 사용자별 horizon 을 올림
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TodoChangeLog {
+
+    private final TodoSyncStateRepository todoSyncStateRepository;
+    private final TodoChangeLogRepository todoChangeLogRepository;
+
+    @Value("${todo.sync.retention:30d}")
+    private Duration retention; // 삭제 이력 보존 기간
+
+    // 현재 트랜잭션에서 사용할 사용자의 다음 변경 번호 할당
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextSeq(final Long userId) {
+        todoSyncStateRepository.incrementSeq(userId);
+        return todoSyncStateRepository.findSeqByUserId(userId);
+    }
+
+    // 삭제된 항목 기록
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletes(final Long userId, final long seq, final Collection<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        todoChangeLogRepository.saveAll(todoIds.stream()
+                .map(todoId -> TodoChangeLogEntity.builder()
+                        .userId(userId)
+                        .seq(seq)
+                        .todoId(todoId)
+                        .createdAt(now)
+                        .build())
+                .toList());
+    }
+
+    // 삭제된 항목 ID를 알 수 없는 일괄 삭제: 이 변경 이전 version 의 동기화는 전체 목록으로 대체
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void forceResync(final Long userId, final long seq) {
+        todoSyncStateRepository.raiseHorizon(userId, seq);
+    }
+
+    // 사용자의 변경 번호 상태 조회 (변경한 적이 없으면 seq = 0, horizon = 0)
+    public TodoSyncStateEntity state(final Long userId) {
+        return todoSyncStateRepository.findById(userId)
+                .orElseGet(() -> TodoSyncStateEntity.builder().userId(userId).build());
+    }
+
+    // 특정 변경 번호 이후에 삭제된 항목 ID 조회
+    public Collection<Long> deletedSince(final Long userId, final long since) {
+        return todoChangeLogRepository.findDeletedIdsSince(userId, since);
+    }
+
+    // 보존 기간이 지난 삭제 이력 정리 (horizon 을 먼저 올린 뒤 이력 삭제)
+    @Scheduled(fixedDelayString = "${todo.sync.compaction-interval-ms:3600000}")
+    @Transactional
+    public void compact() {
+        Instant cutoff = Instant.now().minus(retention);
+
+        int users = todoSyncStateRepository.raiseHorizons(cutoff);
+        int deleted = todoChangeLogRepository.deleteOlderThan(cutoff);
+
+        if (deleted > 0) {
+            log.info("Todo change log compacted: {} entries removed for {} users", deleted, users);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoChangeLogEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * TodoChangeLogEntity(삭제 이력)를 관리하는 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface TodoChangeLogRepository extends JpaRepository<TodoChangeLogEntity, Long> {
+
+    // 특정 변경 번호 이후에 삭제된 항목 ID 조회
+    @Query("SELECT DISTINCT c.todoId FROM TodoChangeLogEntity c WHERE c.userId = :userId AND c.seq > :since")
+    List<Long> findDeletedIdsSince(@Param("userId") Long userId, @Param("since") long since);
+
+    // 보존 기간이 지난 이력을 한 번의 DELETE 문으로 삭제
+    @Modifying
+    @Query("DELETE FROM TodoChangeLogEntity c WHERE c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
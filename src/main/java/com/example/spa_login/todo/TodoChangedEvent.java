@@ -0,0 +1,26 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자의 Todo 목록이 변경되었을 때 TodoService가 발행하는 이벤트
+ * - seq: 변경을 커밋한 사용자의 변경 번호 (todo_sync_state.seq, DB에 커밋되지 않은 write-behind 저널 기록은 0)
+ * - todos: 생성/수정된 항목, deletedIds: 삭제된 항목 ID
+ * - resync: 변경된 항목을 특정할 수 없는 일괄 변경 (구독자는 전체 목록을 다시 조회)
+ * - 트랜잭션 안에서 발행되면 커밋 후에 리스너로 전달
+ */
+public record TodoChangedEvent(Long userId, long seq, List<TodoDTO> todos, Collection<Long> deletedIds,
+                               boolean resync) {
+
+    public TodoChangedEvent(Long userId, long seq, List<TodoDTO> todos, Collection<Long> deletedIds) {
+        this(userId, seq, todos, deletedIds, false);
+    }
+
+    // 변경된 항목을 특정할 수 없는 일괄 변경 이벤트
+    public static TodoChangedEvent resync(Long userId, long seq) {
+        return new TodoChangedEvent(userId, seq, List.of(), List.of(), true);
+    }
+}
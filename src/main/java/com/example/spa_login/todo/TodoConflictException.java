@@ -0,0 +1,12 @@
+package com.example.spa_login.todo;
+
+/**
+ * 요청한 버전과 저장된 Todo 항목의 버전이 다를 때(다른 요청이 먼저 수정) 발생하는 예외
+ * - 컨트롤러에서 409 Conflict 응답으로 변환
+ */
+public class TodoConflictException extends RuntimeException {
+
+    public TodoConflictException(Long id) {
+        super("Todo was modified concurrently: " + id);
+    }
+}
@@ -1,47 +1,87 @@
 package com.example.spa_login.todo;
 
 import com.example.spa_login.common.model.ResponseDTO;
+import com.example.spa_login.todo.model.TodoArchiveDTO;
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoChangeDTO;
 import com.example.spa_login.todo.model.TodoDTO;
 import com.example.spa_login.todo.model.TodoEntity;
+import com.example.spa_login.todo.model.TodoMoveDTO;
+import com.example.spa_login.todo.model.TodoPage;
+import com.example.spa_login.todo.model.TodoResult;
+import com.example.spa_login.todo.model.TodoSummaryDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * 사용자 할 일(Todo) 목록을 CRUD 처리하는 REST 컨트롤러
+ * - 생성/수정/삭제 응답 모드
+ *   - 기본: 사용자의 전체 목록 반환 (기존 동작)
+ *   - single: 변경된 항목만 반환 (?mode=single 또는 X-Response-Mode: single 헤더)
+ * - 모든 응답에 목록 버전(version) 포함
+ * - 목록 조회는 size/cursor 파라미터로 키셋 페이지네이션 지원
+ * - 전체 목록 조회는 ETag / If-None-Match 로 변경이 없으면 304 응답
+ * - 전체 목록 조회 stream 모드: 목록을 메모리에 모으지 않고 스트리밍으로 응답
+ * - /todo/stream: 변경 내용을 Server-Sent Events 로 전달 (폴링 대체)
+ * - /todo/sync: 마지막 동기화 이후의 변경 내용만 반환 (증분 동기화)
+ * - /todo/bulk: 모두 완료/미완료, 완료 항목 삭제, id 목록 삭제를 SQL 한 번으로 처리하고 변경된 항목 수 반환
+ * - /todo/move: 항목을 두 항목 사이로 이동 (이동한 항목의 정렬 키만 수정)
+ * - /todo/filter: 완료 여부/태그 조건으로 필터링 (사용자별 비트맵 인덱스)
+ * - /todo/summary: 전체/완료/미완료 항목 수 (사용자별 카운터 행 조회, 목록을 읽지 않음)
+ * - /todo/archive: 보관된(오래전에 완료되어 목록에서 옮겨진) 항목을 키셋 페이지네이션으로 조회
+ * - 수정/삭제 대상이 없으면 404, 요청한 version 과 저장된 버전이 다르면 409
  */
 @RequiredArgsConstructor
 @RestController // REST 컨트롤러 선언: 자동으로 JSON 형식의 응답으로 변환되어 클라이언트에게 전달 (@Controller + @ResponseBody)
 @RequestMapping("todo") // "/todo" 경로로 요청 매핑
 public class TodoController {
 
+    public static final String RESPONSE_MODE_HEADER = "X-Response-Mode"; // 응답 모드 헤더 이름
+    public static final String RESPONSE_MODE_SINGLE = "single"; // 변경된 항목만 반환하는 모드
+    public static final String RESPONSE_MODE_STREAM = "stream"; // 목록을 스트리밍으로 반환하는 모드 (GET)
+
     private final TodoService todoService;
+    private final TodoResponseCache todoResponseCache; // 목록 응답 본문 캐시
+    private final ObjectMapper objectMapper; // 스트리밍 응답용
+    private final TodoEventBroker todoEventBroker; // 변경 이벤트 구독 (SSE)
 
     // 할 일 생성 API
     @PostMapping
-    public ResponseEntity<?> createTodo(@AuthenticationPrincipal String userId, @RequestBody TodoDTO todoDto) {
+    public ResponseEntity<?> createTodo(@AuthenticationPrincipal String userId,
+                                        @RequestBody TodoDTO todoDto,
+                                        @RequestParam(value = "mode", required = false) String mode,
+                                        @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader) {
         try {
             TodoEntity todoEntity = TodoDTO.toEntity(todoDto); // DTO -> Entity 변환
             todoEntity.setId(null); // 새 엔터티 이므로 ID는 null 처리
             todoEntity.setUserId(Long.parseLong(userId)); // 인증된 사용자 ID 설정
 
-            // 서비스 호출
-            List<TodoEntity> todoEntities = todoService.create(todoEntity);
-
-            // 엔터티 리스트 -> DTO 리스트로 변환
-            List<TodoDTO> todoDtos = todoEntities.stream()
-                    .map(TodoDTO::new)
-                    .collect(Collectors.toList());
+            // 변경된 항목만 반환
+            if (isSingleMode(mode, modeHeader)) {
+                TodoEntity created = todoService.createOne(todoEntity);
+                return ResponseEntity.ok().body(singleResponse(created));
+            }
 
-            // 정상 응답 객체 생성
-            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
-                    .data(todoDtos).build();
+            // 서비스 호출
+            TodoResult<List<TodoDTO>> todoDtos = todoService.create(todoEntity);
 
-            return ResponseEntity.ok().body(response); // 200 OK 응답
+            return ResponseEntity.ok().body(listResponse(todoDtos)); // 200 OK 응답
         } catch (Exception e) {
             String error = e.getMessage(); // 예외 메시지 추출
             ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder() // 에러 응답 객체 생성
@@ -51,66 +91,280 @@ public class TodoController {
     }
 
     // 할 일 목록 조회 API
+    // - size 또는 cursor 파라미터가 있으면 키셋 페이지네이션 (응답의 nextCursor로 다음 페이지 요청)
+    // - 없으면 전체 목록 반환 (기존 동작)
+    // - 전체 목록은 DB의 변경 번호로 ETag를 만들고, If-None-Match 가 같으면 목록 조회/직렬화 없이 304 응답
+    // - stream 모드(?mode=stream 또는 X-Response-Mode: stream)는 DB에서 읽는 대로 JSON으로 써서 응답 (매우 큰 목록용)
     @GetMapping
-    public ResponseEntity<?> retrieveTodoList(@AuthenticationPrincipal String userId) {
-        // 사용자 ID로 할 일 목록 조회
-        List<TodoEntity> todoEntities = todoService.retrieve(Long.parseLong(userId));
+    public ResponseEntity<?> retrieveTodoList(@AuthenticationPrincipal String userId,
+                                              @RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam(value = "size", required = false) Integer size,
+                                              @RequestParam(value = "mode", required = false) String mode,
+                                              @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader,
+                                              WebRequest webRequest) {
+        Long id = Long.parseLong(userId);
+        long version = todoService.currentVersion(id); // 목록 조회 전에 버전 확인
 
-        // Entity -> DTO 변환
-        List<TodoDTO> todoDtos = todoEntities.stream()
-                .map(TodoDTO::new)
-                .collect(Collectors.toList());
+        if (cursor != null || size != null) {
+            return retrieveTodoPage(id, cursor, size, version);
+        }
 
-        // 응답 생성
-        ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
-                .data(todoDtos).build();
+        // 변경이 없으면 304 Not Modified (ETag 헤더는 checkNotModified 가 설정)
+        String tag = todoService.versionTag(id, version);
+        if (webRequest.checkNotModified(tag)) {
+            return null;
+        }
+
+        if (isMode(RESPONSE_MODE_STREAM, mode, modeHeader)) {
+            return streamTodoList(id, version);
+        }
+
+        // 캐시된 응답 본문이 없거나 ETag 값이 다르면 이 버전 이상의 목록(목록 캐시 또는 DB)을 직렬화
+        byte[] body = todoResponseCache.get(id, tag, () -> {
+            TodoChangeDTO snapshot = todoService.retrieveSnapshot(id, version);
+            return ResponseDTO.<TodoDTO>builder().data(snapshot.getTodos()).version(snapshot.getVersion()).build();
+        });
+
+        return ResponseEntity.ok() // 200 OK 응답
+                .cacheControl(CacheControl.noCache()) // 매번 ETag로 재검증
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    // 할 일 목록을 스트리밍으로 응답 (ResponseDTO 와 같은 형식: {"error":null,"data":[...],"version":N})
+    // - 항목을 DB에서 한 건씩 읽어 바로 출력 스트림에 쓰므로 목록 크기와 관계없이 메모리 사용량 일정
+    // - 응답을 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 도중에 실패하면 연결을 끊음
+    private ResponseEntity<StreamingResponseBody> streamTodoList(Long userId, long version) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 출력 스트림은 컨테이너가 닫음
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT); // 도중에 실패하면 닫지 않음 (잘린 목록이 완전한 JSON 이 되지 않도록)
+                generator.writeStartObject();
+                generator.writeNullField("error");
+                generator.writeArrayFieldStart("data");
+                todoService.streamDtos(userId, todo -> writeTodo(generator, todo));
+                generator.writeEndArray();
+                generator.writeNumberField("version", version);
+                generator.writeEndObject();
+            }
+        };
+
+        return ResponseEntity.ok() // 200 OK 응답
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static void writeTodo(JsonGenerator generator, TodoDTO todo) {
+        try {
+            generator.writeObject(todo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 할 일 필터 API: 완료 여부(done), 포함할 태그(tags, match=all|any), 제외할 태그(exclude)
+    // - 예) /todo/filter?done=true&tags=work : 완료되었고 work 태그가 있는 항목
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterTodoList(@AuthenticationPrincipal String userId,
+                                            @RequestParam(value = "done", required = false) Boolean done,
+                                            @RequestParam(value = "tags", required = false) List<String> tags,
+                                            @RequestParam(value = "match", defaultValue = "all") String match,
+                                            @RequestParam(value = "exclude", required = false) List<String> exclude) {
+        try {
+            Long id = Long.parseLong(userId);
+            long version = todoService.currentVersion(id); // 목록 조회 전에 버전 확인
+            List<TodoDTO> todoDtos = todoService.filter(id, done, tags, !"any".equalsIgnoreCase(match), exclude);
+
+            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
+                    .data(todoDtos).version(version).build();
+            return ResponseEntity.ok().body(response); // 200 OK 응답
+        } catch (Exception e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e); // 400 Bad Request 응답 (잘못된 태그)
+        }
+    }
+
+    // 할 일 항목 수 API: 전체(total), 완료(done), 미완료(open) 항목 수
+    @GetMapping("/summary")
+    public ResponseEntity<?> summary(@AuthenticationPrincipal String userId) {
+        Long id = Long.parseLong(userId);
+        long version = todoService.currentVersion(id); // 조회 전에 버전 확인
+        TodoSummaryDTO summary = todoService.summary(id);
+
+        ResponseDTO<TodoSummaryDTO> response = ResponseDTO.<TodoSummaryDTO>builder()
+                .data(List.of(summary)).version(version).build();
+
+        return ResponseEntity.ok().body(response); // 200 OK 응답
+    }
+
+    // 보관된 할 일 조회 API: 오래전에 완료되어 목록에서 옮겨진 항목을 id 순으로 size 개씩 (응답의 nextCursor로 다음 페이지 요청)
+    @GetMapping("/archive")
+    public ResponseEntity<?> retrieveArchive(@AuthenticationPrincipal String userId,
+                                             @RequestParam(value = "cursor", required = false) String cursor,
+                                             @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            TodoPage<TodoArchiveDTO> page = todoService.retrieveArchivePage(Long.parseLong(userId), cursor, size);
+
+            ResponseDTO<TodoArchiveDTO> response = ResponseDTO.<TodoArchiveDTO>builder()
+                    .data(page.items()).nextCursor(page.nextCursor()).build();
+
+            return ResponseEntity.ok().body(response); // 200 OK 응답
+        } catch (IllegalArgumentException e) {
+            ResponseDTO<TodoArchiveDTO> response = ResponseDTO.<TodoArchiveDTO>builder() // 잘못된 커서
+                    .error(e.getMessage()).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
+    }
+
+    // 증분 동기화 API: since(이전 응답의 version) 이후에 생성/수정된 항목과 삭제된 항목 ID 반환
+    // - since 가 없거나 보존된 이력보다 오래되었으면 전체 목록 반환 (full = true)
+    @GetMapping("/sync")
+    public ResponseEntity<?> sync(@AuthenticationPrincipal String userId,
+                                  @RequestParam(value = "since", defaultValue = "0") long since) {
+        TodoChangeDTO change = todoService.sync(Long.parseLong(userId), since);
+
+        ResponseDTO<TodoChangeDTO> response = ResponseDTO.<TodoChangeDTO>builder()
+                .data(List.of(change)).version(change.getVersion()).build();
 
         return ResponseEntity.ok().body(response); // 200 OK 응답
     }
 
+    // 할 일 변경 이벤트 구독 API (Server-Sent Events)
+    // - "ready": 연결 직후 현재 이벤트 버전, "todo": 변경 내용(TodoChangeDTO), "resync": 이벤트 유실로 전체 목록을 다시 조회해야 함
+    // - 연결 수 제한을 넘으면 503 Service Unavailable
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@AuthenticationPrincipal String userId) {
+        try {
+            return todoEventBroker.subscribe(Long.parseLong(userId));
+        } catch (TodoStreamRejectedException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    // 할 일 목록 한 페이지 조회
+    private ResponseEntity<?> retrieveTodoPage(Long userId, String cursor, Integer size, long version) {
+        try {
+            TodoPage<TodoDTO> page = todoService.retrievePage(userId, cursor, size);
+
+            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
+                    .data(page.items()).version(version).nextCursor(page.nextCursor()).build();
+
+            return ResponseEntity.ok().body(response); // 200 OK 응답
+        } catch (IllegalArgumentException e) {
+            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder() // 잘못된 커서
+                    .error(e.getMessage()).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
+    }
+
     // 할 일 수정 API
+    // - version 을 보내면 저장된 버전과 같을 때만 수정 (다르면 409), 보내지 않으면 버전 확인 없이 수정 (마지막 요청이 반영)
+    // - 어느 경우든 응답 항목의 version 은 수정 후 저장된 버전
     @PutMapping
     public ResponseEntity<?> updateTodo(@AuthenticationPrincipal String userId,
-                                         @RequestBody TodoDTO todoDTO) {
-        TodoEntity entity = TodoDTO.toEntity(todoDTO); // DTO -> Entity 변환
-        entity.setUserId(Long.parseLong(userId)); // 사용자 ID 설정
-
-        // 업데이트 요청
-        List<TodoEntity> entities = todoService.update(entity);
+                                        @RequestBody TodoDTO todoDTO,
+                                        @RequestParam(value = "mode", required = false) String mode,
+                                        @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader) {
+        try {
+            TodoEntity entity = TodoDTO.toEntity(todoDTO); // DTO -> Entity 변환
+            entity.setUserId(Long.parseLong(userId)); // 사용자 ID 설정
 
-        // 결과 반환
-        List<TodoDTO> dtos = entities.stream()
-                .map(TodoDTO::new)
-                .collect(Collectors.toList());
+            // 변경된 항목만 반환
+            if (isSingleMode(mode, modeHeader)) {
+                TodoEntity updated = todoService.updateOne(entity);
+                return ResponseEntity.ok().body(singleResponse(updated));
+            }
 
-        // 응답 객체 생성
-        ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
-                .data(dtos).build();
+            // 업데이트 요청
+            TodoResult<List<TodoDTO>> todoDtos = todoService.update(entity);
 
-        return ResponseEntity.ok().body(response); // 200 OK 응답
+            return ResponseEntity.ok().body(listResponse(todoDtos)); // 200 OK 응답
+        } catch (TodoNotFoundException e) {
+            return errorResponse(HttpStatus.NOT_FOUND, e); // 404 Not Found 응답
+        } catch (TodoConflictException e) {
+            return errorResponse(HttpStatus.CONFLICT, e); // 409 Conflict 응답
+        } catch (Exception e) {
+            String error = e.getMessage(); // 예외 메시지 추출
+            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder() // 에러 응답 객체 생성
+                    .error(error).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
     }
 
     // 할 일 삭제 API
     @DeleteMapping
     public ResponseEntity<?> deleteTodo(@AuthenticationPrincipal String userId,
-                                        @RequestBody TodoDTO todoDTO) {
+                                        @RequestBody TodoDTO todoDTO,
+                                        @RequestParam(value = "mode", required = false) String mode,
+                                        @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader) {
         try {
             TodoEntity entity = TodoDTO.toEntity(todoDTO); // DTO -> Entity 변환
             entity.setUserId(Long.parseLong(userId)); // 사용자 ID 설정
 
+            // 변경된 항목만 반환
+            if (isSingleMode(mode, modeHeader)) {
+                TodoEntity deleted = todoService.deleteOne(entity);
+                return ResponseEntity.ok().body(singleResponse(deleted));
+            }
+
             // 삭제 요청
-            List<TodoEntity> entities = todoService.delete(entity);
+            TodoResult<List<TodoDTO>> todoDtos = todoService.delete(entity);
 
-            // 결과 반환
-            List<TodoDTO> dtos = entities.stream()
-                    .map(TodoDTO::new)
-                    .collect(Collectors.toList());
+            return ResponseEntity.ok().body(listResponse(todoDtos)); // 200 OK 응답
+        } catch (TodoNotFoundException e) {
+            return errorResponse(HttpStatus.NOT_FOUND, e); // 404 Not Found 응답
+        } catch (TodoConflictException e) {
+            return errorResponse(HttpStatus.CONFLICT, e); // 409 Conflict 응답
+        } catch (Exception e) {
+            String error = e.getMessage(); // 예외 메시지 추출
+            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder() // 에러 응답 객체 생성
+                    .error(error).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
+    }
 
-            // 응답 객체 생성
-            ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
-                    .data(dtos).build();
+    // 할 일 이동 API: afterId 와 beforeId 항목 사이로 이동 (목록은 position 순)
+    @PutMapping("/move")
+    public ResponseEntity<?> moveTodo(@AuthenticationPrincipal String userId,
+                                      @RequestBody TodoMoveDTO moveDTO,
+                                      @RequestParam(value = "mode", required = false) String mode,
+                                      @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader) {
+        try {
+            Long id = Long.parseLong(userId);
+            TodoEntity moved = todoService.move(id, moveDTO);
 
-            return ResponseEntity.ok().body(response); // 200 OK 응답
+            // 변경된 항목만 반환
+            if (isSingleMode(mode, modeHeader)) {
+                return ResponseEntity.ok().body(singleResponse(moved));
+            }
+
+            return ResponseEntity.ok().body(listResponse(todoService.retrieveAfter(id, moved.getChangeSeq()))); // 200 OK 응답
+        } catch (TodoNotFoundException e) {
+            return errorResponse(HttpStatus.NOT_FOUND, e); // 404 Not Found 응답
+        } catch (TodoConflictException e) {
+            return errorResponse(HttpStatus.CONFLICT, e); // 409 Conflict 응답
+        } catch (Exception e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e); // 400 Bad Request 응답
+        }
+    }
+
+    // 할 일 일괄 처리 API: 생성/수정/삭제 작업 목록을 한 트랜잭션으로 처리
+    @PostMapping("/batch")
+    public ResponseEntity<?> applyBatch(@AuthenticationPrincipal String userId,
+                                        @RequestBody List<TodoBatchOperationDTO> operations,
+                                        @RequestParam(value = "mode", required = false) String mode,
+                                        @RequestHeader(value = RESPONSE_MODE_HEADER, required = false) String modeHeader) {
+        try {
+            Long id = Long.parseLong(userId);
+            TodoResult<List<TodoEntity>> affected = todoService.applyBatch(id, operations);
+
+            // single 모드: 생성/수정된 항목만 반환, 기본: 전체 목록 반환
+            TodoResult<List<TodoDTO>> todoDtos = isSingleMode(mode, modeHeader)
+                    ? new TodoResult<>(affected.value().stream().map(TodoDTO::new).collect(Collectors.toList()),
+                            affected.version())
+                    : todoService.retrieveAfter(id, affected.version());
+
+            return ResponseEntity.ok().body(listResponse(todoDtos)); // 200 OK 응답
         } catch (Exception e) {
             String error = e.getMessage(); // 예외 메시지 추출
             ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder() // 에러 응답 객체 생성
@@ -118,4 +372,89 @@ public class TodoController {
             return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
         }
     }
+
+    // 모든 할 일 완료/미완료 처리 API (UPDATE 문 한 번), 변경된 항목 수 반환
+    @PutMapping("/bulk/done")
+    public ResponseEntity<?> markAll(@AuthenticationPrincipal String userId,
+                                     @RequestParam(value = "done", defaultValue = "true") boolean done) {
+        try {
+            Long id = Long.parseLong(userId);
+            TodoResult<Integer> updated = todoService.markAll(id, done);
+
+            return ResponseEntity.ok().body(countResponse(updated)); // 200 OK 응답
+        } catch (Exception e) {
+            String error = e.getMessage(); // 예외 메시지 추출
+            ResponseDTO<Integer> response = ResponseDTO.<Integer>builder() // 에러 응답 객체 생성
+                    .error(error).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
+    }
+
+    // 완료된 할 일 모두 삭제 API (DELETE 문 한 번), 삭제된 항목 수 반환
+    @DeleteMapping("/bulk/done")
+    public ResponseEntity<?> deleteCompleted(@AuthenticationPrincipal String userId) {
+        try {
+            Long id = Long.parseLong(userId);
+            TodoResult<Integer> deleted = todoService.deleteCompleted(id);
+
+            return ResponseEntity.ok().body(countResponse(deleted)); // 200 OK 응답
+        } catch (Exception e) {
+            String error = e.getMessage(); // 예외 메시지 추출
+            ResponseDTO<Integer> response = ResponseDTO.<Integer>builder() // 에러 응답 객체 생성
+                    .error(error).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
+    }
+
+    // id 목록으로 할 일 삭제 API (DELETE 문 한 번), 삭제된 항목 수 반환
+    @DeleteMapping("/bulk")
+    public ResponseEntity<?> deleteByIds(@AuthenticationPrincipal String userId,
+                                         @RequestBody List<Long> ids) {
+        try {
+            Long id = Long.parseLong(userId);
+            TodoResult<Integer> deleted = todoService.deleteByIds(id, ids);
+
+            return ResponseEntity.ok().body(countResponse(deleted)); // 200 OK 응답
+        } catch (Exception e) {
+            String error = e.getMessage(); // 예외 메시지 추출
+            ResponseDTO<Integer> response = ResponseDTO.<Integer>builder() // 에러 응답 객체 생성
+                    .error(error).build();
+            return ResponseEntity.badRequest().body(response); // 400 Bad Request 응답
+        }
+    }
+
+    // 지정한 상태 코드의 에러 응답 생성
+    private static ResponseEntity<?> errorResponse(HttpStatus status, Exception e) {
+        ResponseDTO<TodoDTO> response = ResponseDTO.<TodoDTO>builder()
+                .error(e.getMessage()).build();
+        return ResponseEntity.status(status).body(response);
+    }
+
+    // 쿼리 파라미터 또는 헤더로 single 모드를 요청했는지 확인
+    private static boolean isSingleMode(String mode, String modeHeader) {
+        return isMode(RESPONSE_MODE_SINGLE, mode, modeHeader);
+    }
+
+    // 쿼리 파라미터 또는 헤더로 지정한 응답 모드를 요청했는지 확인
+    private static boolean isMode(String expected, String mode, String modeHeader) {
+        return expected.equalsIgnoreCase(mode) || expected.equalsIgnoreCase(modeHeader);
+    }
+
+    // 목록 응답 생성 (version: 변경이 커밋한 변경 번호)
+    private static ResponseDTO<TodoDTO> listResponse(TodoResult<List<TodoDTO>> result) {
+        return ResponseDTO.<TodoDTO>builder()
+                .data(result.value()).version(result.version()).build();
+    }
+
+    // 일괄 변경된 항목 수 응답 생성 (version: 변경이 커밋한 변경 번호)
+    private static ResponseDTO<Integer> countResponse(TodoResult<Integer> result) {
+        return ResponseDTO.<Integer>builder()
+                .data(List.of(result.value())).version(result.version()).build();
+    }
+
+    // 변경된 항목 하나만 담은 응답 생성 (version: 항목의 변경 번호)
+    private static ResponseDTO<TodoDTO> singleResponse(TodoEntity entity) {
+        return ResponseDTO.<TodoDTO>builder()
+                .data(List.of(new TodoDTO(entity))).version(entity.getChangeSeq()).build();
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.spa_login.todo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 사용자별 Todo 항목 수 주기적 보정
+ * - 항목이 있는 사용자와 카운터 행이 있는 사용자의 합집합을 userId 순으로 todo.counter.repair-batch-size 명씩 조회하여
+ *   TodoCounters.repair() 호출 (항목이 모두 삭제된 사용자의 남은 카운터도 보정)
+ * - 사용자마다 별도 트랜잭션으로 처리 (한 사용자의 실패가 전체 보정을 멈추지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TodoCounterRepairer {
+
+    private final TodoRepository todoRepository;
+    private final TodoCounterRepository todoCounterRepository;
+    private final TodoCounters todoCounters;
+
+    @Value("${todo.counter.repair-batch-size:500}")
+    private int batchSize; // 한 번에 조회할 사용자 수
+
+    @Scheduled(fixedDelayString = "${todo.counter.repair-interval-ms:3600000}")
+    public void repair() {
+        int checked = 0;
+        int repaired = 0;
+
+        Long after = 0L;
+        boolean more;
+        do {
+            // 두 목록을 userId 순으로 합침: 가득 찬 목록의 마지막 ID까지만 처리 (그 뒤는 다음 조회에서 두 목록을 다시 합침)
+            List<Long> withTodos = todoRepository.findUserIdsAfter(after, Limit.of(batchSize));
+            List<Long> withCounters = todoCounterRepository.findUserIdsAfter(after, Limit.of(batchSize));
+            NavigableSet<Long> userIds = new TreeSet<>(withTodos);
+            userIds.addAll(withCounters);
+
+            Long bound = null;
+            if (withTodos.size() == batchSize) {
+                bound = withTodos.get(withTodos.size() - 1);
+            }
+            if (withCounters.size() == batchSize) {
+                Long last = withCounters.get(withCounters.size() - 1);
+                bound = bound == null ? last : Math.min(bound, last);
+            }
+            more = bound != null;
+
+            for (Long userId : more ? userIds.headSet(bound, true) : userIds) {
+                try {
+                    if (todoCounters.repair(userId)) {
+                        repaired++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to repair todo counter for user {}: {}", userId, e.getMessage());
+                }
+                checked++;
+                after = userId;
+            }
+        } while (more);
+
+        log.info("Todo counters checked for {} users, {} repaired", checked, repaired);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoCounterEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * TodoCounterEntity(사용자별 항목 수)를 관리하는 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface TodoCounterRepository extends JpaRepository<TodoCounterEntity, Long> {
+
+    // Todo 테이블에서 직접 센 사용자의 항목 수
+    interface Counts {
+        long getTotal();
+
+        long getDone();
+    }
+
+    // 사용자의 항목 수를 변경분만큼 증감, 갱신된 행 수 반환 (행이 없으면 0)
+    @Modifying
+    @Query("UPDATE TodoCounterEntity c SET c.total = c.total + :total, c.done = c.done + :done " +
+            "WHERE c.userId = :userId")
+    int increment(@Param("userId") Long userId, @Param("total") long total, @Param("done") long done);
+
+    // 사용자의 항목 수를 Todo 테이블 기준으로 다시 계산하여 저장 (행이 없으면 생성)
+    // - 새 값은 별칭(new.total)으로 참조 (VALUES(col) 은 MySQL 8.0.20 부터 deprecated)
+    // - INSERT ... SELECT 에는 행 별칭(VALUES ... AS new)을 붙일 수 없으므로 SELECT 를 파생 테이블로 감싸 별칭 지정
+    @Modifying
+    @Query(value = "INSERT INTO todo_counter (user_id, total, done) " +
+            "SELECT :userId, new.total, new.done " +
+            "FROM (SELECT COUNT(*), COALESCE(SUM(CASE WHEN t.done = TRUE THEN 1 ELSE 0 END), 0) " +
+            "FROM todo t WHERE t.user_id = :userId) AS new (total, done) " +
+            "ON DUPLICATE KEY UPDATE total = new.total, done = new.done", nativeQuery = true)
+    void recompute(@Param("userId") Long userId);
+
+    // 사용자의 항목 수를 Todo 테이블에서 직접 계산 ((userId, ...) 인덱스 범위 스캔)
+    @Query("SELECT COUNT(t) AS total, COALESCE(SUM(CASE WHEN t.done = true THEN 1 ELSE 0 END), 0) AS done " +
+            "FROM TodoEntity t WHERE t.userId = :userId")
+    Counts countByUserId(@Param("userId") Long userId);
+
+    // 카운터 행이 있는 사용자 ID를 afterUserId 다음부터 userId 순으로 조회 (항목이 모두 삭제된 사용자 보정용)
+    @Query("SELECT c.userId FROM TodoCounterEntity c WHERE c.userId > :afterUserId ORDER BY c.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Limit limit);
+}
@@ -0,0 +1,73 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoCounterEntity;
+import com.example.spa_login.todo.model.TodoSummaryDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 사용자별 Todo 항목 수(전체, 완료) 관리
+ * - 생성/삭제/완료 여부 변경 트랜잭션 안에서 변경분만큼 증감 (TodoChangeLog.nextSeq 로 사용자 행이 잠긴 상태)
+ * - 카운터 행이 없는 사용자(기능 도입 전에 만든 항목)는 첫 변경 시 Todo 테이블 기준으로 계산하여 생성
+ * - 조회는 카운터 행 하나만 읽으므로 목록 크기와 관계없이 일정
+ * - repair(): 사용자 행을 잠근 뒤 Todo 테이블 기준으로 다시 계산 (누락/불일치 보정, TodoCounterRepairer 가 주기적으로 호출)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TodoCounters {
+
+    private final TodoCounterRepository todoCounterRepository;
+    private final TodoSyncStateRepository todoSyncStateRepository;
+
+    // 현재 트랜잭션의 변경분만큼 항목 수 증감
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(final Long userId, final long total, final long done) {
+        if (total == 0 && done == 0) {
+            return;
+        }
+        if (todoCounterRepository.increment(userId, total, done) == 0) {
+            todoCounterRepository.recompute(userId); // 이번 변경이 반영된 Todo 테이블 기준으로 생성
+        }
+    }
+
+    // 사용자의 항목 수 요약 (카운터 행이 아직 없으면 Todo 테이블에서 직접 계산)
+    @Transactional(readOnly = true)
+    public TodoSummaryDTO summary(final Long userId) {
+        Optional<TodoCounterEntity> counter = todoCounterRepository.findById(userId);
+        if (counter.isPresent()) {
+            return TodoSummaryDTO.of(counter.get().getTotal(), counter.get().getDone());
+        }
+
+        TodoCounterRepository.Counts counts = todoCounterRepository.countByUserId(userId);
+        return TodoSummaryDTO.of(counts.getTotal(), counts.getDone());
+    }
+
+    // 사용자의 항목 수를 Todo 테이블 기준으로 다시 계산하고, 저장된 값이 달랐으면 true 반환
+    // - 사용자 행을 잠가 같은 사용자의 변경 트랜잭션과 겹치지 않게 함
+    @Transactional
+    public boolean repair(final Long userId) {
+        todoSyncStateRepository.lockByUserId(userId);
+
+        TodoCounterRepository.Counts counts = todoCounterRepository.countByUserId(userId);
+        TodoCounterEntity counter = todoCounterRepository.findById(userId).orElse(null);
+        if (counter != null && counter.getTotal() == counts.getTotal() && counter.getDone() == counts.getDone()) {
+            return false;
+        }
+
+        log.warn("Todo counter for user {} repaired: {}/{} -> {}/{}", userId,
+                counter == null ? null : counter.getTotal(), counter == null ? null : counter.getDone(),
+                counts.getTotal(), counts.getDone());
+        todoCounterRepository.save(TodoCounterEntity.builder()
+                .userId(userId)
+                .total(counts.getTotal())
+                .done(counts.getDone())
+                .build());
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.spa_login.todo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 페이지네이션 커서 인코딩/디코딩 클래스
+ * - 클라이언트에는 불투명한 문자열(Base64 URL)로 전달하고, 서버에서는 마지막 항목의 (position, ID)로 해석
+ */
+public final class TodoCursor {
+
+    private static final String PREFIX = "p:";
+
+    private TodoCursor() {
+    }
+
+    // 마지막 항목의 정렬 위치 (position 이 없는 항목은 null)
+    public record Key(String position, Long id) {
+    }
+
+    // 마지막 항목 (position, ID) -> 커서 문자열
+    public static String encode(String lastPosition, Long lastId) {
+        String raw = PREFIX + lastId + ":" + (lastPosition == null ? "" : lastPosition);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 -> 마지막 항목 (position, ID) (커서가 없으면 첫 페이지)
+    public static Key decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Key(null, 0L);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':', PREFIX.length());
+            if (!raw.startsWith(PREFIX) || separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Long id = Long.parseLong(raw.substring(PREFIX.length(), separator));
+            String position = raw.substring(separator + 1);
+            return new Key(position.isEmpty() ? null : position, id);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoChangeDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GET /todo/stream 구독자에게 Todo 변경 이벤트를 전달하는 SSE 브로커
+ * - 대기 중인 연결은 스레드를 점유하지 않음 (서블릿 비동기 요청), 전송은 소수의 전용 스레드가 처리
+ * - 연결마다 크기 제한 버퍼를 두고, 느린 구독자는 정책에 따라 오래된 이벤트를 버리거나(drop-oldest) 연결 종료(disconnect)
+ * - 이벤트를 버린 구독자에게는 다음 전송 전에 "resync" 이벤트를 보내 전체 목록을 다시 받도록 함
+ * - 한 번의 전송이 todo.stream.send-timeout-ms 를 넘기면 (클라이언트가 읽지 않아 소켓 쓰기가 막힘) 그 구독자를 끊고,
+ *   막힌 전송 스레드 대신 전송 스레드를 하나 늘려 다른 구독자의 전송이 밀리지 않도록 함
+ *   (막힌 스레드는 컨테이너의 쓰기 타임아웃으로 전송이 끝나면 연결을 닫고 돌아오며, 늘린 스레드는 다시 줄임)
+ * - 주기적으로 heartbeat 주석을 보내 끊어진 연결을 정리
+ * - 전체/사용자별 연결 수 제한
+ * - 이벤트의 version 은 커밋된 변경 번호 (REST 응답의 version, GET /todo/sync 의 since 와 같은 값)
+ */
+@Slf4j
+@Component
+public class TodoEventBroker {
+
+    public enum OverflowPolicy {
+        DROP_OLDEST, DISCONNECT
+    }
+
+    private final TodoVersionTracker todoVersionTracker;
+
+    private final int maxConnections; // 전체 최대 연결 수
+    private final int maxConnectionsPerUser; // 사용자별 최대 연결 수
+    private final int bufferSize; // 연결별 최대 대기 이벤트 수
+    private final OverflowPolicy overflowPolicy; // 버퍼 초과 시 정책
+    private final long timeoutMillis; // 연결 유지 시간 (만료되면 클라이언트가 재연결)
+    private final long sendTimeoutNanos; // 한 번의 전송 제한 시간
+    private final Executor dispatcher; // 이벤트 전송 스레드
+    private final int dispatchThreads; // 기본 전송 스레드 수 (ThreadPoolExecutor 가 아니면 0)
+    private int stalledThreads; // 전송이 막혀 대신 늘린 전송 스레드 수 - 브로커 모니터로 보호
+
+    // userId -> 구독자 목록
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    // 전송 중인 구독자 (전송 제한 시간 검사 대상)
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+
+    // 통계 카운터
+    private final LongAdder dropped = new LongAdder(); // 버퍼 초과로 버린 이벤트 수
+    private final LongAdder disconnected = new LongAdder(); // 버퍼 초과로 끊은 연결 수
+    private final LongAdder timedOut = new LongAdder(); // 전송 제한 시간 초과로 끊은 연결 수
+
+    @Autowired
+    public TodoEventBroker(TodoVersionTracker todoVersionTracker,
+                           @Value("${todo.stream.max-connections:10000}") int maxConnections,
+                           @Value("${todo.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                           @Value("${todo.stream.buffer-size:32}") int bufferSize,
+                           @Value("${todo.stream.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                           @Value("${todo.stream.timeout-ms:1800000}") long timeoutMillis,
+                           @Value("${todo.stream.send-timeout-ms:5000}") long sendTimeoutMillis,
+                           @Value("${todo.stream.dispatch-threads:2}") int dispatchThreads,
+                           MeterRegistry meterRegistry) {
+        this(todoVersionTracker, maxConnections, maxConnectionsPerUser, bufferSize, overflowPolicy, timeoutMillis,
+                sendTimeoutMillis, Executors.newFixedThreadPool(dispatchThreads, new DispatchThreadFactory()),
+                meterRegistry);
+    }
+
+    TodoEventBroker(TodoVersionTracker todoVersionTracker, int maxConnections, int maxConnectionsPerUser,
+                    int bufferSize, OverflowPolicy overflowPolicy, long timeoutMillis, long sendTimeoutMillis,
+                    Executor dispatcher, MeterRegistry meterRegistry) {
+        this.todoVersionTracker = todoVersionTracker;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.dispatcher = dispatcher;
+        this.dispatchThreads = dispatcher instanceof ThreadPoolExecutor pool ? pool.getCorePoolSize() : 0;
+
+        Gauge.builder("todo.stream.connections", connections, AtomicInteger::get).register(meterRegistry);
+        FunctionCounter.builder("todo.stream.dropped", dropped, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("todo.stream.disconnected", disconnected, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("todo.stream.timed-out", timedOut, LongAdder::sum).register(meterRegistry);
+    }
+
+    // 사용자의 변경 이벤트 구독 (연결 수 제한을 넘으면 TodoStreamRejectedException)
+    public SseEmitter subscribe(Long userId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new TodoStreamRejectedException("Too many connections");
+        }
+
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        boolean[] accepted = {false};
+        subscribers.compute(userId, (id, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            if (current.size() < maxConnectionsPerUser) {
+                current.add(subscriber);
+                accepted[0] = true;
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!accepted[0]) {
+            connections.decrementAndGet();
+            throw new TodoStreamRejectedException("Too many connections for user");
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 현재 목록 버전 전달 (클라이언트는 이 버전 이후의 변경을 받음)
+        offer(subscriber, SseEmitter.event().name("ready").data(todoVersionTracker.current(userId)));
+        return emitter;
+    }
+
+    // Todo 변경 시 해당 사용자의 구독자에게 전달 (트랜잭션 안에서 발행된 이벤트는 커밋 후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        if (event.resync()) {
+            for (Subscriber subscriber : targets) {
+                offer(subscriber, SseEmitter.event().name("resync").data(""));
+            }
+            return;
+        }
+
+        // 변경이 커밋한 변경 번호 (DB 반영 전 저널 항목이면 0 이므로 현재 목록 버전)
+        TodoChangeDTO change = TodoChangeDTO.builder()
+                .version(event.seq() > 0 ? event.seq() : todoVersionTracker.current(event.userId()))
+                .todos(event.todos())
+                .deletedIds(event.deletedIds())
+                .build();
+        for (Subscriber subscriber : targets) {
+            offer(subscriber, SseEmitter.event().name("todo").data(change));
+        }
+    }
+
+    // 모든 연결에 heartbeat 전송 (응답이 없는 연결은 전송 실패로 정리됨)
+    @Scheduled(fixedDelayString = "${todo.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                offer(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    // 전송 제한 시간을 넘긴 전송의 구독자를 끊고, 막힌 전송 스레드 대신 전송 스레드를 늘림
+    // - 막힌 전송 중에는 emitter 를 종료할 수 없으므로 (전송과 같은 잠금 사용) 구독자 목록에서만 제거하고,
+    //   전송이 끝나서 돌아온 스레드가 연결을 닫음
+    @Scheduled(fixedDelayString = "${todo.stream.send-check-ms:1000}")
+    public void checkSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            synchronized (subscriber) {
+                if (subscriber.stalled || now - subscriber.sendStartedAt < sendTimeoutNanos) {
+                    continue;
+                }
+                subscriber.stalled = true;
+                subscriber.compensated = growDispatcher();
+            }
+            timedOut.increment();
+            log.info("Todo stream send for user {} timed out, disconnecting", subscriber.userId);
+            remove(subscriber); // 더 이상 이벤트를 쌓지 않음
+        }
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getDisconnectedCount() {
+        return disconnected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    // 연결마다 새 emitter 생성 (테스트에서 전송을 막는 emitter 로 교체)
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(this::close));
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // 구독자 버퍼에 이벤트 추가 후 전송 예약
+    private void offer(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        boolean schedule;
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return;
+            }
+
+            if (subscriber.buffer.size() >= bufferSize) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    disconnected.increment();
+                    subscriber.closed = true;
+                    subscriber.buffer.clear();
+                    dispatcher.execute(() -> close(subscriber));
+                    return;
+                }
+                subscriber.buffer.pollFirst(); // 가장 오래된 이벤트 버림
+                subscriber.missed = true;
+                dropped.increment();
+            }
+
+            subscriber.buffer.addLast(event);
+            schedule = !subscriber.scheduled;
+            subscriber.scheduled = true;
+        }
+
+        if (schedule) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    // 구독자 버퍼의 이벤트를 순서대로 전송 (구독자마다 한 번에 하나의 스레드만 전송)
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            boolean missed;
+            synchronized (subscriber) {
+                event = subscriber.buffer.pollFirst();
+                if (event == null || subscriber.closed) {
+                    subscriber.scheduled = false;
+                    return;
+                }
+                missed = subscriber.missed;
+                subscriber.missed = false;
+                subscriber.sendStartedAt = System.nanoTime();
+            }
+
+            sending.add(subscriber);
+            try {
+                if (missed) {
+                    subscriber.emitter.send(SseEmitter.event().name("resync").data(""));
+                }
+                subscriber.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Todo stream for user {} closed: {}", subscriber.userId, e.getMessage());
+                close(subscriber);
+                return;
+            } finally {
+                sending.remove(subscriber);
+                finishSend(subscriber);
+            }
+        }
+    }
+
+    // 전송 종료: 제한 시간을 넘겨 끊은 구독자였다면 연결을 닫고 늘린 전송 스레드를 줄임
+    private void finishSend(Subscriber subscriber) {
+        boolean stalled;
+        boolean compensated;
+        synchronized (subscriber) {
+            stalled = subscriber.stalled;
+            compensated = subscriber.compensated;
+            subscriber.stalled = false;
+            subscriber.compensated = false;
+        }
+        if (stalled) {
+            close(subscriber);
+        }
+        if (compensated) {
+            shrinkDispatcher();
+        }
+    }
+
+    // 막힌 전송 스레드 대신 전송 스레드를 하나 늘림 (기본 스레드 수만큼까지, ThreadPoolExecutor 일 때만)
+    private synchronized boolean growDispatcher() {
+        if (!(dispatcher instanceof ThreadPoolExecutor pool) || stalledThreads >= dispatchThreads) {
+            return false;
+        }
+        stalledThreads++;
+        pool.setMaximumPoolSize(dispatchThreads + stalledThreads);
+        pool.setCorePoolSize(dispatchThreads + stalledThreads); // 대기 중인 전송 작업이 있으면 바로 새 스레드 시작
+        return true;
+    }
+
+    // 막혔던 전송이 끝나면 늘린 전송 스레드를 다시 줄임
+    private synchronized void shrinkDispatcher() {
+        if (dispatcher instanceof ThreadPoolExecutor pool && stalledThreads > 0) {
+            stalledThreads--;
+            pool.setCorePoolSize(dispatchThreads + stalledThreads);
+            pool.setMaximumPoolSize(dispatchThreads + stalledThreads);
+        }
+    }
+
+    // 연결 종료
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // 이미 종료된 연결
+        }
+    }
+
+    // 구독자 목록에서 제거 (여러 번 호출되어도 한 번만 반영)
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            if (set.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+        synchronized (subscriber) {
+            subscriber.closed = true;
+            subscriber.buffer.clear();
+        }
+    }
+
+    // 연결 하나의 상태 - 필드는 Subscriber 모니터로 보호
+    private static final class Subscriber {
+        final Long userId;
+        final SseEmitter emitter;
+        final ArrayDeque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+        boolean scheduled; // 전송 작업이 예약/실행 중인지 여부
+        boolean missed; // 버퍼 초과로 버린 이벤트가 있는지 여부
+        boolean closed;
+        long sendStartedAt; // 진행 중인 전송의 시작 시각 (ns)
+        boolean stalled; // 전송 제한 시간을 넘겨 끊었는지 여부
+        boolean compensated; // 대신 전송 스레드를 늘렸는지 여부
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+
+    // 전송 스레드 이름 지정
+    private static class DispatchThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "todo-stream-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * write-behind 모드의 로컬 추가 전용(append-only) 저널 파일 하나 (TodoWriteBehind 참고)
+ * - 변경 하나를 JSON 한 줄로 기록(append)하고, sync() 로 디스크에 반영 (반영되면 프로세스가 죽어도 남음)
+ * - sync() 는 group commit: 여러 스레드가 동시에 기록한 항목을 force 한 번으로 반영 (이미 반영된 위치면 바로 반환)
+ * - 열 때 마지막 줄이 중간에 끊겨 있으면 (기록 도중 종료) 그 줄을 잘라냄
+ * - DB에 모두 반영한 파일은 delete() 로 삭제 (반영 여부는 DB의 체크포인트로 판단하므로 삭제 전에 죽어도 중복 반영 없음)
+ */
+@Slf4j
+public final class TodoJournal implements Closeable {
+
+    // 저널 항목 (seq: 저널 내 순번, 재시작 후에도 증가)
+    public record Entry(long seq, Long userId, TodoBatchOperationDTO.Operation op, TodoDTO todo) {
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    private final List<Entry> entries; // 열 때 읽은 항목
+    private long written; // 기록한 끝 위치 (this 모니터로 보호)
+    private final Object syncLock = new Object(); // force 는 한 번에 하나
+    private volatile long synced; // 디스크에 반영된 끝 위치
+    private boolean deleted; // 삭제됨 (모든 항목이 DB에 반영되어 디스크 반영이 필요 없음, syncLock 으로 보호)
+
+    private TodoJournal(Path path, ObjectMapper objectMapper, FileChannel channel, List<Entry> entries, long size) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.entries = entries;
+        this.written = size;
+        this.synced = size;
+    }
+
+    // 저널 파일을 열고 기록된 항목을 읽음 (파일이 없으면 생성)
+    public static TodoJournal open(final Path path, final ObjectMapper objectMapper) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        List<Entry> entries = new ArrayList<>();
+        byte[] content = Files.readAllBytes(path);
+        int valid = 0; // 마지막으로 온전히 읽은 줄의 끝 위치
+        for (int start = 0, end; start < content.length; start = end + 1) {
+            end = indexOf(content, (byte) '\n', start);
+            if (end < 0) {
+                break; // 줄바꿈 없이 끝난 마지막 줄 (기록 도중 종료)
+            }
+            try {
+                entries.add(objectMapper.readValue(content, start, end - start, Entry.class));
+            } catch (IOException e) {
+                break; // 깨진 줄부터 뒤는 버림
+            }
+            valid = end + 1;
+        }
+
+        if (valid < content.length) {
+            log.warn("Todo journal {}: discarding {} bytes of incomplete entries", path, content.length - valid);
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        channel.position(valid);
+        return new TodoJournal(path, objectMapper, channel, entries, valid);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    // 열 때 읽은 항목
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    // 열 때 읽은 항목의 마지막 seq (없으면 0)
+    public long lastSeq() {
+        return entries.isEmpty() ? 0 : entries.get(entries.size() - 1).seq();
+    }
+
+    // 기록된 항목이 없는지 여부
+    public synchronized boolean isEmpty() {
+        return written == 0;
+    }
+
+    // 항목을 한 줄로 기록하고 기록한 끝 위치 반환 (디스크 반영은 sync() 로)
+    public synchronized long append(final Entry entry) {
+        try {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            objectMapper.writeValue(line, entry);
+            line.write('\n');
+
+            ByteBuffer buffer = ByteBuffer.wrap(line.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            written = channel.position();
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append todo journal entry", e);
+        }
+    }
+
+    // position 까지 기록된 내용이 디스크에 반영될 때까지 대기
+    // - 먼저 force 하는 스레드가 그때까지 기록된 내용을 모두 반영하므로, 대기하던 스레드는 force 없이 반환
+    // - 이미 삭제된 파일은 반영하지 않음 (반영 중에 다른 스레드가 반영을 마치고 세그먼트를 지운 경우)
+    public void sync(final long position) {
+        if (synced >= position) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= position || deleted) {
+                return;
+            }
+            long end;
+            synchronized (this) {
+                end = written;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to sync todo journal", e);
+            }
+            synced = end;
+        }
+    }
+
+    // 파일 삭제 (DB에 모두 반영된 후)
+    public void delete() {
+        synchronized (syncLock) {
+            synchronized (this) {
+                deleted = true;
+                try {
+                    channel.close();
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to delete todo journal " + path, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static int indexOf(final byte[] content, final byte value, final int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
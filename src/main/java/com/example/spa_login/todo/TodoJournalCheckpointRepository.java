@@ -0,0 +1,29 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoJournalCheckpointEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TodoJournalCheckpointEntity(write-behind 저널 체크포인트)를 관리하는 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface TodoJournalCheckpointRepository
+        extends JpaRepository<TodoJournalCheckpointEntity, TodoJournalCheckpointEntity.Key> {
+
+    // 노드의 사용자별 체크포인트 조회 (기동 시 저널 복구용)
+    List<TodoJournalCheckpointEntity> findByNodeId(String nodeId);
+
+    // 노드/사용자의 체크포인트를 잠금 조회 (스냅샷이 아닌 마지막으로 커밋된 값, 커밋할 때까지 잠금 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TodoJournalCheckpointEntity c WHERE c.nodeId = :nodeId AND c.userId = :userId")
+    Optional<TodoJournalCheckpointEntity> lockByNodeIdAndUserId(@Param("nodeId") String nodeId,
+                                                                @Param("userId") Long userId);
+}
@@ -0,0 +1,65 @@
+package com.example.spa_login.todo;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * write-behind 저널의 반영 전 항목을 주기적으로 DB에 반영 (todo.write-behind.flush-interval-ms)
+ * - 쌓인 항목 전체를 TodoService.flushJournal() 한 트랜잭션으로 반영 (여러 변경을 커밋 한 번으로)
+ * - 실패하면 사용자별로 나눠서 다시 시도하고, 실패한 사용자의 항목은 다음 주기에 다시 시도
+ *   (계속 실패하는 항목은 dead letter 로 옮김, TodoWriteBehind 참고), 종료 시에도 한 번 반영
+ * - 보존 기간(todo.write-behind.id-retention)이 지난 임시 ID 변환 정리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TodoJournalFlusher {
+
+    private final TodoWriteBehind todoWriteBehind;
+    private final TodoService todoService;
+    private final TodoJournalIdRepository todoJournalIdRepository;
+
+    @Value("${todo.write-behind.id-retention:7d}")
+    private Duration idRetention; // 임시 ID 변환 보존 기간 (클라이언트가 임시 ID를 계속 쓸 수 있는 기간)
+
+    @Scheduled(fixedDelayString = "${todo.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (todoWriteBehind.pendingCount() == 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            int pending = todoWriteBehind.pendingCount();
+            Set<Long> userIds = todoService.flushJournal();
+            log.debug("Flushed {} todo journal entries for {} users in {} ms",
+                    pending, userIds.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush todo journal, will retry: {}", e.getMessage());
+        }
+    }
+
+    // 보존 기간이 지난 임시 ID 변환 정리
+    @Scheduled(fixedDelayString = "${todo.write-behind.id-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeIds() {
+        int deleted = todoJournalIdRepository.deleteOlderThan(Instant.now().minus(idRetention));
+        if (deleted > 0) {
+            log.info("Purged {} todo journal temp id mappings", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
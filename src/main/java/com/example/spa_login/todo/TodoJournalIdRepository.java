@@ -0,0 +1,32 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoJournalIdEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * TodoJournalIdEntity(write-behind 임시 ID 변환)를 관리하는 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface TodoJournalIdRepository extends JpaRepository<TodoJournalIdEntity, Long> {
+
+    // 노드가 부여한 임시 ID의 실제 ID 조회
+    @Query("SELECT j.todoId FROM TodoJournalIdEntity j WHERE j.nodeId = :nodeId AND j.tempId = :tempId")
+    Optional<Long> findTodoId(@Param("nodeId") String nodeId, @Param("tempId") Long tempId);
+
+    // 노드가 부여한 임시 ID 목록의 변환 조회
+    List<TodoJournalIdEntity> findByNodeIdAndTempIdIn(String nodeId, Collection<Long> tempIds);
+
+    // 보존 기간이 지난 변환을 한 번의 DELETE 문으로 삭제
+    @Modifying
+    @Query("DELETE FROM TodoJournalIdEntity j WHERE j.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,310 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자별 Todo 목록(position, id 순 TodoDTO 리스트)을 그 목록의 변경 번호(todo_sync_state.seq)와 함께 보관하는 write-through 캐시
+ * - GET /todo 는 ETag 의 변경 번호 이상인 목록이 캐시에 있으면 DB 조회 없이 사용 (없거나 더 오래된 목록이면 DB 조회)
+ * - 생성/수정/삭제 시 캐시된 목록을 변경 내용만큼 갱신하고 변경 번호를 올림 (목록 전체를 무효화하지 않음)
+ * - 변경 내용은 트랜잭션 커밋 후 반영, 롤백되면 해당 사용자 목록을 제거
+ * - 같은 사용자의 변경이 동시에 진행되면 적용 순서를 보장할 수 없으므로 해당 목록을 제거
+ * - 변경이 진행 중인 사용자는 캐시 대신 DB에서 조회 (커밋 직후 반영 전의 목록을 반환하지 않도록)
+ * - 변경이 진행 중이거나 조회 도중 변경이 있었다면 DB 조회 결과를 저장하지 않음 (사용자별 세대 번호 비교)
+ * - 전체 항목 수(todo.cache.max-items) 기준으로 크기 제한, 가장 오래 사용하지 않은 사용자 목록부터 제거
+ * - DB에서 읽은 시점부터 todo.cache.ttl 이 지나면 만료 (이 서비스를 거치지 않은 변경이 있어도 일정 시간 후 다시 조회)
+ *   변경 내용을 반영해도 만료 시각은 연장하지 않음
+ * - 캐시된 목록과 DTO는 여러 요청이 공유하므로 호출 측에서 수정하지 않음 (목록은 수정 불가 리스트)
+ */
+@Slf4j
+@Component
+public class TodoListCache {
+
+    private final boolean enabled; // 캐시 사용 여부
+    private final long maxItems; // 전체 사용자 목록의 최대 항목 수 합계
+    private final long ttlNanos; // DB에서 읽은 목록의 유효 시간
+
+    // userId -> 캐시된 목록과 만료 시각 (접근 순서 유지)
+    private final LinkedHashMap<Long, Entry> lists = new LinkedHashMap<>(16, 0.75f, true);
+    // userId -> 진행 중인 변경/조회 상태 (진행 중인 작업이 없으면 제거)
+    private final Map<Long, UserState> states = new HashMap<>();
+
+    private long items; // 캐시된 항목 수 합계 (목록마다 +1)
+
+    // 캐시 통계 카운터
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TodoListCache(@Value("${todo.cache.enabled:true}") boolean enabled,
+                         @Value("${todo.cache.max-items:100000}") long maxItems,
+                         @Value("${todo.cache.ttl:10m}") Duration ttl,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxItems = maxItems;
+        this.ttlNanos = ttl.toNanos();
+
+        // 캐시 통계를 Micrometer 메트릭으로 노출
+        FunctionCounter.builder("todo.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("todo.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("todo.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("todo.cache.users", this, TodoListCache::size).register(meterRegistry);
+        Gauge.builder("todo.cache.items", this, TodoListCache::itemCount).register(meterRegistry);
+    }
+
+    // 사용자의 Todo 목록 조회 (캐시에 없으면 loader로 변경 번호와 함께 조회 후 저장)
+    public List<TodoDTO> get(Long userId, Function<Long, Snapshot> loader) {
+        return get(userId, 0, loader).todos();
+    }
+
+    // 변경 번호가 minSeq 이상인 사용자의 Todo 목록 조회 (캐시에 없거나 더 오래된 목록이면 loader로 조회 후 저장)
+    public Snapshot get(Long userId, long minSeq, Function<Long, Snapshot> loader) {
+        if (!enabled || userId == null) {
+            return loader.apply(userId);
+        }
+
+        UserState state;
+        long observedGeneration;
+        synchronized (this) {
+            // 변경이 진행 중이면 이미 커밋되었을 수 있으므로 캐시 대신 DB 조회
+            UserState current = states.get(userId);
+            Snapshot cached = lookup(userId);
+            if (cached != null && cached.seq() >= minSeq && (current == null || current.pending == 0)) {
+                hits.increment();
+                return cached;
+            }
+            state = current != null ? current : new UserState();
+            states.put(userId, state);
+            state.loads++;
+            observedGeneration = state.generation;
+        }
+
+        misses.increment();
+        Snapshot loaded = null;
+        try {
+            Snapshot snapshot = loader.apply(userId);
+            loaded = new Snapshot(snapshot.seq(), List.copyOf(snapshot.todos()));
+            return loaded;
+        } finally {
+            synchronized (this) {
+                state.loads--;
+                // 조회하는 동안 변경이 없었을 때만 저장
+                if (loaded != null && state.pending == 0 && state.generation == observedGeneration) {
+                    store(userId, loaded, System.nanoTime() + ttlNanos);
+                }
+                release(userId, state);
+            }
+        }
+    }
+
+    // 사용자 목록 변경 시작 (DB 변경 전에 호출)
+    // - 트랜잭션 안이면 커밋 후 apply()로 전달한 변경 내용을 반영 (롤백 시 목록 제거)
+    // - 트랜잭션 밖이면 close() 시점에 반영 (apply() 전에 예외가 나면 목록 제거)
+    public Mutation begin(Long userId) {
+        if (!enabled || userId == null) {
+            return Mutation.NOOP;
+        }
+
+        UserState state;
+        synchronized (this) {
+            state = states.computeIfAbsent(userId, id -> new UserState());
+            if (state.pending > 0) {
+                state.overlapped = true; // 같은 사용자의 변경이 동시에 진행 중
+            }
+            state.pending++;
+            state.generation++;
+        }
+
+        Mutation mutation = new Mutation(this, userId, state);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            mutation.transactional = true;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    mutation.finish(status == STATUS_COMMITTED);
+                }
+            });
+        }
+        return mutation;
+    }
+
+    // 전체 캐시 비우기
+    public synchronized void clear() {
+        lists.clear();
+        items = 0;
+        states.values().forEach(state -> state.generation++);
+    }
+
+    public synchronized int size() {
+        return lists.size();
+    }
+
+    public synchronized long itemCount() {
+        return items;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // 변경 종료: 단독 변경이 커밋되었으면 캐시된 목록에 반영하고 변경 번호를 seq 로 올림, 그 외에는 목록 제거
+    private synchronized void finish(Long userId, UserState state, long seq, UnaryOperator<List<TodoDTO>> change) {
+        Entry cached = lists.get(userId);
+        if (cached != null) {
+            List<TodoDTO> changed = change != null && !state.overlapped && seq >= cached.snapshot().seq()
+                    ? change.apply(cached.snapshot().todos()) : null;
+            remove(userId);
+            if (changed != null) {
+                store(userId, new Snapshot(seq, List.copyOf(changed)), cached.expiresAt()); // 만료 시각 유지
+            }
+        }
+
+        state.pending--;
+        state.generation++;
+        if (state.pending == 0) {
+            state.overlapped = false;
+        }
+        release(userId, state);
+    }
+
+    // 만료되지 않은 목록 조회 (만료된 목록은 제거) - 호출 측에서 동기화
+    private Snapshot lookup(Long userId) {
+        Entry entry = lists.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            remove(userId);
+            evictions.increment();
+            return null;
+        }
+        return entry.snapshot();
+    }
+
+    // 목록 저장 후 전체 항목 수가 제한을 넘으면 오래된 목록부터 제거 - 호출 측에서 동기화
+    private void store(Long userId, Snapshot snapshot, long expiresAt) {
+        long weight = weight(snapshot.todos());
+        if (weight > maxItems) {
+            return; // 한 사용자의 목록이 제한보다 크면 캐시하지 않음
+        }
+
+        remove(userId);
+        lists.put(userId, new Entry(snapshot, expiresAt));
+        items += weight;
+
+        Iterator<Map.Entry<Long, Entry>> eldest = lists.entrySet().iterator();
+        while (items > maxItems && eldest.hasNext()) {
+            Map.Entry<Long, Entry> entry = eldest.next();
+            if (entry.getKey().equals(userId)) {
+                continue;
+            }
+            items -= weight(entry.getValue().snapshot().todos());
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    // 목록 제거 - 호출 측에서 동기화
+    private void remove(Long userId) {
+        Entry removed = lists.remove(userId);
+        if (removed != null) {
+            items -= weight(removed.snapshot().todos());
+        }
+    }
+
+    // 진행 중인 작업이 없으면 사용자 상태 제거 - 호출 측에서 동기화
+    private void release(Long userId, UserState state) {
+        if (state.pending == 0 && state.loads == 0) {
+            states.remove(userId, state);
+        }
+    }
+
+    // 목록의 크기 가중치 (빈 목록도 1)
+    private static long weight(List<TodoDTO> todos) {
+        return todos.size() + 1L;
+    }
+
+    // 목록과 그 목록이 반영한 변경 번호
+    public record Snapshot(long seq, List<TodoDTO> todos) {
+    }
+
+    private record Entry(Snapshot snapshot, long expiresAt) {
+    }
+
+    // 사용자별 진행 중인 변경/조회 상태 - TodoListCache 모니터로 보호
+    private static final class UserState {
+        long generation; // 변경이 시작/종료될 때마다 증가
+        int pending; // 진행 중인 변경 수
+        int loads; // 진행 중인 DB 조회 수
+        boolean overlapped; // 진행 중인 변경끼리 겹쳤는지 여부
+    }
+
+    /**
+     * 진행 중인 목록 변경 (try-with-resources 로 사용)
+     */
+    public static final class Mutation implements AutoCloseable {
+
+        private static final Mutation NOOP = new Mutation(null, null, null);
+
+        private final TodoListCache cache;
+        private final Long userId;
+        private final UserState state;
+
+        private boolean transactional; // 트랜잭션 커밋 후 반영 여부
+        private boolean finished;
+        private long seq; // 변경이 할당받은 변경 번호
+        private UnaryOperator<List<TodoDTO>> change; // 캐시된 목록에 반영할 변경 내용 (null 이면 목록 제거)
+
+        private Mutation(TodoListCache cache, Long userId, UserState state) {
+            this.cache = cache;
+            this.userId = userId;
+            this.state = state;
+        }
+
+        // DB 변경이 끝난 뒤 캐시된 목록에 반영할 변경 번호와 변경 내용 지정 (null 을 반환하면 목록 제거)
+        public void apply(long seq, UnaryOperator<List<TodoDTO>> change) {
+            this.seq = seq;
+            this.change = change;
+        }
+
+        @Override
+        public void close() {
+            if (!transactional) {
+                finish(true);
+            }
+        }
+
+        private void finish(boolean committed) {
+            if (cache == null || finished) {
+                return;
+            }
+            finished = true;
+            cache.finish(userId, state, seq, committed ? change : null);
+        }
+    }
+}
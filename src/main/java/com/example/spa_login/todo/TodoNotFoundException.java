@@ -0,0 +1,12 @@
+package com.example.spa_login.todo;
+
+/**
+ * 요청한 Todo 항목이 없거나 요청한 사용자의 항목이 아닐 때 발생하는 예외
+ * - 컨트롤러에서 404 Not Found 응답으로 변환
+ */
+public class TodoNotFoundException extends RuntimeException {
+
+    public TodoNotFoundException(Long id) {
+        super("Todo not found: " + id);
+    }
+}
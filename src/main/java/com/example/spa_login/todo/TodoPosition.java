@@ -0,0 +1,133 @@
+package com.example.spa_login.todo;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Todo 목록 순서를 나타내는 정렬 키(position) 생성 클래스
+ * - 키는 0-9a-z (36진수) 문자열이고, 문자열 비교 순서가 곧 목록 순서 (0.xxx 형태의 소수로 해석)
+ * - 두 키 사이에는 항상 새 키를 만들 수 있으므로 항목 이동 시 이동한 항목 하나만 수정
+ * - 키는 '0'으로 끝나지 않음 (끝이 '0'이면 바로 앞 키와의 사이에 들어갈 키가 없음)
+ * - 같은 구간에 이동이 반복되면 키가 길어지므로 TodoService.rebalance() 로 짧은 키를 다시 부여
+ */
+public final class TodoPosition {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private TodoPosition() {
+    }
+
+    // 빈 목록의 첫 키
+    public static String first() {
+        return String.valueOf(DIGITS.charAt(BASE / 2));
+    }
+
+    // 마지막 키 다음에 올 키 (목록 끝에 추가)
+    // - 길이를 유지한 채 마지막 자리를 1 증가 (자리 올림이 생기면 마지막 자리는 '0' 대신 '1')
+    // - 모두 'z'이면 한 자리 추가 (재배치 후에는 뒤쪽 절반이 비어 있으므로 드묾)
+    public static String after(final String last) {
+        if (last == null) {
+            return first();
+        }
+        validate(last);
+
+        char[] digits = last.toCharArray();
+        int i = digits.length - 1;
+        while (i >= 0 && digit(digits[i]) == BASE - 1) {
+            digits[i] = DIGITS.charAt(0);
+            i--;
+        }
+        if (i < 0) {
+            return last + DIGITS.charAt(BASE / 2);
+        }
+        digits[i] = DIGITS.charAt(digit(digits[i]) + 1);
+        if (digits[digits.length - 1] == DIGITS.charAt(0)) {
+            digits[digits.length - 1] = DIGITS.charAt(1);
+        }
+        return new String(digits);
+    }
+
+    // 두 키 사이의 키 (lower 가 null 이면 맨 앞, upper 가 null 이면 맨 뒤)
+    public static String between(final String lower, final String upper) {
+        if (lower != null) {
+            validate(lower);
+        }
+        if (upper != null) {
+            validate(upper);
+        }
+        if (upper == null) {
+            return after(lower);
+        }
+        if (lower != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Invalid position range: " + lower + " >= " + upper);
+        }
+
+        String low = lower == null ? "" : lower;
+        StringBuilder key = new StringBuilder();
+        boolean bounded = true; // upper 의 자릿수가 아직 상한인지 여부
+        for (int i = 0; ; i++) {
+            int lo = i < low.length() ? digit(low.charAt(i)) : 0;
+            int hi = bounded && i < upper.length() ? digit(upper.charAt(i)) : BASE;
+
+            if (lo == hi) {
+                key.append(DIGITS.charAt(lo)); // 공통 접두사
+                continue;
+            }
+
+            int mid = (lo + hi) / 2;
+            if (mid > lo) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+
+            // 사이에 자릿수가 없으면 (hi = lo + 1) lower 쪽 자릿수를 쓰고 다음 자리부터는 상한 없음
+            key.append(DIGITS.charAt(lo));
+            bounded = false;
+        }
+    }
+
+    // count 개 항목에 같은 길이의 키를 같은 간격으로 부여 (앞쪽 절반만 사용하여 뒤에 추가할 여유를 둠)
+    // - 키 사이 간격은 36 이상이므로 사이에 삽입해도 바로 키가 길어지지 않음
+    public static List<String> spread(final int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count <= 0) {
+            return keys;
+        }
+
+        BigInteger base = BigInteger.valueOf(BASE);
+        BigInteger required = BigInteger.valueOf(count + 1L).shiftLeft(1).multiply(base);
+        int width = 1;
+        BigInteger space = base;
+        while (space.compareTo(required) < 0) {
+            width++;
+            space = space.multiply(base);
+        }
+
+        // 간격을 36의 배수로 맞추고 +1 하여 키가 '0'으로 끝나지 않게 함
+        BigInteger step = space.divide(required).multiply(base);
+        for (int i = 1; i <= count; i++) {
+            String key = step.multiply(BigInteger.valueOf(i)).add(BigInteger.ONE).toString(BASE);
+            keys.add("0".repeat(width - key.length()) + key);
+        }
+        return keys;
+    }
+
+    // 키 형식 검사 (빈 문자열, 허용하지 않는 문자, '0'으로 끝나는 키)
+    private static void validate(final String key) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            throw new IllegalArgumentException("Invalid position: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            digit(key.charAt(i));
+        }
+    }
+
+    private static int digit(final char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid position character: " + c);
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.spa_login.todo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Todo 정렬 키(position) 주기적 재배치
+ * - 정렬 키가 없는 기존 항목이나 todo.position.max-length 보다 긴 키가 있는 사용자를 찾아 키를 다시 부여
+ * - 한 번에 todo.position.rebalance-batch-size 명까지, 사용자마다 별도 트랜잭션으로 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TodoPositionRebalancer {
+
+    private final TodoRepository todoRepository;
+    private final TodoService todoService;
+
+    @Value("${todo.position.max-length:12}")
+    private int maxLength; // 이보다 긴 정렬 키가 있으면 재배치
+
+    @Value("${todo.position.rebalance-batch-size:100}")
+    private int batchSize; // 한 번에 재배치할 최대 사용자 수
+
+    @Scheduled(fixedDelayString = "${todo.position.rebalance-interval-ms:600000}")
+    public void rebalance() {
+        List<Long> userIds = todoRepository.findUserIdsToRebalance(maxLength, Limit.of(batchSize));
+
+        for (Long userId : userIds) {
+            try {
+                todoService.rebalance(userId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance todo positions for user {}: {}", userId, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.example.spa_login.todo;
 
+import com.example.spa_login.todo.model.TodoDTO;
 import com.example.spa_login.todo.model.TodoEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * TodoEntity를 관리하는 JPA 리포지토리 인터페이스
@@ -13,8 +25,162 @@ import java.util.List;
 @Repository
 public interface TodoRepository extends JpaRepository<TodoEntity, Long> {
 
-    // 특정 사용자(userId)에 속한 모든  Todo 목록을 조회하는 메서드
-    List<TodoEntity> findByUserId(Long userId);
+    // 특정 사용자(userId)에 속한 모든  Todo 목록을 목록 순서(position, id)로 조회하는 메서드
+    // - position 이 없는 항목(재배치 전 기존 항목)은 맨 앞 (MySQL/H2 오름차순 기본 동작)
+    // - NULLS FIRST 를 명시하면 MySQL에서 CASE 식으로 바뀌어 (userId, position, id) 인덱스 순서를 쓰지 못하므로 생략
+    @Query("SELECT t FROM TodoEntity t WHERE t.userId = :userId ORDER BY t.position, t.id")
+    List<TodoEntity> findByUserId(@Param("userId") Long userId);
+
+    // 특정 사용자의 Todo 목록을 목록 순서(position, id) DTO로 바로 조회 (엔터티 생성, 영속성 컨텍스트 관리 없음)
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.userId = :userId ORDER BY t.position, t.id")
+    List<TodoDTO> findDtosByUserId(@Param("userId") Long userId);
+
+    // 특정 사용자의 Todo 목록을 목록 순서 DTO 스트림으로 조회 (JDBC fetch size 단위로 읽음, 트랜잭션 안에서 사용 후 닫아야 함)
+    // - MySQL Connector/J는 JDBC URL에 useCursorFetch=true 가 있어야 fetch size 단위로 가져옴
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.userId = :userId ORDER BY t.position, t.id")
+    Stream<TodoDTO> streamDtosByUserId(@Param("userId") Long userId);
+
+    // 특정 사용자의 Todo 중 변경 번호가 since 보다 큰 (이후에 생성/수정된) 항목을 id 순 DTO로 조회 (클라이언트는 position 으로 정렬)
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.userId = :userId AND t.changeSeq > :since ORDER BY t.id")
+    List<TodoDTO> findDtosChangedSince(@Param("userId") Long userId, @Param("since") long since);
+
+    // 특정 사용자의 Todo 중 id 목록에 포함된 항목의 id 조회 (본인 소유 확인용)
+    @Query("SELECT t.id FROM TodoEntity t WHERE t.userId = :userId AND t.id IN :ids")
+    List<Long> findOwnedIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 키셋 페이지네이션: 특정 사용자의 Todo 중 (afterPosition, afterId) 다음 항목을 목록 순서로 limit 개 DTO로 조회
+    // - position >= :afterPosition 범위 조건으로 (userId, position, id) 인덱스를 탐색 (OR 로 나뉜 조건은 MySQL 이 범위로 쓰지 못함)
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.userId = :userId AND t.position >= :afterPosition " +
+            "AND (t.position > :afterPosition OR t.id > :afterId) " +
+            "ORDER BY t.position, t.id")
+    List<TodoDTO> findDtoPageByUserId(@Param("userId") Long userId, @Param("afterPosition") String afterPosition,
+                                      @Param("afterId") Long afterId, Limit limit);
+
+    // 키셋 페이지네이션: 정렬 키가 없는 항목(목록 맨 앞) 중 id가 afterId보다 큰 항목을 limit 개 조회
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.userId = :userId AND t.position IS NULL AND t.id > :afterId ORDER BY t.id")
+    List<TodoDTO> findUnpositionedDtoPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                  Limit limit);
+
+    // 키셋 페이지네이션: 정렬 키가 있는 항목의 첫 limit 개 조회 (정렬 키가 없는 항목 다음)
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.userId = :userId AND t.position IS NOT NULL ORDER BY t.position, t.id")
+    List<TodoDTO> findPositionedDtoPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 특정 사용자의 항목 중 정렬 키가 position 보다 큰 첫 항목 (이동할 항목 excludeId 제외, 이동 위치의 뒤 항목 확인용)
+    @Query("SELECT t FROM TodoEntity t WHERE t.userId = :userId AND t.id <> :excludeId AND t.position > :position " +
+            "ORDER BY t.position, t.id")
+    List<TodoEntity> findNextByPosition(@Param("userId") Long userId, @Param("position") String position,
+                                        @Param("excludeId") Long excludeId, Limit limit);
+
+    // 특정 사용자의 항목 중 정렬 키가 position 보다 작은 마지막 항목 (이동할 항목 excludeId 제외, 이동 위치의 앞 항목 확인용)
+    @Query("SELECT t FROM TodoEntity t WHERE t.userId = :userId AND t.id <> :excludeId AND t.position < :position " +
+            "ORDER BY t.position DESC, t.id DESC")
+    List<TodoEntity> findPreviousByPosition(@Param("userId") Long userId, @Param("position") String position,
+                                            @Param("excludeId") Long excludeId, Limit limit);
+
+    // 특정 사용자의 마지막 정렬 키 (새 항목을 목록 끝에 추가할 때 사용, (userId, position) 인덱스로 조회)
+    @Query("SELECT MAX(t.position) FROM TodoEntity t WHERE t.userId = :userId")
+    String findMaxPosition(@Param("userId") Long userId);
+
+    // 항목이 있는 사용자 ID를 afterUserId 다음부터 userId 순으로 조회 (카운터 보정용)
+    @Query("SELECT DISTINCT t.userId FROM TodoEntity t WHERE t.userId > :afterUserId ORDER BY t.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Limit limit);
+
+    // 본인 소유 항목 하나를 DTO로 조회 (수정 전 정렬 키와 버전 확인)
+    @Query("SELECT new com.example.spa_login.todo.model.TodoDTO(t.id, t.title, t.done, t.version, t.position, t.tags) " +
+            "FROM TodoEntity t WHERE t.id = :id AND t.userId = :userId")
+    Optional<TodoDTO> findDtoByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 본인 소유 항목의 완료 여부 조회 (없으면 빈 값, 항목 수 증감 계산용)
+    @Query("SELECT t.done FROM TodoEntity t WHERE t.id = :id AND t.userId = :userId")
+    Optional<Boolean> findDoneByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 특정 사용자의 Todo 중 id 목록에 포함된 완료 항목 수 (삭제 전 항목 수 증감 계산용)
+    @Query("SELECT COUNT(t) FROM TodoEntity t WHERE t.userId = :userId AND t.id IN :ids AND t.done = true")
+    long countDoneByUserIdAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 보관 대상 항목 (cutoff 이전에 완료된 항목)
+    interface ArchiveCandidate {
+        Long getId();
+
+        Long getUserId();
+
+        Instant getCompletedAt();
+    }
+
+    // 키셋 방식으로 cutoff 이전에 완료된 항목을 (completedAt, id) 다음부터 limit 개 조회 ((completedAt, id) 인덱스 범위 스캔)
+    @Query("SELECT t.id AS id, t.userId AS userId, t.completedAt AS completedAt FROM TodoEntity t " +
+            "WHERE t.completedAt < :cutoff " +
+            "AND (t.completedAt > :afterCompletedAt OR (t.completedAt = :afterCompletedAt AND t.id > :afterId)) " +
+            "ORDER BY t.completedAt, t.id")
+    List<ArchiveCandidate> findArchiveCandidates(@Param("cutoff") Instant cutoff,
+                                                 @Param("afterCompletedAt") Instant afterCompletedAt,
+                                                 @Param("afterId") Long afterId, Limit limit);
+
+    // 특정 사용자의 항목 중 id 목록에 포함되고 cutoff 이전에 완료된 항목의 id 조회 (보관 직전 조건 재확인)
+    @Query("SELECT t.id FROM TodoEntity t WHERE t.userId = :userId AND t.id IN :ids " +
+            "AND t.done = true AND t.completedAt < :cutoff")
+    List<Long> findArchivableIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                                 @Param("cutoff") Instant cutoff);
+
+    // 완료 시각이 없는 완료 항목(완료 시각 도입 전 항목)에 현재 시각을 limit 개까지 기록, 기록한 행 수 반환
+    // - 이후 보관 기간이 지나면 보관 대상이 됨
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE todo SET completed_at = :now WHERE done = TRUE AND completed_at IS NULL LIMIT :limit",
+            nativeQuery = true)
+    int stampCompletedAt(@Param("now") Instant now, @Param("limit") int limit);
+
+    // 정렬 키 재배치가 필요한 사용자 ID 조회 (키가 없거나 maxLength 보다 긴 항목이 있는 사용자)
+    @Query("SELECT DISTINCT t.userId FROM TodoEntity t " +
+            "WHERE t.position IS NULL OR LENGTH(t.position) > :maxLength")
+    List<Long> findUserIdsToRebalance(@Param("maxLength") int maxLength, Limit limit);
+
+    // 특정 사용자의 Todo 중 id 목록에 포함된 항목을 한 번의 DELETE 문으로 삭제
+    @Modifying
+    @Query("DELETE FROM TodoEntity t WHERE t.userId = :userId AND t.id IN :ids")
+    int deleteAllByUserIdAndIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 본인 소유 항목만 한 번의 UPDATE 문으로 수정 (version을 보내면 버전이 같을 때만 수정), 수정된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    // - 완료 시각은 완료로 바뀔 때만 now, 이미 완료였으면 유지, 미완료면 null
+    @Query("UPDATE TodoEntity t SET t.title = :title, t.done = :done, t.tags = :tags, t.version = t.version + 1, " +
+            "t.changeSeq = :changeSeq, " +
+            "t.completedAt = CASE WHEN :done = true THEN COALESCE(t.completedAt, :now) ELSE NULL END " +
+            "WHERE t.id = :id AND t.userId = :userId AND (:version IS NULL OR t.version = :version)")
+    int updateIfOwned(@Param("id") Long id, @Param("userId") Long userId,
+                      @Param("title") String title, @Param("done") boolean done, @Param("tags") Set<String> tags,
+                      @Param("version") Long version, @Param("changeSeq") long changeSeq, @Param("now") Instant now);
+
+    // 본인 소유 항목만 한 번의 DELETE 문으로 삭제 (version을 보내면 버전이 같을 때만 삭제), 삭제된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM TodoEntity t " +
+            "WHERE t.id = :id AND t.userId = :userId AND (:version IS NULL OR t.version = :version)")
+    int deleteIfOwned(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version);
+
+    // 특정 사용자의 모든 항목의 완료 여부를 한 번의 UPDATE 문으로 변경 (이미 같은 상태인 항목 제외), 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    // - completedAt: 완료로 바꿀 때는 현재 시각, 미완료로 바꿀 때는 null
+    @Query("UPDATE TodoEntity t SET t.done = :done, t.version = t.version + 1, t.changeSeq = :changeSeq, " +
+            "t.completedAt = :completedAt " +
+            "WHERE t.userId = :userId AND t.done <> :done")
+    int updateDoneByUserId(@Param("userId") Long userId, @Param("done") boolean done,
+                           @Param("changeSeq") long changeSeq, @Param("completedAt") Instant completedAt);
+
+    // 특정 사용자의 완료된 항목을 한 번의 DELETE 문으로 삭제, 삭제된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM TodoEntity t WHERE t.userId = :userId AND t.done = true")
+    int deleteDoneByUserId(@Param("userId") Long userId);
+
+    // 본인 소유 항목이 존재하는지 확인 (수정/삭제 실패 시 404/409 구분용)
+    boolean existsByIdAndUserId(Long id, Long userId);
 
     // JPQL을 사용하여 UserId로 단일 TodoEntity를 조회하는 커스텀 쿼리
     @Query("SELECT t FROM TodoEntity t WHERE t.userId = ?1")
@@ -0,0 +1,123 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.common.model.ResponseDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 GET /todo 응답 본문(JSON 바이트)을 ETag 값(TodoService.versionTag)과 함께 보관하는 캐시
+ * - 캐시된 ETag 값이 현재 값과 같으면 직렬화 없이 그대로 반환
+ * - ETag 값은 DB의 변경 번호 기준이므로 다른 인스턴스의 변경이나 재기동 후에도 같은 목록이면 같은 값
+ * - 전체 본문 크기(todo.response-cache.max-bytes) 기준으로 크기 제한, 가장 오래 사용하지 않은 항목부터 제거
+ */
+@Component
+public class TodoResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled; // 캐시 사용 여부
+    private final long maxBytes; // 최대 보관 바이트 수
+
+    // userId -> 캐시된 응답 (접근 순서 유지)
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes; // 캐시된 본문 크기 합계
+
+    // 캐시 통계 카운터
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TodoResponseCache(ObjectMapper objectMapper,
+                             @Value("${todo.response-cache.enabled:true}") boolean enabled,
+                             @Value("${todo.response-cache.max-bytes:67108864}") long maxBytes,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+
+        FunctionCounter.builder("todo.response-cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("todo.response-cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("todo.response-cache.bytes", this, TodoResponseCache::byteCount).register(meterRegistry);
+    }
+
+    // 사용자의 목록 응답 본문 조회 (캐시된 ETag 값이 다르면 loader로 응답을 만들어 직렬화 후 저장)
+    // - tag 는 목록을 조회하기 전에 읽은 값 (조회 도중 변경이 있으면 다음 요청에서 새 값으로 다시 만듦)
+    public byte[] get(Long userId, String tag, Supplier<ResponseDTO<TodoDTO>> loader) {
+        if (enabled) {
+            synchronized (this) {
+                Entry cached = entries.get(userId);
+                if (cached != null && cached.tag().equals(tag)) {
+                    hits.increment();
+                    return cached.body();
+                }
+            }
+            misses.increment();
+        }
+
+        ResponseDTO<TodoDTO> response = loader.get();
+        byte[] body = serialize(response);
+        if (enabled && body.length <= maxBytes) {
+            store(userId, new Entry(tag, response.getVersion(), body));
+        }
+        return body;
+    }
+
+    public synchronized long byteCount() {
+        return bytes;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // 응답 저장 (이미 더 새로운 변경 번호로 만든 응답이 있으면 저장하지 않음) 후 크기 제한 적용
+    private synchronized void store(Long userId, Entry entry) {
+        Entry existing = entries.get(userId);
+        if (existing != null) {
+            if (existing.version() > entry.version()) {
+                return;
+            }
+            entries.remove(userId);
+            bytes -= existing.body().length;
+        }
+
+        entries.put(userId, entry);
+        bytes += entry.body().length;
+
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Long, Entry> next = eldest.next();
+            if (next.getKey().equals(userId)) {
+                continue;
+            }
+            bytes -= next.getValue().body().length;
+            eldest.remove();
+        }
+    }
+
+    private byte[] serialize(ResponseDTO<TodoDTO> response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize todo list", e);
+        }
+    }
+
+    private record Entry(String tag, long version, byte[] body) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 todo_seq 확인 (README 의 기존 DB 마이그레이션 참고)
+ * - MySQL 에서는 todo_seq 가 next_val 한 열짜리 테이블이고, pooled 할당은 다음에 읽는 값의 49 아래부터 ID를 사용
+ * - next_val 이 MAX(id) + 50 보다 작으면 새 항목의 ID가 기존 항목과 충돌하므로 기동 실패 (INSERT 실패로 발견하기 전에)
+ * - todo_seq 테이블이 없으면 (시퀀스를 지원하는 DB) 확인하지 않음
+ */
+@Slf4j
+@Component
+public class TodoSequenceCheck {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public TodoSequenceCheck(JdbcTemplate jdbcTemplate,
+                             @Value("${todo.sequence-check.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+
+        Long nextVal;
+        try {
+            nextVal = jdbcTemplate.queryForObject("SELECT MIN(next_val) FROM todo_seq", Long.class);
+        } catch (DataAccessException e) {
+            log.debug("todo_seq table not found, skipping sequence check: {}", e.getMessage());
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM todo", Long.class);
+        if (maxId == null) {
+            return; // 항목이 없으면 충돌할 ID도 없음
+        }
+
+        long next = nextVal == null ? 0 : nextVal;
+        if (next < maxId + TodoEntity.ID_ALLOCATION_SIZE) {
+            throw new RuntimeException("todo_seq.next_val " + next + " is below MAX(id) + "
+                    + TodoEntity.ID_ALLOCATION_SIZE + " (" + (maxId + TodoEntity.ID_ALLOCATION_SIZE)
+                    + "); initialize todo_seq before starting (see README)");
+        }
+        log.info("todo_seq.next_val {} is ahead of MAX(id) {}", next, maxId);
+    }
+}
@@ -1,15 +1,45 @@
 package com.example.spa_login.todo;
 
+import com.example.spa_login.todo.model.TodoArchiveDTO;
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoChangeDTO;
+import com.example.spa_login.todo.model.TodoDTO;
 import com.example.spa_login.todo.model.TodoEntity;
+import com.example.spa_login.todo.model.TodoFilter;
+import com.example.spa_login.todo.model.TodoJournalCheckpointEntity;
+import com.example.spa_login.todo.model.TodoJournalIdEntity;
+import com.example.spa_login.todo.model.TodoMoveDTO;
+import com.example.spa_login.todo.model.TodoPage;
+import com.example.spa_login.todo.model.TodoResult;
+import com.example.spa_login.todo.model.TodoSummaryDTO;
+import com.example.spa_login.todo.model.TodoSyncStateEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 할 일(TodoEntity)에 대한 비즈니스 로직을 처리하는 서비스 클래스
+ * - 사용자별 목록은 TodoListCache 로 캐시하고, 생성/수정/삭제 시 변경 내용만 갱신 (write-through)
+ * - 생성/수정/삭제 후 TodoChangedEvent 발행 (커밋 후 SSE 구독자에게 전달)
+ * - 목록 순서는 정렬 키(position) 순: 새 항목은 목록 끝에 추가, 이동은 이동한 항목 하나만 수정 (TodoPosition)
+ * - 생성/삭제/완료 여부 변경 시 같은 트랜잭션에서 사용자별 항목 수(TodoCounters) 증감
+ * - 오래전에 완료된 항목은 보관 테이블로 옮김 (TodoArchiver, 클라이언트에는 삭제로 전달)
+ * - write-behind 모드(TodoWriteBehind)에서는 생성/수정/삭제를 저널에 기록하고 응답, DB에는 모아서 반영
+ *   (저널을 거치지 않는 변경은 같은 트랜잭션에서 그 사용자의 반영 전 항목만 먼저 반영한 뒤 실행)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -17,17 +47,74 @@ import java.util.Optional;
 public class TodoService {
 
     private final TodoRepository todoRepository;
+    private final TodoVersionTracker todoVersionTracker; // 사용자별 목록 버전 (커밋된 변경 번호)
+    private final TodoListCache todoListCache; // 사용자별 목록 캐시
+    private final TodoChangeLog todoChangeLog; // 증분 동기화용 변경 번호, 삭제 이력
+    private final TodoTagIndex todoTagIndex; // 완료 여부/태그 비트맵 인덱스
+    private final TodoCounters todoCounters; // 사용자별 항목 수
+    private final TodoArchiveRepository todoArchiveRepository; // 보관된 항목
+    private final TodoWriteBehind todoWriteBehind; // write-behind 모드 저널
+    private final TodoJournalCheckpointRepository todoJournalCheckpointRepository; // 저널 체크포인트
+    private final TodoJournalIdRepository todoJournalIdRepository; // 저널 임시 ID -> 실제 ID 변환
+    private final ApplicationEventPublisher eventPublisher; // 변경 이벤트 발행 (TodoEventBroker 가 구독자에게 전달)
+    private final PlatformTransactionManager transactionManager; // 주기적인 저널 반영 트랜잭션
 
-    // 새로운 Todo 항목을 생성하고, 사용자 ID의 모든 Todo 목록 반환
-    public List<TodoEntity> create(final TodoEntity entity) {
+    @Value("${todo.page.default-size:50}")
+    private int defaultPageSize; // 페이지 크기 기본값
+
+    @Value("${todo.page.max-size:500}")
+    private int maxPageSize; // 페이지 크기 최대값
+
+    @Value("${todo.batch.max-operations:1000}")
+    private int maxBatchOperations; // 일괄 처리 요청 당 최대 작업 수
+
+    @Value("${todo.position.max-length:12}")
+    private int maxPositionLength; // 생성/이동으로 정렬 키가 이 길이를 넘으면 사용자 목록 재배치
+
+    // 새로운 Todo 항목을 생성하고, 사용자 ID의 모든 Todo 목록과 그 버전 반환
+    @Transactional
+    public TodoResult<List<TodoDTO>> create(final TodoEntity entity) {
+        createOne(entity);
+
+        // 사용자 ID로 할 일 목록 조회 및 반환
+        return retrieveAfter(entity.getUserId(), entity.getChangeSeq());
+    }
+
+    // 새로운 Todo 항목을 생성하고, 생성된 항목만 반환
+    @Transactional
+    public TodoEntity createOne(final TodoEntity entity) {
         validate(entity); // 유효성 검사
+        entity.setVersion(null); // 새 엔터티의 버전은 Hibernate가 설정
+        entity.setTags(TodoTags.normalize(entity.getTags())); // 태그 정규화
 
-        todoRepository.save(entity); // DB 저장
+        if (todoWriteBehind.isEnabled()) {
+            entity.setId(submit(entity, TodoBatchOperationDTO.Operation.CREATE).getId()); // 임시 ID
+            entity.setChangeSeq(currentVersion(entity.getUserId())); // DB 반영 전 (목록 버전은 그대로)
+            return entity;
+        }
+        flushPending(entity.getUserId()); // 이전에 남은 저널 항목
+
+        entity.setChangeSeq(todoChangeLog.nextSeq(entity.getUserId())); // 증분 동기화용 변경 번호
+
+        final boolean rebalanced;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(entity.getUserId())) {
+            rebalanced = appendPositions(entity.getUserId(), List.of(entity), entity.getChangeSeq()); // 목록 끝에 추가
+            todoRepository.save(entity); // DB 저장
+            todoCounters.adjust(entity.getUserId(), 1, entity.isDone() ? 1 : 0); // 항목 수 증가
+            if (rebalanced) {
+                mutation.apply(entity.getChangeSeq(), todos -> null); // 재배치로 모든 항목의 키가 바뀜 (목록 제거)
+            } else {
+                mutation.apply(entity.getChangeSeq(), todos -> upsert(todos, new TodoDTO(entity))); // 캐시된 목록에 추가
+            }
+        }
+        eventPublisher.publishEvent(rebalanced
+                ? TodoChangedEvent.resync(entity.getUserId(), entity.getChangeSeq())
+                : new TodoChangedEvent(entity.getUserId(), entity.getChangeSeq(), List.of(new TodoDTO(entity)),
+                        List.of()));
 
         log.info("Entity Id: {} is saved", entity.getId()); // 저장 완료 로그 출력
 
-        // 사용자 ID로 할 일 목록 조회 및 반환
-        return todoRepository.findByUserId(entity.getUserId());
+        return entity;
     }
 
     // Todo 엔터티에 대한 유효성 검사 메서드
@@ -43,42 +130,913 @@ public class TodoService {
         }
     }
 
-    // 특정 사용자의 모든 Todo 항목을 조회
+    // 특정 사용자의 모든 Todo 항목을 엔터티로 조회 (캐시 사용 안 함)
+    // - write-behind 모드에서 반영 전 변경이 있으면 목록에 겹쳐서 반환 (겹친 항목은 영속 상태가 아님)
     public List<TodoEntity> retrieve(final Long userId) {
-        return todoRepository.findByUserId(userId); // userId로 할일 목록 조회
+        List<TodoEntity> entities = todoRepository.findByUserId(userId); // userId로 할일 목록 조회
+        List<TodoJournal.Entry> pending = todoWriteBehind.pendingEntries(userId);
+        if (pending.isEmpty()) {
+            return entities;
+        }
+
+        // id 로 합침: 반영 전 변경이 없는 항목은 저장된 엔터티, 변경된 항목은 겹친 내용으로 만든 엔터티
+        Map<Long, TodoEntity> stored = new HashMap<>();
+        entities.forEach(entity -> stored.put(entity.getId(), entity));
+        Set<Long> changed = new HashSet<>();
+        pending.forEach(entry -> changed.add(entry.todo().getId()));
+
+        return todoWriteBehind.overlay(userId, entities.stream().map(TodoDTO::new).toList()).stream()
+                .map(dto -> {
+                    if (!changed.contains(dto.getId()) && stored.containsKey(dto.getId())) {
+                        return stored.get(dto.getId());
+                    }
+                    TodoEntity overlaid = TodoDTO.toEntity(dto);
+                    overlaid.setUserId(userId);
+                    overlaid.setPosition(dto.getPosition());
+                    return overlaid;
+                })
+                .toList();
+    }
+
+    // 특정 사용자의 모든 Todo 항목을 DTO로 조회 (캐시에 없을 때만 DTO 프로젝션으로 DB 조회)
+    // - 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 DB 조회에만 적용
+    // - write-behind 모드에서 반영 전 변경이 있으면 목록에 겹쳐서 반환
+    public List<TodoDTO> retrieveDtos(final Long userId) {
+        return todoWriteBehind.overlay(userId, todoListCache.get(userId, this::loadSnapshot));
+    }
+
+    // 변경 번호와 전체 목록을 한 읽기 전용 트랜잭션(같은 스냅샷)에서 DB로 조회 (목록 캐시에 없을 때)
+    private TodoListCache.Snapshot loadSnapshot(final Long userId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> new TodoListCache.Snapshot(todoChangeLog.state(userId).getSeq(),
+                todoRepository.findDtosByUserId(userId)));
+    }
+
+    // 특정 사용자의 Todo 항목 중 완료 여부/태그 조건에 맞는 항목을 목록 순서로 조회
+    // - 비트맵 인덱스로 계산, 사용자 인덱스가 없거나 현재 버전보다 뒤처졌을 때만 목록으로 생성 (태그는 정규화하여 비교)
+    public List<TodoDTO> filter(final Long userId, final Boolean done, final Collection<String> tags,
+                                final boolean matchAll, final Collection<String> excludedTags) {
+        TodoFilter filter = new TodoFilter(done, TodoTags.normalize(tags), matchAll, TodoTags.normalize(excludedTags));
+        final long version = currentVersion(userId);
+        return todoTagIndex.filter(userId, version, () -> {
+            TodoChangeDTO snapshot = retrieveSnapshot(userId, version);
+            return new TodoListCache.Snapshot(snapshot.getVersion(), snapshot.getTodos());
+        }, filter);
     }
 
-    // 기존 Todo 항목을 수정하고, 수정 후 해당 사용자 ID의 Todo 목록 반환
-    public List<TodoEntity> update(final TodoEntity entity) {
+    // 특정 사용자의 항목 수 요약 (카운터 행 하나만 조회)
+    public TodoSummaryDTO summary(final Long userId) {
+        return todoCounters.summary(userId);
+    }
+
+    // 특정 사용자의 모든 Todo 항목을 DB에서 한 건씩 읽어 consumer에 전달 (목록 전체를 메모리에 올리지 않음)
+    // - write-behind 모드에서 반영 전 변경이 있으면 (반영 주기 동안만) 전체 목록에 겹쳐서 전달
+    @Transactional(readOnly = true)
+    public void streamDtos(final Long userId, final Consumer<TodoDTO> consumer) {
+        List<TodoJournal.Entry> pending = todoWriteBehind.pendingEntries(userId);
+        if (!pending.isEmpty()) {
+            todoWriteBehind.overlay(userId, todoRepository.findDtosByUserId(userId)).forEach(consumer);
+            return;
+        }
+        try (Stream<TodoDTO> todos = todoRepository.streamDtosByUserId(userId)) {
+            todos.forEach(consumer);
+        }
+    }
+
+    // 특정 사용자의 Todo 항목을 키셋 방식으로 한 페이지 조회 (cursor 이후 항목을 목록 순서(position, id)로 size 개)
+    // - write-behind 모드에서 반영 전 변경이 있으면 (반영 주기 동안만) 겹친 전체 목록에서 같은 순서로 페이지를 자름
+    @Transactional(readOnly = true)
+    public TodoPage<TodoDTO> retrievePage(final Long userId, final String cursor, final Integer size) {
+        final int pageSize = pageSize(size);
+        final TodoCursor.Key after = TodoCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<TodoJournal.Entry> pending = todoWriteBehind.pendingEntries(userId);
+        List<TodoDTO> dtos = pending.isEmpty()
+                ? findPage(userId, after, pageSize + 1)
+                : todoWriteBehind.overlay(userId, todoRepository.findDtosByUserId(userId)).stream()
+                        .filter(todo -> isAfter(todo, after))
+                        .limit(pageSize + 1)
+                        .toList();
+
+        if (dtos.size() <= pageSize) {
+            return new TodoPage<>(dtos, null); // 마지막 페이지
+        }
+
+        List<TodoDTO> page = dtos.subList(0, pageSize);
+        TodoDTO last = page.get(pageSize - 1);
+        return new TodoPage<>(page, TodoCursor.encode(last.getPosition(), last.getId()));
+    }
+
+    // 커서 다음 항목을 목록 순서로 limit 개 DB에서 조회
+    // - 정렬 키가 있는 커서는 (position, id) 범위 조회 하나, 정렬 키가 없는 커서는 정렬 키가 없는 항목부터 조회한 뒤
+    //   모자라면 정렬 키가 있는 항목의 앞부분으로 채움 (position 이 없는 항목이 맨 앞)
+    private List<TodoDTO> findPage(final Long userId, final TodoCursor.Key after, final int limit) {
+        if (after.position() != null) {
+            return todoRepository.findDtoPageByUserId(userId, after.position(), after.id(), Limit.of(limit));
+        }
+        List<TodoDTO> unpositioned = todoRepository.findUnpositionedDtoPageByUserId(userId, after.id(), Limit.of(limit));
+        if (unpositioned.size() >= limit) {
+            return unpositioned;
+        }
+        List<TodoDTO> page = new ArrayList<>(unpositioned);
+        page.addAll(todoRepository.findPositionedDtoPageByUserId(userId, Limit.of(limit - unpositioned.size())));
+        return page;
+    }
+
+    // 목록 순서(position, id)에서 커서 다음 항목인지 여부 (findPage 조건과 같음, position 이 없는 항목이 맨 앞)
+    private static boolean isAfter(final TodoDTO todo, final TodoCursor.Key after) {
+        if (after.position() == null) {
+            return todo.getPosition() != null || todo.getId() > after.id();
+        }
+        if (todo.getPosition() == null) {
+            return false;
+        }
+        int order = todo.getPosition().compareTo(after.position());
+        return order > 0 || (order == 0 && todo.getId() > after.id());
+    }
+
+    // 요청한 페이지 크기를 설정 범위로 제한
+    private int pageSize(final Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // 증분 동기화: since 이후에 생성/수정된 항목과 삭제된 항목 ID, 현재 변경 번호 반환
+    // - since 가 없거나(0), 정리된 이력보다 오래되었거나(horizon 미만), 현재 번호보다 크면 전체 목록 반환 (full = true)
+    // - 한 트랜잭션(같은 스냅샷)에서 변경 번호와 항목을 함께 조회
+    @Transactional(readOnly = true)
+    public TodoChangeDTO sync(final Long userId, final long since) {
+        TodoSyncStateEntity state = todoChangeLog.state(userId);
+
+        if (since <= 0 || since < state.getHorizon() || since > state.getSeq()) {
+            return TodoChangeDTO.builder()
+                    .version(state.getSeq())
+                    .todos(todoRepository.findDtosByUserId(userId))
+                    .deletedIds(List.of())
+                    .full(true)
+                    .build();
+        }
+
+        return TodoChangeDTO.builder()
+                .version(state.getSeq())
+                .todos(todoRepository.findDtosChangedSince(userId, since))
+                .deletedIds(todoChangeLog.deletedSince(userId, since))
+                .full(false)
+                .build();
+    }
+
+    // 특정 사용자의 현재 목록 버전 조회 = DB에 커밋된 변경 번호 (todo_sync_state.seq, GET /todo/sync 의 version 과 같은 값)
+    // - 모든 변경 경로가 변경 트랜잭션 안에서 올리므로 인스턴스/재기동과 관계없이 같은 목록이면 같은 값
+    // - 인스턴스 안에 보관한 값으로 응답 (이 인스턴스의 변경은 커밋 이벤트로 반영, 없거나 TTL 이 지났을 때만 DB 조회)
+    public long currentVersion(final Long userId) {
+        return todoVersionTracker.current(userId);
+    }
+
+    // 전체 목록 응답의 ETag 값 (목록을 조회하기 전에 읽은 version 기준)
+    // - write-behind 모드에서 반영 전 저널 항목이 겹쳐 있으면 노드 ID와 마지막 저널 seq 를 덧붙임 (이 노드에서만 보이는 목록)
+    public String versionTag(final Long userId, final long version) {
+        long pendingSeq = todoWriteBehind.lastPendingSeq(userId);
+        return pendingSeq == 0 ? Long.toString(version) : version + "-" + todoWriteBehind.getNodeId() + "-" + pendingSeq;
+    }
+
+    // 변경 번호가 version 이상인 전체 목록 조회 (목록 응답 캐시에 없을 때)
+    // - 목록 캐시의 변경 번호가 version 이상이면 캐시에서, 아니면 변경 번호와 목록을 같은 스냅샷에서 DB로 조회
+    // - 응답의 version 은 목록이 반영한 변경 번호 (반영 전 저널 항목은 겹쳐서 반환)
+    public TodoChangeDTO retrieveSnapshot(final Long userId, final long version) {
+        TodoListCache.Snapshot snapshot = todoListCache.get(userId, version, this::loadSnapshot);
+        return TodoChangeDTO.builder()
+                .version(snapshot.seq())
+                .todos(todoWriteBehind.overlay(userId, snapshot.todos()))
+                .deletedIds(List.of())
+                .full(true)
+                .build();
+    }
+
+    // 기존 Todo 항목을 수정하고, 수정 후 해당 사용자 ID의 Todo 목록과 그 버전 반환
+    @Transactional
+    public TodoResult<List<TodoDTO>> update(final TodoEntity entity) {
+        updateOne(entity);
+
+        return retrieveAfter(entity.getUserId(), entity.getChangeSeq()); // 사용자 ID로 전체 목록 반환
+    }
+
+    // 기존 Todo 항목을 수정하고, 수정된 항목만 반환
+    // - 조회 없이 UPDATE ... WHERE id = ? AND userId = ? [AND version = ?] 한 번으로 처리
+    // - 수정된 행이 없으면 본인 소유 항목이 있는지 확인하여 404(없음)/409(버전 충돌) 구분
+    // - 수정 전 항목을 PK로 조회 (사용자 행이 잠긴 뒤이므로 수정 시점과 같은 값)
+    //   완료 항목 수 증감과, 정렬 키/새 버전을 포함한 수정 후 항목(응답, 목록 캐시, 변경 이벤트)에 사용
+    @Transactional
+    public TodoEntity updateOne(final TodoEntity entity) {
         validate(entity); // 유효성 검사
+        entity.setTags(TodoTags.normalize(entity.getTags())); // 태그 정규화 (보낸 태그로 교체)
 
-        // DB에서 기존 엔터티 조회
-        final Optional<TodoEntity> original = todoRepository.findById(entity.getId());
+        if (todoWriteBehind.isEnabled()) {
+            entity.setId(submit(entity, TodoBatchOperationDTO.Operation.UPDATE).getId());
+            entity.setVersion(null); // 반영 후 버전은 알 수 없음
+            entity.setChangeSeq(currentVersion(entity.getUserId())); // DB 반영 전 (목록 버전은 그대로)
+            return entity;
+        }
+        flushPending(entity.getUserId()); // 이전에 남은 저널 항목
 
-        // 존재할 경우 제목과 완료 여부만 수정
-        original.ifPresent(todo -> {
-            todo.setTitle(entity.getTitle()); // 제목 수정
-            todo.setDone(entity.isDone());  // 완료 여부 수정
+        final long changeSeq = todoChangeLog.nextSeq(entity.getUserId()); // 증분 동기화용 변경 번호
 
-            todoRepository.save(todo); // 수정된 엔터티 저장
-        });
+        final TodoDTO persisted;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(entity.getUserId())) {
+            Optional<TodoDTO> before = todoRepository.findDtoByIdAndUserId(entity.getId(), entity.getUserId());
+            int updated = todoRepository.updateIfOwned(entity.getId(), entity.getUserId(),
+                    entity.getTitle(), entity.isDone(), entity.getTags(), entity.getVersion(), changeSeq, Instant.now());
+            if (updated == 0 || before.isEmpty()) {
+                throw notFoundOrConflict(entity);
+            }
+            if (before.get().isDone() != entity.isDone()) {
+                todoCounters.adjust(entity.getUserId(), 0, entity.isDone() ? 1 : -1); // 완료 항목 수 증감
+            }
+
+            // 수정 후 항목 = 수정 전 항목의 정렬 키 + 보낸 내용 + 새 버전
+            Long version = before.get().getVersion() == null ? null : before.get().getVersion() + 1;
+            persisted = new TodoDTO(entity.getId(), entity.getTitle(), entity.isDone(), version,
+                    before.get().getPosition(), entity.getTags());
+            mutation.apply(changeSeq, todos -> find(todos, persisted.getId()) == null
+                    ? null : upsert(todos, persisted)); // 캐시된 목록의 항목 교체
+        }
+
+        entity.setVersion(persisted.getVersion());
+        entity.setPosition(persisted.getPosition());
+        entity.setChangeSeq(changeSeq);
+        eventPublisher.publishEvent(new TodoChangedEvent(entity.getUserId(), changeSeq, List.of(persisted), List.of()));
+        return entity;
+    }
+
+    // 수정/삭제된 행이 없을 때의 원인 판단
+    private RuntimeException notFoundOrConflict(final TodoEntity entity) {
+        if (entity.getId() != null && entity.getVersion() != null
+                && todoRepository.existsByIdAndUserId(entity.getId(), entity.getUserId())) {
+            log.warn("Version conflict on entity {}", entity.getId());
+            return new TodoConflictException(entity.getId()); // 항목은 있지만 버전이 다름
+        }
+        return new TodoNotFoundException(entity.getId()); // 없거나 다른 사용자의 항목
+    }
+
+    // 항목을 afterId 와 beforeId 항목 사이로 이동하고, 이동한 항목 반환
+    // - 두 항목의 정렬 키 사이의 키를 이동한 항목에만 기록 (다른 항목은 수정하지 않음)
+    // - 한쪽만 보내면 다른 쪽은 DB에서 실제로 이웃한 항목을 찾아 사용 (목록 끝으로 가정하지 않음)
+    // - 둘 다 보냈는데 바로 이웃하지 않거나 순서가 맞지 않으면 (클라이언트 목록이 오래됨) 409
+    // - 앞/뒤 항목에 정렬 키가 없거나 새 키가 너무 길어지면 사용자 목록 전체를 먼저 재배치
+    @Transactional
+    public TodoEntity move(final Long userId, final TodoMoveDTO move) {
+        if (move == null || move.getId() == null || (move.getAfterId() == null && move.getBeforeId() == null)
+                || move.getId().equals(move.getAfterId()) || move.getId().equals(move.getBeforeId())) {
+            throw new RuntimeException("Invalid move");
+        }
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+
+        // 사용자 행 잠금: 같은 사용자의 이동/생성/재배치는 순서대로 처리
+        final long changeSeq = todoChangeLog.nextSeq(userId);
+
+        // 이동할 항목과 앞/뒤 항목을 한 번에 조회 (본인 소유 항목만)
+        Set<Long> ids = new HashSet<>();
+        ids.add(move.getId());
+        if (move.getAfterId() != null) {
+            ids.add(move.getAfterId());
+        }
+        if (move.getBeforeId() != null) {
+            ids.add(move.getBeforeId());
+        }
+        Map<Long, TodoEntity> owned = new HashMap<>();
+        for (TodoEntity todo : todoRepository.findAllById(ids)) {
+            if (userId.equals(todo.getUserId())) {
+                owned.put(todo.getId(), todo);
+            }
+        }
+
+        TodoEntity entity = owned.get(move.getId());
+        if (entity == null) {
+            throw new TodoNotFoundException(move.getId());
+        }
+        if (move.getVersion() != null && !move.getVersion().equals(entity.getVersion())) {
+            throw new TodoConflictException(move.getId());
+        }
+        TodoEntity lower = neighbor(owned, move.getAfterId());
+        TodoEntity upper = neighbor(owned, move.getBeforeId());
+
+        boolean rebalanced = false;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            if ((lower != null && lower.getPosition() == null) || (upper != null && upper.getPosition() == null)) {
+                assignPositions(userId, changeSeq); // 정렬 키가 없는 기존 항목
+                rebalanced = true;
+            }
+
+            // 보내지 않은 쪽은 실제 이웃 항목, 둘 다 보냈으면 바로 이웃하는지 확인
+            if (upper == null) {
+                upper = adjacent(todoRepository.findNextByPosition(userId, lower.getPosition(), entity.getId(),
+                        Limit.of(1)));
+            } else if (lower == null) {
+                lower = adjacent(todoRepository.findPreviousByPosition(userId, upper.getPosition(), entity.getId(),
+                        Limit.of(1)));
+            } else if (adjacent(todoRepository.findNextByPosition(userId, lower.getPosition(), entity.getId(),
+                    Limit.of(1))) != upper) {
+                throw new TodoConflictException(move.getId());
+            }
+
+            String position = positionBetween(lower, upper, move.getId());
+            if (position.length() > maxPositionLength && !rebalanced) {
+                assignPositions(userId, changeSeq); // 같은 구간에 이동이 반복되어 키가 길어짐
+                rebalanced = true;
+                position = positionBetween(lower, upper, move.getId());
+            }
+
+            entity.setPosition(position);
+            entity.setChangeSeq(changeSeq);
+            todoRepository.flush(); // 새 버전을 응답/이벤트에 담기 위해 먼저 반영
+
+            if (rebalanced) {
+                final List<TodoDTO> todos = todoRepository.findByUserId(userId).stream().map(TodoDTO::new).toList();
+                mutation.apply(changeSeq, cached -> todos); // 재배치로 모든 항목의 키가 바뀜
+            } else {
+                final TodoDTO moved = new TodoDTO(entity);
+                mutation.apply(changeSeq, todos -> upsert(todos, moved)); // 캐시된 목록에서 위치 이동
+            }
+        }
+
+        eventPublisher.publishEvent(rebalanced
+                ? TodoChangedEvent.resync(userId, changeSeq)
+                : new TodoChangedEvent(userId, changeSeq, List.of(new TodoDTO(entity)), List.of()));
+        log.info("Entity Id: {} is moved", entity.getId());
+
+        return entity;
+    }
+
+    // 이동 기준 항목 (id 가 null 이면 목록 끝), 없거나 다른 사용자의 항목이면 404
+    private static TodoEntity neighbor(final Map<Long, TodoEntity> owned, final Long id) {
+        if (id == null) {
+            return null;
+        }
+        TodoEntity todo = owned.get(id);
+        if (todo == null) {
+            throw new TodoNotFoundException(id);
+        }
+        return todo;
+    }
+
+    // 이웃 항목 조회 결과 (없으면 목록의 끝)
+    private static TodoEntity adjacent(final List<TodoEntity> todos) {
+        return todos.isEmpty() ? null : todos.get(0);
+    }
+
+    // 앞/뒤 항목 사이의 정렬 키 (순서가 맞지 않으면 409)
+    private static String positionBetween(final TodoEntity lower, final TodoEntity upper, final Long id) {
+        String lowerKey = lower == null ? null : lower.getPosition();
+        String upperKey = upper == null ? null : upper.getPosition();
+        if (lowerKey != null && upperKey != null && lowerKey.compareTo(upperKey) >= 0) {
+            throw new TodoConflictException(id);
+        }
+        return TodoPosition.between(lowerKey, upperKey);
+    }
+
+    // 사용자 목록의 정렬 키를 같은 길이, 같은 간격으로 다시 부여하고 재배치한 항목 수 반환 (목록 순서는 유지)
+    // - 키가 바뀐 항목만 UPDATE (JDBC 배치), 모든 항목이 바뀔 수 있으므로 구독자에게는 resync 이벤트
+    @Transactional
+    public int rebalance(final Long userId) {
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 사용자 행 잠금 (이동/생성과 순서대로 처리)
+
+        int changed;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            changed = assignPositions(userId, changeSeq);
+            todoRepository.flush();
+
+            final List<TodoDTO> todos = todoRepository.findByUserId(userId).stream().map(TodoDTO::new).toList();
+            mutation.apply(changeSeq, cached -> todos);
+        }
+
+        if (changed > 0) {
+            eventPublisher.publishEvent(TodoChangedEvent.resync(userId, changeSeq));
+        }
+        log.info("Rebalanced {} todo positions for user {}", changed, userId);
+
+        return changed;
+    }
+
+    // 새 항목들에 목록 끝 정렬 키 부여, 키가 너무 길어지면 기존 항목을 먼저 재배치하고 true 반환
+    // - 변경 번호 할당으로 사용자 행이 잠긴 뒤 조회하므로 같은 사용자의 생성끼리 키가 겹치지 않음
+    private boolean appendPositions(final Long userId, final List<TodoEntity> creates, final long changeSeq) {
+        if (creates.isEmpty()) {
+            return false;
+        }
+
+        String last = todoRepository.findMaxPosition(userId); // (userId, position) 인덱스로 조회
+        boolean rebalanced = false;
+        if (last != null && TodoPosition.after(last).length() > maxPositionLength) {
+            assignPositions(userId, changeSeq);
+            rebalanced = true;
+            last = todoRepository.findMaxPosition(userId); // 조회 전에 재배치 내용이 flush 됨
+        }
+
+        for (TodoEntity entity : creates) {
+            last = TodoPosition.after(last);
+            entity.setPosition(last);
+        }
+        return rebalanced;
+    }
+
+    // 현재 목록 순서대로 새 정렬 키 부여 (영속 상태 엔터티를 변경, flush 는 호출 측에서), 키가 바뀐 항목 수 반환
+    private int assignPositions(final Long userId, final long changeSeq) {
+        List<TodoEntity> todos = todoRepository.findByUserId(userId);
+        List<String> positions = TodoPosition.spread(todos.size());
 
-        return retrieve(entity.getUserId()); // 사용자 ID로 전체 목록 반환
+        int changed = 0;
+        for (int i = 0; i < todos.size(); i++) {
+            TodoEntity todo = todos.get(i);
+            if (!positions.get(i).equals(todo.getPosition())) {
+                todo.setPosition(positions.get(i));
+                todo.setChangeSeq(changeSeq);
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    // 생성/수정/삭제 작업 목록을 한 트랜잭션으로 일괄 처리하고, 생성/수정된 항목 반환
+    // - 생성: saveAll (pooled ID 할당으로 INSERT를 JDBC 배치로 전송)
+    // - 수정: 대상을 한 번에 조회 후 변경 감지 (UPDATE를 JDBC 배치로 전송)
+    // - 삭제: 한 번의 DELETE ... WHERE userId = ? AND id IN (...) 문으로 처리 (생성/수정 이후에 적용)
+    // - 같은 항목을 두 번 이상 수정/삭제하는 요청은 거부 (작업마다 대상이 달라 적용 순서와 관계없이 요청 순서대로 적용한 결과와 같음)
+    @Transactional
+    public TodoResult<List<TodoEntity>> applyBatch(final Long userId, final List<TodoBatchOperationDTO> operations) {
+        if (operations == null || operations.isEmpty()) {
+            return new TodoResult<>(List.of(), currentVersion(userId));
+        }
+        if (operations.size() > maxBatchOperations) {
+            throw new RuntimeException("Too many operations (max " + maxBatchOperations + ")");
+        }
+        Set<Long> targets = new HashSet<>();
+        for (TodoBatchOperationDTO operation : operations) {
+            if (operation != null && operation.getOp() != TodoBatchOperationDTO.Operation.CREATE
+                    && operation.getTodo() != null && operation.getTodo().getId() != null
+                    && !targets.add(operation.getTodo().getId())) {
+                throw new RuntimeException("Duplicate id in batch: " + operation.getTodo().getId());
+            }
+        }
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 일괄 처리 전체가 하나의 변경 번호 사용
+        return new TodoResult<>(applyOperations(userId, operations, changeSeq), changeSeq);
     }
 
-    // Todo 항목을 삭제하고, 삭제 후 해당 사용자의 ID의 Todo 목록 반환
-    public List<TodoEntity> delete(final TodoEntity entity) {
+    // 일괄 처리 작업 적용 (applyBatch, 저널 반영에서 사용, changeSeq: 할당한 변경 번호)
+    // - 저널 반영은 임시 ID 변환 후 같은 항목이 겹칠 수 있으므로 중복을 허용: 수정은 마지막 작업, 삭제가 있으면 삭제
+    private List<TodoEntity> applyOperations(final Long userId, final List<TodoBatchOperationDTO> operations,
+                                             final long changeSeq) {
+
+        List<TodoEntity> creates = new ArrayList<>();
+        Map<Long, TodoDTO> updates = new LinkedHashMap<>();
+        Set<Long> deletes = new LinkedHashSet<>();
+
+        for (TodoBatchOperationDTO operation : operations) {
+            if (operation == null || operation.getOp() == null || operation.getTodo() == null) {
+                throw new RuntimeException("Invalid operation");
+            }
+
+            TodoDTO todo = operation.getTodo();
+            switch (operation.getOp()) {
+                case CREATE -> {
+                    TodoEntity entity = TodoDTO.toEntity(todo);
+                    entity.setId(null); // 새 엔터티 이므로 ID는 null 처리
+                    entity.setUserId(userId); // 인증된 사용자 ID 설정
+                    entity.setVersion(null); // 새 엔터티의 버전은 Hibernate가 설정
+                    entity.setTags(TodoTags.normalize(entity.getTags())); // 태그 정규화
+                    creates.add(entity);
+                }
+                case UPDATE -> updates.put(requireId(todo), todo);
+                case DELETE -> deletes.add(requireId(todo));
+            }
+        }
+
+        creates.forEach(entity -> entity.setChangeSeq(changeSeq));
+
+        List<TodoEntity> affected;
+        List<Long> deleted = List.of();
+        final boolean rebalanced;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            rebalanced = appendPositions(userId, creates, changeSeq); // 요청 순서대로 목록 끝에 추가
+            affected = new ArrayList<>(todoRepository.saveAll(creates)); // 생성
+
+            // 항목 수 변경분 (생성 + 완료 여부가 바뀐 수정 - 삭제)
+            long total = creates.size();
+            long done = creates.stream().filter(TodoEntity::isDone).count();
+
+            // 수정: 본인 소유 항목만 반영
+            for (TodoEntity todo : todoRepository.findAllById(updates.keySet())) {
+                if (!userId.equals(todo.getUserId()) || deletes.contains(todo.getId())) {
+                    continue;
+                }
+                TodoDTO changed = updates.get(todo.getId());
+                if (todo.isDone() != changed.isDone()) {
+                    done += changed.isDone() ? 1 : -1;
+                }
+                todo.setTitle(changed.getTitle()); // 제목 수정
+                todo.setDone(changed.isDone()); // 완료 여부 수정
+                todo.setTags(TodoTags.normalize(changed.getTags())); // 태그 교체
+                todo.setChangeSeq(changeSeq);
+                affected.add(todo);
+            }
+
+            // 삭제: 본인 소유 항목만 삭제 (JPQL 실행 전에 생성/수정 내용이 먼저 flush 됨)
+            if (!deletes.isEmpty()) {
+                deleted = todoRepository.findOwnedIds(userId, deletes);
+                if (!deleted.isEmpty()) {
+                    total -= deleted.size();
+                    done -= todoRepository.countDoneByUserIdAndIds(userId, deleted); // 삭제 전에 계산
+                    todoRepository.deleteAllByUserIdAndIds(userId, deleted);
+                    todoChangeLog.recordDeletes(userId, changeSeq, deleted); // 삭제 이력 기록
+                }
+            }
+            todoCounters.adjust(userId, total, done); // 항목 수 증감
+
+            // 커밋 후 엔터티의 최종 상태(ID, 버전)로 캐시된 목록 갱신 (재배치했으면 목록 제거)
+            final List<TodoEntity> saved = affected;
+            final Set<Long> removed = new HashSet<>(deleted);
+            mutation.apply(changeSeq, todos -> rebalanced ? null : applyBatchTo(todos, saved, removed));
+        }
+
+        todoRepository.flush(); // 수정된 항목의 새 버전을 이벤트에 담기 위해 먼저 반영
+        eventPublisher.publishEvent(rebalanced
+                ? TodoChangedEvent.resync(userId, changeSeq)
+                : new TodoChangedEvent(userId, changeSeq, affected.stream().map(TodoDTO::new).toList(), deleted));
+        log.info("Batch applied for user {}: {} created, {} updated, {} deleted",
+                userId, creates.size(), affected.size() - creates.size(), deleted.size());
+
+        return affected;
+    }
+
+    // 일괄 처리 결과를 캐시된 목록에 반영한 새 목록 반환
+    private static List<TodoDTO> applyBatchTo(final List<TodoDTO> todos, final List<TodoEntity> saved,
+                                              final Set<Long> removed) {
+        List<TodoDTO> result = removeAll(todos, removed);
+        for (TodoEntity todo : saved) {
+            result = upsert(result, new TodoDTO(todo));
+        }
+        return result;
+    }
+
+    // 수정/삭제 작업은 대상 ID 필수
+    private static Long requireId(final TodoDTO todo) {
+        if (todo.getId() == null) {
+            throw new RuntimeException("Id is required");
+        }
+        return todo.getId();
+    }
+
+    // Todo 항목을 삭제하고, 삭제 후 해당 사용자의 ID의 Todo 목록과 그 버전 반환
+    @Transactional
+    public TodoResult<List<TodoDTO>> delete(final TodoEntity entity) {
+        deleteOne(entity);
+
+        return retrieveAfter(entity.getUserId(), entity.getChangeSeq()); // 사용자 ID로 전체 목록 반환
+    }
+
+    // 변경이 커밋한 변경 번호(changeSeq) 이후의 전체 목록과 그 버전 (버전을 다시 조회하지 않음)
+    public TodoResult<List<TodoDTO>> retrieveAfter(final Long userId, final long changeSeq) {
+        TodoChangeDTO snapshot = retrieveSnapshot(userId, changeSeq);
+        return new TodoResult<>(snapshot.getTodos(), snapshot.getVersion());
+    }
+
+    // Todo 항목을 삭제하고, 삭제된 항목만 반환
+    // - DELETE ... WHERE id = ? AND userId = ? [AND version = ?] 한 번으로 처리 (항목 수 증감을 위해 완료 여부만 PK로 먼저 조회)
+    @Transactional
+    public TodoEntity deleteOne(final TodoEntity entity) {
         validate(entity); // 유효성 검사
 
-        try {
-            todoRepository.delete(entity); // 삭제 수행
-        } catch (Exception e) {
-            log.error("error deleting entity" + entity.getId(), e); // 삭제 중 에러 로그 출력
+        if (todoWriteBehind.isEnabled()) {
+            entity.setId(submit(entity, TodoBatchOperationDTO.Operation.DELETE).getId());
+            entity.setChangeSeq(currentVersion(entity.getUserId())); // DB 반영 전 (목록 버전은 그대로)
+            return entity;
+        }
+        flushPending(entity.getUserId()); // 이전에 남은 저널 항목
+
+        final long changeSeq = todoChangeLog.nextSeq(entity.getUserId()); // 증분 동기화용 변경 번호
+
+        try (TodoListCache.Mutation mutation = todoListCache.begin(entity.getUserId())) {
+            Optional<Boolean> wasDone = todoRepository.findDoneByIdAndUserId(entity.getId(), entity.getUserId());
+            int deleted = todoRepository.deleteIfOwned(entity.getId(), entity.getUserId(), entity.getVersion());
+            if (deleted == 0) {
+                throw notFoundOrConflict(entity);
+            }
+            todoCounters.adjust(entity.getUserId(), -1, wasDone.orElse(false) ? -1 : 0); // 항목 수 감소
+            todoChangeLog.recordDeletes(entity.getUserId(), changeSeq, List.of(entity.getId())); // 삭제 이력 기록
+            mutation.apply(changeSeq, todos -> removeAll(todos, Set.of(entity.getId()))); // 캐시된 목록에서 제거
+        }
+        entity.setChangeSeq(changeSeq);
+
+        eventPublisher.publishEvent(new TodoChangedEvent(entity.getUserId(), changeSeq, List.of(),
+                List.of(entity.getId())));
+        log.info("Entity Id: {} is deleted", entity.getId());
+
+        return entity;
+    }
+
+    // 사용자의 모든 항목을 완료/미완료로 변경하고 변경된 항목 수와 변경 번호 반환 (UPDATE 문 한 번)
+    @Transactional
+    public TodoResult<Integer> markAll(final Long userId, final boolean done) {
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 증분 동기화용 변경 번호
+
+        int updated;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            updated = todoRepository.updateDoneByUserId(userId, done, changeSeq,
+                    done ? Instant.now() : null); // 상태가 다른 항목만 변경
+            todoCounters.adjust(userId, 0, done ? updated : -updated); // 완료 항목 수 증감
+
+            // 캐시된 목록에서 상태가 다른 항목만 교체 (새 버전은 캐시된 버전 + 1)
+            mutation.apply(changeSeq, todos -> todos.stream()
+                    .map(todo -> todo.isDone() == done ? todo : new TodoDTO(todo.getId(), todo.getTitle(), done,
+                            todo.getVersion() == null ? null : todo.getVersion() + 1, todo.getPosition(), todo.getTags()))
+                    .toList());
+        }
+
+        if (updated > 0) {
+            eventPublisher.publishEvent(TodoChangedEvent.resync(userId, changeSeq)); // 변경된 항목 ID를 알 수 없음
+        }
+        log.info("Marked {} todos as {} for user {}", updated, done ? "done" : "not done", userId);
+
+        return new TodoResult<>(updated, changeSeq);
+    }
+
+    // 사용자의 완료된 항목을 모두 삭제하고 삭제된 항목 수 반환 (DELETE 문 한 번)
+    // - 삭제된 항목 ID를 알 수 없으므로 이 변경 이전 version 의 증분 동기화는 전체 목록으로 대체
+    @Transactional
+    public TodoResult<Integer> deleteCompleted(final Long userId) {
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 증분 동기화용 변경 번호
+
+        int deleted;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            deleted = todoRepository.deleteDoneByUserId(userId);
+            todoCounters.adjust(userId, -deleted, -deleted); // 항목 수 감소
+            mutation.apply(changeSeq, todos -> todos.stream().filter(todo -> !todo.isDone()).toList()); // 캐시된 목록에서 제거
+        }
 
-            // 삭제 실패 시 예외 발생
-            throw new RuntimeException("error deleting entity" + entity.getId());
+        if (deleted > 0) {
+            todoChangeLog.forceResync(userId, changeSeq);
+            eventPublisher.publishEvent(TodoChangedEvent.resync(userId, changeSeq));
         }
+        log.info("Deleted {} completed todos for user {}", deleted, userId);
+
+        return new TodoResult<>(deleted, changeSeq);
+    }
+
+    // 사용자의 항목 중 id 목록에 포함된 항목을 삭제하고 삭제된 항목 수 반환 (DELETE 문 한 번)
+    @Transactional
+    public TodoResult<Integer> deleteByIds(final Long userId, final Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new TodoResult<>(0, currentVersion(userId));
+        }
+        if (ids.size() > maxBatchOperations) {
+            throw new RuntimeException("Too many ids (max " + maxBatchOperations + ")");
+        }
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 증분 동기화용 변경 번호 (사용자 행 잠금)
 
-        return retrieve(entity.getUserId()); // 사용자 ID로 전체 목록 반환
+        int deleted = 0;
+        Set<Long> targets = Set.of();
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            // 잠금 후 본인 소유로 확인된 ID만 삭제, 삭제 이력, 이벤트에 사용 (applyBatch 와 동일)
+            targets = new HashSet<>(todoRepository.findOwnedIds(userId, new HashSet<>(ids)));
+            if (!targets.isEmpty()) {
+                long done = todoRepository.countDoneByUserIdAndIds(userId, targets); // 삭제 전에 계산
+                deleted = todoRepository.deleteAllByUserIdAndIds(userId, targets);
+                todoCounters.adjust(userId, -deleted, -done); // 항목 수 감소
+            }
+            final Set<Long> removed = targets;
+            mutation.apply(changeSeq, todos -> removeAll(todos, removed)); // 캐시된 목록에서 제거
+        }
+
+        if (deleted > 0) {
+            todoChangeLog.recordDeletes(userId, changeSeq, targets); // 삭제 이력 기록
+            eventPublisher.publishEvent(new TodoChangedEvent(userId, changeSeq, List.of(), List.copyOf(targets)));
+        }
+        log.info("Deleted {} todos by id for user {}", deleted, userId);
+
+        return new TodoResult<>(deleted, changeSeq);
+    }
+
+    // ids 중 cutoff 이전에 완료된 항목을 보관 테이블로 옮기고 옮긴 항목 수 반환
+    // - 사용자 행을 잠근 뒤 조건을 다시 확인 (조회 후 미완료로 바뀌거나 삭제된 항목 제외)
+    // - INSERT ... SELECT, DELETE 두 문장으로 처리하고, 클라이언트에는 삭제로 전달 (삭제 이력, 변경 이벤트)
+    @Transactional
+    public int archive(final Long userId, final Collection<Long> ids, final Instant cutoff) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        flushPending(userId); // 저널의 반영 전 항목을 먼저 반영
+
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 사용자 행 잠금
+
+        List<Long> archived;
+        try (TodoListCache.Mutation mutation = todoListCache.begin(userId)) {
+            archived = todoRepository.findArchivableIds(userId, ids, cutoff);
+            if (!archived.isEmpty()) {
+                todoArchiveRepository.copyFromTodo(userId, archived, Instant.now());
+                todoRepository.deleteAllByUserIdAndIds(userId, archived);
+                todoChangeLog.recordDeletes(userId, changeSeq, archived); // 삭제 이력 기록
+                todoCounters.adjust(userId, -archived.size(), -archived.size()); // 항목 수 감소 (모두 완료 항목)
+            }
+
+            final Set<Long> removed = new HashSet<>(archived);
+            mutation.apply(changeSeq, todos -> removeAll(todos, removed)); // 캐시된 목록에서 제거
+        }
+
+        if (!archived.isEmpty()) {
+            eventPublisher.publishEvent(new TodoChangedEvent(userId, changeSeq, List.of(), archived));
+        }
+        return archived.size();
+    }
+
+    // 특정 사용자의 보관된 항목을 키셋 방식으로 한 페이지 조회 (cursor 이후 항목을 id 순으로 size 개)
+    @Transactional(readOnly = true)
+    public TodoPage<TodoArchiveDTO> retrieveArchivePage(final Long userId, final String cursor, final Integer size) {
+        final int pageSize = pageSize(size);
+        final TodoCursor.Key after = TodoCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 1개 더 조회
+        List<TodoArchiveDTO> dtos = todoArchiveRepository.findPageByUserId(userId, after.id(), Limit.of(pageSize + 1))
+                .stream().map(TodoArchiveDTO::new).toList();
+
+        if (dtos.size() <= pageSize) {
+            return new TodoPage<>(dtos, null); // 마지막 페이지
+        }
+
+        List<TodoArchiveDTO> page = dtos.subList(0, pageSize);
+        return new TodoPage<>(page, TodoCursor.encode(null, page.get(pageSize - 1).getId()));
+    }
+
+    // write-behind 모드: 변경을 저널에 기록하고 (DB 반영 전) 변경 이벤트 발행 (커밋된 변경 번호가 없으므로 0)
+    // - 버전 검사 없이 저널 순서대로 반영되므로 404/409 는 응답하지 않음
+    private TodoDTO submit(final TodoEntity entity, final TodoBatchOperationDTO.Operation op) {
+        if (op != TodoBatchOperationDTO.Operation.CREATE && entity.getId() == null) {
+            throw new RuntimeException("Id is required");
+        }
+
+        TodoDTO recorded = todoWriteBehind.submit(entity.getUserId(), op, new TodoDTO(entity));
+        eventPublisher.publishEvent(op == TodoBatchOperationDTO.Operation.DELETE
+                ? new TodoChangedEvent(entity.getUserId(), 0, List.of(), List.of(recorded.getId()))
+                : new TodoChangedEvent(entity.getUserId(), 0, List.of(recorded), List.of()));
+        log.info("Entity Id: {} is journaled ({})", recorded.getId(), op);
+        return recorded;
+    }
+
+    // write-behind 저널의 모든 반영 전 항목을 새 트랜잭션으로 DB에 반영하고 반영한 사용자 ID 반환 (TodoJournalFlusher 전용)
+    // - 요청 트랜잭션 안에서 호출하지 않음 (직접 변경은 flushPending 으로 그 사용자의 항목만 반영)
+    public Set<Long> flushJournal() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return todoWriteBehind.flush(entries -> transaction.execute(status -> applyJournal(entries)));
+    }
+
+    // 저널을 거치지 않는 변경 전에 사용자의 반영 전 저널 항목을 호출한 쪽 트랜잭션에서 먼저 반영
+    // - 나중에 버전 검사 없이 반영되는 저널 항목이 더 최근의 직접 변경을 덮어쓰지 않도록
+    // - 별도 트랜잭션(커넥션)을 열지 않고 다른 사용자의 항목은 반영하지 않음 (주기 반영이 처리)
+    // - 커밋 후에 반영 전 항목에서 제거 (롤백되면 남아서 다음 반영에서 다시 시도), 반영하지 못하면 변경하지 않고 예외
+    private void flushPending(final Long userId) {
+        List<TodoJournal.Entry> entries = todoWriteBehind.pendingEntries(userId);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        final Map<Long, Long> ids = applyUserJournal(todoWriteBehind.getNodeId(), userId, entries, Instant.now());
+        final long upToSeq = entries.get(entries.size() - 1).seq();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                todoWriteBehind.applied(userId, upToSeq, ids);
+            }
+        });
+    }
+
+    // write-behind 저널 항목을 사용자별로 (userId 순) 반영하고 임시 ID -> 실제 ID 반환 (flushJournal 의 트랜잭션 안에서 실행)
+    private Map<Long, Long> applyJournal(final SortedMap<Long, List<TodoJournal.Entry>> entries) {
+        final String nodeId = todoWriteBehind.getNodeId();
+        final Instant now = Instant.now();
+        Map<Long, Long> ids = new HashMap<>();
+        entries.forEach((userId, userEntries) -> ids.putAll(applyUserJournal(nodeId, userId, userEntries, now)));
+        return ids;
+    }
+
+    // 한 사용자의 저널 항목을 현재 트랜잭션에서 반영하고 임시 ID -> 실제 ID 반환
+    // - 사용자 행을 잠근 뒤 체크포인트를 잠금 조회로 읽어, 다른 트랜잭션(주기 반영 또는 요청 안의 반영)이
+    //   먼저 커밋한 항목은 건너뜀 (같은 항목을 동시에 잡아도 한 번만 반영)
+    // - 항목을 합친 일괄 처리(applyOperations)를 실행하고, 같은 트랜잭션에서 체크포인트(마지막 저널 seq)와 임시 ID 변환 저장
+    // - 이전에 반영된 임시 ID로 온 수정/삭제는 저장된 변환으로 실제 ID로 바꿔서 반영
+    // - 생성된 항목의 임시 ID는 삭제로 전달 (실제 ID로 생성된 항목은 applyOperations 가 전달)
+    private Map<Long, Long> applyUserJournal(final String nodeId, final Long userId,
+                                             final List<TodoJournal.Entry> userEntries, final Instant now) {
+        final long changeSeq = todoChangeLog.nextSeq(userId); // 사용자 행 잠금
+        final long checkpoint = todoJournalCheckpointRepository.lockByNodeIdAndUserId(nodeId, userId)
+                .map(TodoJournalCheckpointEntity::getSeq).orElse(0L);
+        List<TodoJournal.Entry> entries = userEntries.stream().filter(entry -> entry.seq() > checkpoint).toList();
+        Map<Long, Long> ids = new HashMap<>();
+        if (entries.isEmpty()) {
+            return ids; // 이미 반영됨
+        }
+
+        List<TodoBatchOperationDTO> operations = resolveTempIds(nodeId, userId,
+                TodoWriteBehind.coalesce(entries).getOrDefault(userId, List.of()));
+        List<Long> tempIds = new ArrayList<>();
+        for (int from = 0; from < operations.size(); from += maxBatchOperations) {
+            List<TodoBatchOperationDTO> chunk =
+                    operations.subList(from, Math.min(operations.size(), from + maxBatchOperations));
+            List<TodoEntity> affected = applyOperations(userId, chunk, changeSeq); // 생성된 항목이 요청 순서대로 앞에 옴
+
+            int created = 0;
+            for (TodoBatchOperationDTO operation : chunk) {
+                if (operation.getOp() == TodoBatchOperationDTO.Operation.CREATE) {
+                    ids.put(operation.getTodo().getId(), affected.get(created++).getId());
+                    tempIds.add(operation.getTodo().getId());
+                }
+            }
+        }
+        if (!tempIds.isEmpty()) {
+            todoJournalIdRepository.saveAll(tempIds.stream()
+                    .map(tempId -> TodoJournalIdEntity.builder()
+                            .nodeId(nodeId).tempId(tempId).todoId(ids.get(tempId)).createdAt(now).build())
+                    .toList());
+            eventPublisher.publishEvent(new TodoChangedEvent(userId, changeSeq, List.of(), tempIds));
+        }
+
+        todoJournalCheckpointRepository.save(TodoJournalCheckpointEntity.builder()
+                .nodeId(nodeId)
+                .userId(userId)
+                .seq(entries.get(entries.size() - 1).seq())
+                .build());
+        return ids;
+    }
+
+    // 저널 작업 중 이전에 반영된 임시 ID(음수)의 수정/삭제를 실제 ID로 변환 (변환이 없는 작업은 제외)
+    private List<TodoBatchOperationDTO> resolveTempIds(final String nodeId, final Long userId,
+                                                       final List<TodoBatchOperationDTO> operations) {
+        Set<Long> tempIds = new HashSet<>();
+        for (TodoBatchOperationDTO operation : operations) {
+            if (operation.getOp() != TodoBatchOperationDTO.Operation.CREATE && operation.getTodo().getId() < 0) {
+                tempIds.add(operation.getTodo().getId());
+            }
+        }
+        if (tempIds.isEmpty()) {
+            return operations;
+        }
+
+        Map<Long, Long> resolved = new HashMap<>();
+        todoJournalIdRepository.findByNodeIdAndTempIdIn(nodeId, tempIds)
+                .forEach(id -> resolved.put(id.getTempId(), id.getTodoId()));
+
+        List<TodoBatchOperationDTO> result = new ArrayList<>();
+        for (TodoBatchOperationDTO operation : operations) {
+            TodoDTO todo = operation.getTodo();
+            if (operation.getOp() == TodoBatchOperationDTO.Operation.CREATE || todo.getId() >= 0) {
+                result.add(operation);
+            } else if (resolved.containsKey(todo.getId())) {
+                TodoDTO copy = new TodoDTO(resolved.get(todo.getId()), todo.getTitle(), todo.isDone(),
+                        todo.getVersion(), todo.getPosition(), todo.getTags());
+                result.add(TodoBatchOperationDTO.builder().op(operation.getOp()).todo(copy).build());
+            } else {
+                log.warn("Dropping journaled {} of unknown temp id {} for user {}",
+                        operation.getOp(), todo.getId(), userId); // 생성되지 않은 항목 (보존 기간이 지난 변환 포함)
+            }
+        }
+        return result;
+    }
+
+    // 목록에서 항목 조회
+    private static TodoDTO find(final List<TodoDTO> todos, final Long id) {
+        for (TodoDTO todo : todos) {
+            if (todo.getId().equals(id)) {
+                return todo;
+            }
+        }
+        return null;
+    }
+
+    // 목록 순서(position, id) 목록에 항목 추가 또는 교체한 새 목록 반환 (정렬 키가 바뀌었으면 새 위치로 이동)
+    private static List<TodoDTO> upsert(final List<TodoDTO> todos, final TodoDTO todo) {
+        List<TodoDTO> result = new ArrayList<>(todos);
+        result.removeIf(existing -> existing.getId().equals(todo.getId()));
+        int index = Collections.binarySearch(result, todo, TodoDTO.LIST_ORDER);
+        result.add(index >= 0 ? index : -index - 1, todo);
+        return result;
+    }
+
+    // 목록에서 id 집합에 포함된 항목을 제외한 새 목록 반환
+    private static List<TodoDTO> removeAll(final List<TodoDTO> todos, final Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return todos;
+        }
+        List<TodoDTO> result = new ArrayList<>(todos);
+        result.removeIf(todo -> ids.contains(todo.getId()));
+        return result;
     }
 }
@@ -0,0 +1,12 @@
+package com.example.spa_login.todo;
+
+/**
+ * 구독 연결 수 제한을 넘어 GET /todo/stream 연결을 받을 수 없을 때 발생하는 예외
+ * - 컨트롤러에서 503 Service Unavailable 응답으로 변환
+ */
+public class TodoStreamRejectedException extends RuntimeException {
+
+    public TodoStreamRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoSyncStateEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * TodoSyncStateEntity(사용자별 변경 번호)를 관리하는 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface TodoSyncStateRepository extends JpaRepository<TodoSyncStateEntity, Long> {
+
+    // 사용자의 변경 번호를 1 증가 (행이 없으면 1로 생성), 커밋할 때까지 사용자 행 잠금 유지
+    @Modifying
+    @Query(value = "INSERT INTO todo_sync_state (user_id, seq, horizon) VALUES (:userId, 1, 0) " +
+            "ON DUPLICATE KEY UPDATE seq = seq + 1", nativeQuery = true)
+    void incrementSeq(@Param("userId") Long userId);
+
+    // 사용자 행을 커밋할 때까지 잠금 (변경 번호는 그대로, 행이 없으면 MySQL 은 해당 키 범위를 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TodoSyncStateEntity s WHERE s.userId = :userId")
+    Optional<TodoSyncStateEntity> lockByUserId(@Param("userId") Long userId);
+
+    // 사용자의 마지막 변경 번호 조회
+    @Query("SELECT s.seq FROM TodoSyncStateEntity s WHERE s.userId = :userId")
+    long findSeqByUserId(@Param("userId") Long userId);
+
+    // 사용자의 horizon 을 지정한 변경 번호로 올림 (이보다 오래된 version 의 동기화는 전체 목록으로 대체)
+    @Modifying
+    @Query("UPDATE TodoSyncStateEntity s SET s.horizon = :horizon WHERE s.userId = :userId AND s.horizon < :horizon")
+    int raiseHorizon(@Param("userId") Long userId, @Param("horizon") long horizon);
+
+    // 보존 기간이 지난 삭제 이력이 있는 사용자의 horizon 을 정리될 이력의 가장 큰 변경 번호로 올림
+    // - raiseHorizon 과 같이 올리기만 함 (forceResync 가 먼저 올린 horizon 을 낮추지 않음, 이력이 없으면 비교가 NULL 이라 제외)
+    @Modifying
+    @Query("UPDATE TodoSyncStateEntity s SET s.horizon = " +
+            "(SELECT MAX(c.seq) FROM TodoChangeLogEntity c WHERE c.userId = s.userId AND c.createdAt < :cutoff) " +
+            "WHERE s.horizon < " +
+            "(SELECT MAX(c.seq) FROM TodoChangeLogEntity c WHERE c.userId = s.userId AND c.createdAt < :cutoff)")
+    int raiseHorizons(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,299 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 Todo 완료 여부/태그 비트맵 인덱스 (Roaring 압축 비트맵, 항목 ID 집합)
+ * - 필터 조건을 비트맵 AND/OR/ANDNOT 으로 계산하고, 결과 항목만 목록 순서로 정렬하여 반환 (행을 하나씩 검사하지 않음)
+ * - 인덱스는 사용자의 첫 필터 조회 때 목록으로 한 번 만들고, 이후에는 TodoChangedEvent 의 항목별 변경(생성/수정, 삭제)만
+ *   반영 (변경마다 목록 전체를 다시 검사하지 않음, 변경 항목 수와 태그 수에 비례)
+ * - 커밋 후 이벤트는 스레드마다 순서가 바뀌어 도착할 수 있으므로 버전이 더 낮은 항목은 무시하고,
+ *   삭제된 ID는 기록해 두어 늦게 도착한 이전 변경으로 다시 추가되지 않도록 함 (ID는 재사용되지 않음)
+ * - 목록을 조회하기 전에 빈 인덱스를 먼저 등록하므로 조회 중에 커밋된 변경도 이벤트로 반영됨
+ * - 변경된 항목을 특정할 수 없는 일괄 변경(resync 이벤트)이면 사용자 인덱스를 제거 (다음 조회 때 다시 생성)
+ * - 인덱스가 반영한 변경 번호를 보관: 이벤트의 변경 번호가 건너뛰면(다른 인스턴스의 변경) 인덱스를 제거하고,
+ *   조회 시 현재 목록 버전보다 뒤처져 있으면 목록으로 다시 생성
+ * - 사용자 수(todo.tag-index.max-users) 기준으로 크기 제한, 가장 오래 사용하지 않은 사용자부터 제거
+ */
+@Component
+public class TodoTagIndex {
+
+    private static final Roaring64Bitmap EMPTY = new Roaring64Bitmap(); // 없는 태그 (읽기 전용으로만 사용)
+
+    private final boolean enabled; // 인덱스 사용 여부 (false 면 목록을 차례로 검사)
+    private final int maxUsers; // 최대 보관 사용자 수
+
+    // userId -> 인덱스 (접근 순서 유지)
+    private final LinkedHashMap<Long, UserIndex> indexes = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 통계 카운터
+    private final LongAdder builds = new LongAdder(); // 목록으로 만든 횟수
+    private final LongAdder updates = new LongAdder(); // 변경 이벤트 반영 횟수
+
+    public TodoTagIndex(@Value("${todo.tag-index.enabled:true}") boolean enabled,
+                        @Value("${todo.tag-index.max-users:10000}") int maxUsers,
+                        MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxUsers = maxUsers;
+
+        FunctionCounter.builder("todo.tag-index.builds", builds, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("todo.tag-index.updates", updates, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("todo.tag-index.users", this, TodoTagIndex::size).register(meterRegistry);
+    }
+
+    // 사용자의 목록에서 조건에 맞는 항목을 목록 순서로 반환
+    // - 인덱스가 없거나 반영한 변경 번호가 version 보다 낮을 때만 loader 로 목록(변경 번호 version 이상) 조회
+    public List<TodoDTO> filter(Long userId, long version, Supplier<TodoListCache.Snapshot> loader, TodoFilter filter) {
+        if (!enabled || userId == null) {
+            return loader.get().todos().stream().filter(todo -> matches(todo, filter)).toList();
+        }
+
+        UserIndex index = index(userId, version);
+        boolean built;
+        synchronized (index) {
+            built = index.built;
+        }
+        if (!built) {
+            TodoListCache.Snapshot snapshot = loader.get(); // 목록 조회 중에는 인덱스를 잠그지 않음 (이벤트 반영을 막지 않도록)
+            synchronized (index) {
+                if (!index.built) {
+                    builds.increment();
+                }
+                index.build(snapshot);
+            }
+        }
+
+        synchronized (index) {
+            return index.collect(index.evaluate(filter));
+        }
+    }
+
+    // 커밋된 변경을 사용자 인덱스에 반영 (인덱스가 없으면 다음 조회 때 목록으로 만듦)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (!enabled || event.userId() == null) {
+            return;
+        }
+
+        UserIndex index;
+        synchronized (this) {
+            if (event.resync()) {
+                indexes.remove(event.userId());
+                return;
+            }
+            index = indexes.get(event.userId());
+        }
+        if (index == null) {
+            return;
+        }
+
+        synchronized (index) {
+            if (index.advance(event.seq())) {
+                event.deletedIds().forEach(index::remove);
+                event.todos().forEach(index::upsert);
+                updates.increment();
+                return;
+            }
+        }
+        synchronized (this) {
+            indexes.remove(event.userId(), index); // 받지 못한 변경이 있음 (다음 조회 때 다시 생성)
+        }
+    }
+
+    public synchronized int size() {
+        return indexes.size();
+    }
+
+    public long getBuildCount() {
+        return builds.sum();
+    }
+
+    public long getUpdateCount() {
+        return updates.sum();
+    }
+
+    // 사용자 인덱스 조회 (없거나 version 보다 뒤처져 있으면 빈 인덱스 추가 후 크기 제한 적용)
+    private synchronized UserIndex index(Long userId, long version) {
+        UserIndex index = indexes.get(userId);
+        if (index != null) {
+            synchronized (index) {
+                if (index.built && index.seq < version) {
+                    index = null;
+                }
+            }
+        }
+        if (index == null) {
+            index = new UserIndex();
+            indexes.put(userId, index);
+        }
+        if (indexes.size() > maxUsers) {
+            Long eldest = indexes.keySet().iterator().next();
+            indexes.remove(eldest);
+        }
+        return index;
+    }
+
+    // 인덱스를 쓰지 않을 때의 항목별 조건 검사
+    private static boolean matches(TodoDTO todo, TodoFilter filter) {
+        if (filter.done() != null && todo.isDone() != filter.done()) {
+            return false;
+        }
+
+        Set<String> tags = todo.getTags() == null ? Set.of() : todo.getTags();
+        if (!filter.tags().isEmpty()) {
+            boolean matched = filter.matchAll()
+                    ? tags.containsAll(filter.tags())
+                    : filter.tags().stream().anyMatch(tags::contains);
+            if (!matched) {
+                return false;
+            }
+        }
+        return filter.excludedTags().stream().noneMatch(tags::contains);
+    }
+
+    // 사용자 한 명의 인덱스 - UserIndex 모니터로 보호
+    private final class UserIndex {
+        private boolean built; // 목록으로 만들었는지 여부 (그 전에도 이벤트는 반영)
+        private long seq; // 반영한 변경 번호
+        private final Map<Long, TodoDTO> items = new HashMap<>(); // id -> 항목
+        private final Roaring64Bitmap all = new Roaring64Bitmap(); // 모든 항목
+        private final Roaring64Bitmap done = new Roaring64Bitmap(); // 완료된 항목
+        private final Map<String, Roaring64Bitmap> tags = new HashMap<>(); // 태그 -> 항목
+        private final Roaring64Bitmap deleted = new Roaring64Bitmap(); // 삭제된 항목 (늦게 도착한 변경 무시)
+
+        // 목록의 항목을 인덱스에 합침 (조회 중에 반영된 더 새로운 변경과 삭제는 유지)
+        void build(TodoListCache.Snapshot snapshot) {
+            snapshot.todos().forEach(this::upsert);
+            seq = Math.max(seq, snapshot.seq());
+            built = true;
+        }
+
+        // 이벤트의 변경 번호 반영 (목록으로 만든 뒤 변경 번호가 건너뛰면 false)
+        // - 0 은 아직 DB에 반영하지 않은 저널 항목 (변경 번호 없음)
+        boolean advance(long changeSeq) {
+            if (built && changeSeq > seq + 1) {
+                return false;
+            }
+            seq = Math.max(seq, changeSeq);
+            return true;
+        }
+
+        // 항목 추가/교체 (삭제된 항목이나 이미 더 새로운 버전이 있으면 무시)
+        void upsert(TodoDTO todo) {
+            if (deleted.contains(todo.getId())) {
+                return;
+            }
+            TodoDTO previous = items.get(todo.getId());
+            if (previous == todo) {
+                return;
+            }
+            if (previous != null) {
+                if (previous.getVersion() != null && todo.getVersion() != null
+                        && previous.getVersion() > todo.getVersion()) {
+                    return;
+                }
+                unindex(previous);
+            }
+            items.put(todo.getId(), todo);
+            all.addLong(todo.getId());
+            index(todo);
+        }
+
+        // 항목 삭제
+        void remove(Long id) {
+            deleted.addLong(id);
+            TodoDTO previous = items.remove(id);
+            if (previous != null) {
+                all.removeLong(id);
+                unindex(previous);
+            }
+        }
+
+        // 필터 조건을 비트맵 연산으로 계산
+        Roaring64Bitmap evaluate(TodoFilter filter) {
+            Roaring64Bitmap result = all.clone();
+
+            if (filter.done() != null) {
+                if (filter.done()) {
+                    result.and(done);
+                } else {
+                    result.andNot(done);
+                }
+            }
+
+            if (!filter.tags().isEmpty()) {
+                Roaring64Bitmap tagged = null;
+                for (String tag : filter.tags()) {
+                    Roaring64Bitmap members = tags.getOrDefault(tag, EMPTY);
+                    if (tagged == null) {
+                        tagged = members.clone();
+                    } else if (filter.matchAll()) {
+                        tagged.and(members);
+                    } else {
+                        tagged.or(members);
+                    }
+                }
+                result.and(tagged);
+            }
+
+            for (String tag : filter.excludedTags()) {
+                Roaring64Bitmap members = tags.get(tag);
+                if (members != null) {
+                    result.andNot(members);
+                }
+            }
+            return result;
+        }
+
+        // 결과 항목을 목록 순서로 정렬하여 반환 (결과 항목 수만큼만 처리)
+        List<TodoDTO> collect(Roaring64Bitmap result) {
+            List<TodoDTO> matched = new ArrayList<>((int) result.getLongCardinality());
+            result.forEach(id -> matched.add(items.get(id)));
+            matched.sort(TodoDTO.LIST_ORDER);
+            return matched;
+        }
+
+        private void index(TodoDTO todo) {
+            if (todo.isDone()) {
+                done.addLong(todo.getId());
+            }
+            if (todo.getTags() != null) {
+                for (String tag : todo.getTags()) {
+                    tags.computeIfAbsent(tag, key -> new Roaring64Bitmap()).addLong(todo.getId());
+                }
+            }
+        }
+
+        private void unindex(TodoDTO todo) {
+            done.removeLong(todo.getId());
+            if (todo.getTags() != null) {
+                for (String tag : todo.getTags()) {
+                    Roaring64Bitmap members = tags.get(tag);
+                    if (members != null) {
+                        members.removeLong(todo.getId());
+                        if (members.isEmpty()) {
+                            tags.remove(tag);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
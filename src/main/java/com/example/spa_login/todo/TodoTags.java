@@ -0,0 +1,44 @@
+package com.example.spa_login.todo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Todo 태그 정규화
+ * - 앞뒤 공백 제거, 소문자 변환, 빈 태그 제외, 중복 제거 (정렬된 수정 불가 집합)
+ * - 쉼표는 컬럼 구분자(TodoTagsConverter)이므로 허용하지 않음
+ */
+public final class TodoTags {
+
+    public static final int MAX_TAGS = 20; // 항목당 최대 태그 수
+    public static final int MAX_LENGTH = 32; // 태그 최대 길이
+
+    private TodoTags() {
+    }
+
+    public static Set<String> normalize(final Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Set.of();
+        }
+
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                continue;
+            }
+            String value = tag.trim().toLowerCase(Locale.ROOT);
+            if (value.length() > MAX_LENGTH || value.contains(",")) {
+                throw new RuntimeException("Invalid tag: " + tag);
+            }
+            normalized.add(value);
+        }
+
+        if (normalized.size() > MAX_TAGS) {
+            throw new RuntimeException("Too many tags (max " + MAX_TAGS + ")");
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+}
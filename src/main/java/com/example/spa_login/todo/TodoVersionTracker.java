@@ -0,0 +1,63 @@
+package com.example.spa_login.todo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 사용자별 목록 버전 = DB에 커밋된 변경 번호(todo_sync_state.seq)를 인스턴스 안에 보관하는 클래스
+ * - 이 인스턴스의 변경은 커밋 후 TodoChangedEvent 의 변경 번호로 올림 (DB 조회 없음)
+ * - 보관한 값이 없거나 todo.version.ttl(기본 5s)이 지나면 DB에서 다시 읽음 (다른 인스턴스의 변경은 TTL 안에 반영)
+ * - 버전은 낮아지지 않음 (늦게 읽은 DB 값이 이벤트로 올린 값을 덮어쓰지 않음)
+ */
+@Component
+public class TodoVersionTracker {
+
+    private record Entry(long seq, long expiresAt) {
+    }
+
+    private final ToLongFunction<Long> loader; // DB에서 사용자의 변경 번호 조회
+    private final long ttlNanos; // DB에서 다시 읽기까지의 시간
+
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TodoVersionTracker(TodoChangeLog todoChangeLog, @Value("${todo.version.ttl:5s}") Duration ttl) {
+        this(userId -> todoChangeLog.state(userId).getSeq(), ttl);
+    }
+
+    TodoVersionTracker(ToLongFunction<Long> loader, Duration ttl) {
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    // 사용자의 현재 버전 조회 (없거나 만료되었으면 DB에서 읽음)
+    public long current(Long userId) {
+        Entry entry = versions.get(userId);
+        if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+            return entry.seq();
+        }
+        return advance(userId, loader.applyAsLong(userId));
+    }
+
+    // 커밋된 변경 번호로 사용자의 버전을 올리고 (이미 더 크면 그대로) 현재 버전 반환, 만료 시각은 새로 계산
+    public long advance(Long userId, long seq) {
+        long expiresAt = System.nanoTime() + ttlNanos;
+        return versions.merge(userId, new Entry(seq, expiresAt),
+                (current, next) -> new Entry(Math.max(current.seq(), next.seq()), expiresAt)).seq();
+    }
+
+    // 변경이 커밋되면 그 변경 번호로 버전을 올림 (write-behind 저널 기록처럼 DB에 커밋되지 않은 변경은 0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.seq() > 0) {
+            advance(event.userId(), event.seq());
+        }
+    }
+}
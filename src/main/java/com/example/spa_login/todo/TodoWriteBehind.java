@@ -0,0 +1,501 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Todo 변경 write-behind 모드 (todo.write-behind.enabled=true 일 때만 사용)
+ * - 생성/수정/삭제를 로컬 저널(TodoJournal)에 기록하고 fsync 후 바로 응답, DB에는 TodoJournalFlusher 가
+ *   짧은 주기로 쌓인 변경을 한 트랜잭션으로 모아서 반영 (group commit: 변경마다 DB 커밋하지 않음)
+ * - 동시에 들어온 변경의 fsync 는 한 번으로 묶음 (TodoJournal.sync)
+ * - 반영 전의 새 항목은 음수 임시 ID(-저널 seq, 노드 안에서 재시작 후에도 반복되지 않음)로 응답하고,
+ *   반영 후에는 실제 ID로 생성되고 임시 ID는 삭제로 전달
+ * - 임시 ID -> 실제 ID 변환은 반영 트랜잭션에서 DB(TodoJournalId)에 함께 저장하므로, 재시작 후에도 이전 임시 ID로 온
+ *   수정/삭제를 실제 항목에 반영
+ * - 목록 조회(TodoService.retrieve/retrieveDtos)는 반영 전 변경을 목록에 겹쳐서 반환 (자신의 변경을 바로 조회)
+ * - 저널은 반영할 때마다 새 파일(세그먼트, journal-path.1, .2, ...)로 넘기고, 반영이 끝난 세그먼트만 삭제
+ *   (DB 트랜잭션 동안 새 변경 기록을 막지 않음)
+ * - DB 반영 트랜잭션에서 노드/사용자별 체크포인트(마지막으로 반영한 저널 seq)도 함께 저장하므로,
+ *   반영 도중이나 세그먼트를 지우기 전에 종료되어도 재시작 시 체크포인트 이후 항목만 다시 반영 (중복 반영 없음)
+ * - 노드 이름(todo.write-behind.node-id)은 노드마다 달라야 함 (체크포인트와 임시 ID 변환을 노드별로 저장, 없으면 기동 실패)
+ * - 한 사용자의 항목이 계속 실패하면 (DB 연결 문제가 아닌 오류로 todo.write-behind.max-attempts 번)
+ *   그 항목을 dead letter 파일(journal-path.dead)로 옮기고 다른 사용자의 반영은 계속 진행
+ * - 저널에 기록된 변경은 버전 검사 없이 순서대로 반영 (마지막 변경이 남음), 없는 항목의 수정/삭제는 무시
+ * - 저널을 거치지 않는 변경(이동, 일괄 처리, 전체 완료 등)은 TodoService 가 그 사용자의 반영 전 항목만 같은 트랜잭션에서
+ *   먼저 반영한 뒤 실행 (나중에 반영된 저널 항목이 더 최근의 직접 변경을 덮어쓰지 않도록, 커밋 후 applied 로 제거)
+ */
+@Slf4j
+@Component
+public class TodoWriteBehind {
+
+    private static final int MAX_RESOLVED = 10_000; // 보관할 임시 ID -> 실제 ID 변환 수
+
+    // 사용자별 저널 항목 반영 (entries: userId 순 사용자별 항목, seq 순), 임시 ID -> 실제 ID 변환 반환
+    // - 같은 트랜잭션에서 사용자별 체크포인트(각 사용자 항목의 마지막 seq)를 저장해야 함
+    @FunctionalInterface
+    public interface Applier {
+        Map<Long, Long> apply(SortedMap<Long, List<TodoJournal.Entry>> entries);
+    }
+
+    // 기록을 마친 세그먼트 (lastSeq: 세그먼트의 마지막 seq)
+    private record Segment(TodoJournal journal, long lastSeq) {
+    }
+
+    private final boolean enabled; // 새 변경을 저널로 받을지 여부
+    private final Path path; // 저널 파일 경로 (세그먼트는 path.1, path.2, ...)
+    private final String nodeId; // 체크포인트 구분용 노드 이름 (저널 파일은 노드마다 따로 있음)
+    private final int maxAttempts; // 항목을 dead letter 로 옮기기 전까지 시도 횟수
+    private final ObjectMapper objectMapper;
+    private final TodoJournalCheckpointRepository checkpointRepository;
+    private final TodoJournalIdRepository idRepository;
+    private Function<Long, Long> tempIdLookup = tempId -> null; // 이미 반영된 임시 ID의 실제 ID 조회 (DB)
+
+    private final Object flushLock = new Object(); // 반영은 한 번에 하나 (새 변경 기록은 막지 않음)
+    private final Map<Long, Integer> failures = new HashMap<>(); // 사용자별 연속 실패 횟수 (flushLock 으로 보호)
+
+    private TodoJournal journal; // 기록 중인 세그먼트
+    private long segmentNo; // 기록 중인 세그먼트 번호
+    private final Deque<Segment> sealed = new ArrayDeque<>(); // 반영이 끝나지 않은 이전 세그먼트 (오래된 순)
+    private TodoJournal deadLetters; // 반영을 포기한 항목
+    private final List<TodoJournal.Entry> pending = new ArrayList<>(); // 반영 전 항목, seq 순 (this 모니터로 보호)
+    private volatile List<TodoJournal.Entry> snapshot = List.of(); // 조회용 반영 전 항목 복사본
+    private long lastSeq; // 마지막 저널 seq (새 항목의 임시 ID는 -seq)
+
+    // 반영된 임시 ID -> 실제 ID (반영 후에도 임시 ID로 오는 요청 변환용, DB 조회 결과도 보관)
+    private final Map<Long, Long> resolved = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_RESOLVED;
+        }
+    };
+
+    public TodoWriteBehind(@Value("${todo.write-behind.enabled:false}") boolean enabled,
+                           @Value("${todo.write-behind.journal-path:data/todo-journal.log}") Path path,
+                           @Value("${todo.write-behind.node-id:}") String nodeId,
+                           @Value("${todo.write-behind.max-attempts:5}") int maxAttempts,
+                           ObjectMapper objectMapper,
+                           TodoJournalCheckpointRepository checkpointRepository,
+                           TodoJournalIdRepository idRepository,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.path = path;
+        this.nodeId = nodeId;
+        this.maxAttempts = maxAttempts;
+        this.objectMapper = objectMapper;
+        this.checkpointRepository = checkpointRepository;
+        this.idRepository = idRepository;
+
+        Gauge.builder("todo.write-behind.pending", this, TodoWriteBehind::pendingCount).register(meterRegistry);
+    }
+
+    // 기동 시 저널 복구: 사용하지 않더라도 이전에 남은 저널이 있으면 반영 대상으로 올림
+    @PostConstruct
+    public void init() {
+        if (!enabled && segments().isEmpty()) {
+            return;
+        }
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException("todo.write-behind.node-id is required for write-behind (unique per node)");
+        }
+
+        Map<Long, Long> checkpoints = new HashMap<>();
+        checkpointRepository.findByNodeId(nodeId).forEach(checkpoint ->
+                checkpoints.put(checkpoint.getUserId(), checkpoint.getSeq()));
+        recover(checkpoints, tempId -> idRepository.findTodoId(nodeId, tempId).orElse(null));
+    }
+
+    // 세그먼트를 열고 사용자별 체크포인트 이후 항목(dead letter 제외)을 반영 전 항목으로 복구, 새 세그먼트에 기록 시작
+    // - tempIdLookup: 반영된 임시 ID의 실제 ID 조회
+    synchronized void recover(final Map<Long, Long> checkpoints, final Function<Long, Long> tempIdLookup) {
+        this.tempIdLookup = tempIdLookup;
+        try {
+            deadLetters = TodoJournal.open(path.resolveSibling(path.getFileName() + ".dead"), objectMapper);
+            Set<Long> dead = new HashSet<>();
+            deadLetters.entries().forEach(entry -> dead.add(entry.seq()));
+
+            long last = Math.max(deadLetters.lastSeq(),
+                    checkpoints.values().stream().mapToLong(Long::longValue).max().orElse(0));
+            for (Path file : segments()) {
+                TodoJournal segment = TodoJournal.open(file, objectMapper);
+                for (TodoJournal.Entry entry : segment.entries()) {
+                    if (entry.seq() > checkpoints.getOrDefault(entry.userId(), 0L) && !dead.contains(entry.seq())) {
+                        pending.add(entry);
+                    }
+                }
+                last = Math.max(last, segment.lastSeq());
+                sealed.add(new Segment(segment, segment.lastSeq()));
+                segmentNo = Math.max(segmentNo, segmentNumber(file));
+            }
+            lastSeq = last;
+            journal = TodoJournal.open(segmentPath(++segmentNo), objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open todo journal " + path, e);
+        }
+
+        snapshot = List.copyOf(pending);
+        release();
+        if (!pending.isEmpty()) {
+            log.warn("Todo journal recovered {} pending entries", pending.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int pendingCount() {
+        return snapshot.size();
+    }
+
+    // 사용자의 반영 전 항목 중 마지막 seq (없으면 0)
+    public long lastPendingSeq(final Long userId) {
+        List<TodoJournal.Entry> entries = snapshot;
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (entries.get(i).userId().equals(userId)) {
+                return entries.get(i).seq();
+            }
+        }
+        return 0;
+    }
+
+    // 사용자의 반영 전 항목 (seq 순)
+    public List<TodoJournal.Entry> pendingEntries(final Long userId) {
+        return snapshot.stream().filter(entry -> entry.userId().equals(userId)).toList();
+    }
+
+    // 주기 반영을 거치지 않고 (TodoService 의 직접 변경 트랜잭션에서) 반영이 커밋된 사용자 항목을 반영 전 항목에서 제거
+    // - 커밋 후에 호출 (롤백되면 항목이 남아 다음 반영에서 다시 시도)
+    public synchronized void applied(final Long userId, final long upToSeq, final Map<Long, Long> ids) {
+        resolved.putAll(ids);
+        pending.removeIf(entry -> entry.userId().equals(userId) && entry.seq() <= upToSeq);
+        snapshot = List.copyOf(pending);
+        release();
+    }
+
+    // 변경을 저널에 기록하고 (fsync 후) 반영 전 항목으로 추가, 응답용 항목 반환 (새 항목은 임시 ID)
+    // - fsync 는 모니터 밖에서 (동시에 기록한 다른 변경과 한 번으로)
+    // - fsync 가 실패하면 예외로 응답하지만 기록된 항목은 반영될 수 있음
+    public TodoDTO submit(final Long userId, final TodoBatchOperationDTO.Operation op, final TodoDTO todo) {
+        TodoDTO recorded = new TodoDTO(todo.getId(), todo.getTitle(), todo.isDone(), null, null, todo.getTags());
+        if (op != TodoBatchOperationDTO.Operation.CREATE) {
+            if (recorded.getId() == null) {
+                throw new RuntimeException("Id is required");
+            }
+            recorded.setId(resolve(recorded.getId()));
+        }
+
+        TodoJournal target;
+        long position;
+        synchronized (this) {
+            TodoJournal.Entry entry = new TodoJournal.Entry(lastSeq + 1, userId, op, recorded);
+            if (op == TodoBatchOperationDTO.Operation.CREATE) {
+                recorded.setId(-entry.seq()); // seq 는 재시작 후에도 반복되지 않음
+            }
+            position = journal.append(entry); // 실패하면 예외 (응답하지 않음)
+            target = journal;
+            lastSeq = entry.seq();
+            pending.add(entry);
+            snapshot = List.copyOf(pending);
+        }
+        target.sync(position);
+        return recorded;
+    }
+
+    // 이미 반영된 임시 ID면 실제 ID, 아니면 그대로 (반영 전 새 항목이거나 변환을 찾지 못하면 반영 시 다시 변환)
+    private Long resolve(final Long id) {
+        if (id >= 0) {
+            return id;
+        }
+        synchronized (this) {
+            Long real = resolved.get(id);
+            if (real != null) {
+                return real;
+            }
+        }
+        Long real = tempIdLookup.apply(id); // 재시작 전에 반영된 임시 ID (모니터 밖에서 조회)
+        if (real == null) {
+            return id;
+        }
+        synchronized (this) {
+            resolved.put(id, real);
+        }
+        return real;
+    }
+
+    // 반영 전 항목을 사용자 목록(목록 순서)에 겹친 목록 반환 (반영 전 항목이 없으면 그대로 반환)
+    public List<TodoDTO> overlay(final Long userId, final List<TodoDTO> todos) {
+        List<TodoJournal.Entry> entries = snapshot;
+        if (entries.isEmpty() || entries.stream().noneMatch(entry -> entry.userId().equals(userId))) {
+            return todos;
+        }
+
+        Map<Long, TodoDTO> items = new LinkedHashMap<>();
+        todos.forEach(todo -> items.put(todo.getId(), todo));
+        String last = todos.stream().map(TodoDTO::getPosition).filter(Objects::nonNull)
+                .max(String::compareTo).orElse(null); // 목록의 마지막 정렬 키
+
+        for (TodoJournal.Entry entry : entries) {
+            if (!entry.userId().equals(userId)) {
+                continue;
+            }
+            TodoDTO todo = entry.todo();
+            switch (entry.op()) {
+                case CREATE -> {
+                    last = TodoPosition.after(last); // 목록 끝에 추가
+                    items.put(todo.getId(), new TodoDTO(todo.getId(), todo.getTitle(), todo.isDone(), null, last,
+                            todo.getTags()));
+                }
+                case UPDATE -> items.computeIfPresent(todo.getId(), (id, current) -> new TodoDTO(id,
+                        todo.getTitle(), todo.isDone(), null, current.getPosition(), todo.getTags()));
+                case DELETE -> items.remove(todo.getId());
+            }
+        }
+
+        List<TodoDTO> result = new ArrayList<>(items.values());
+        result.sort(TodoDTO.LIST_ORDER);
+        return result;
+    }
+
+    // 반영 전 항목을 DB에 반영하고, 반영했거나 dead letter 로 옮긴 항목의 사용자 ID 반환
+    // - 모든 사용자를 한 트랜잭션으로 먼저 시도하고, 실패하면 사용자별 트랜잭션으로 나눠서 다시 시도
+    // - 실패한 사용자의 항목은 그대로 두고 다음 주기에 다시 시도 (아무도 반영하지 못하면 예외)
+    // - DB 트랜잭션 동안 모니터를 잡지 않음 (반영할 항목을 정한 뒤 새 세그먼트로 넘김)
+    public Set<Long> flush(final Applier applier) {
+        synchronized (flushLock) {
+            List<TodoJournal.Entry> batch;
+            TodoJournal full;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return Set.of();
+                }
+                batch = List.copyOf(pending);
+                full = rotate();
+            }
+            if (full != null) {
+                full.sync(Long.MAX_VALUE); // 반영 전에 세그먼트 전체를 디스크에 반영
+            }
+
+            SortedMap<Long, List<TodoJournal.Entry>> entries = new TreeMap<>(); // 사용자 행 잠금 순서 고정
+            batch.forEach(entry -> entries.computeIfAbsent(entry.userId(), id -> new ArrayList<>()).add(entry));
+
+            Map<Long, Long> ids = new HashMap<>();
+            Set<Long> done = new HashSet<>();
+            try {
+                ids.putAll(applier.apply(entries));
+                done.addAll(entries.keySet());
+                entries.keySet().forEach(failures::remove);
+            } catch (RuntimeException e) {
+                if (entries.size() == 1) {
+                    failed(entries.firstKey(), entries.get(entries.firstKey()), e, done);
+                } else {
+                    log.warn("Todo journal flush failed, retrying {} users separately: {}", entries.size(), e.getMessage());
+                    entries.forEach((userId, userEntries) -> {
+                        try {
+                            ids.putAll(applier.apply(new TreeMap<>(Map.of(userId, userEntries))));
+                            done.add(userId);
+                            failures.remove(userId);
+                        } catch (RuntimeException userFailure) {
+                            failed(userId, userEntries, userFailure, done);
+                        }
+                    });
+                }
+                if (done.isEmpty()) {
+                    throw e;
+                }
+            }
+
+            long batchSeq = batch.get(batch.size() - 1).seq();
+            synchronized (this) {
+                resolved.putAll(ids);
+                pending.removeIf(entry -> entry.seq() <= batchSeq && done.contains(entry.userId()));
+                snapshot = List.copyOf(pending);
+                release();
+            }
+            return done;
+        }
+    }
+
+    // 사용자의 항목 반영 실패 처리: DB 연결 문제가 아닌 오류가 max-attempts 번 이어지면 dead letter 로 옮김
+    private void failed(final Long userId, final List<TodoJournal.Entry> entries, final RuntimeException e,
+                        final Set<Long> done) {
+        if (isTransient(e)) {
+            return; // DB를 사용할 수 없는 동안은 포기하지 않고 다시 시도
+        }
+        int attempts = failures.merge(userId, 1, Integer::sum);
+        if (attempts < maxAttempts) {
+            log.warn("Todo journal entries of user {} failed ({}/{}): {}", userId, attempts, maxAttempts, e.getMessage());
+            return;
+        }
+
+        long position = 0;
+        for (TodoJournal.Entry entry : entries) {
+            position = deadLetters.append(entry);
+        }
+        deadLetters.sync(position);
+        failures.remove(userId);
+        done.add(userId);
+        log.error("Moved {} todo journal entries of user {} to dead letter after {} attempts",
+                entries.size(), userId, attempts, e);
+    }
+
+    // 다시 시도하면 성공할 수 있는 오류 (DB 연결 실패, 타임아웃 등)
+    private static boolean isTransient(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 기록 중인 세그먼트를 닫고 새 세그먼트로 넘김, 닫은 세그먼트 반환 (기록된 항목이 없으면 null)
+    private TodoJournal rotate() {
+        if (journal.isEmpty()) {
+            return null;
+        }
+        TodoJournal next;
+        try {
+            next = TodoJournal.open(segmentPath(segmentNo + 1), objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open todo journal segment", e);
+        }
+        TodoJournal full = journal;
+        sealed.add(new Segment(full, lastSeq));
+        journal = next;
+        segmentNo++;
+        return full;
+    }
+
+    // 반영 전 항목이 남아 있지 않은 이전 세그먼트 삭제
+    private void release() {
+        long oldest = pending.isEmpty() ? Long.MAX_VALUE : pending.get(0).seq();
+        while (!sealed.isEmpty() && sealed.peekFirst().lastSeq() < oldest) {
+            sealed.pollFirst().journal().delete();
+        }
+    }
+
+    private Path segmentPath(final long number) {
+        return path.resolveSibling(path.getFileName() + "." + number);
+    }
+
+    // 세그먼트 번호 (이전 버전의 단일 저널 파일은 0, 세그먼트가 아니면 -1)
+    private long segmentNumber(final Path file) {
+        String name = file.getFileName().toString();
+        String base = path.getFileName().toString();
+        if (name.equals(base)) {
+            return 0;
+        }
+        String suffix = name.startsWith(base + ".") ? name.substring(base.length() + 1) : "";
+        return !suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) ? Long.parseLong(suffix) : -1;
+    }
+
+    // 남아 있는 세그먼트 파일 (번호 순)
+    private List<Path> segments() {
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> segmentNumber(file) >= 0)
+                    .sorted(Comparator.comparingLong(this::segmentNumber))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list todo journal segments in " + dir, e);
+        }
+    }
+
+    // 저널 항목을 사용자별 일괄 처리 작업으로 합침 (같은 항목의 변경은 마지막 상태 하나로)
+    // - 반영 전 새 항목(임시 ID)의 수정은 생성 작업에 합치고, 삭제되면 생성하지 않음
+    // - 이전에 반영된 새 항목의 임시 ID로 온 수정/삭제는 그대로 두고 반영 시 실제 ID로 변환 (TodoService.applyJournal)
+    // - 작업 순서: 생성(요청 순서), 수정, 삭제 (TodoService.applyBatch 처리 순서와 같음)
+    static SortedMap<Long, List<TodoBatchOperationDTO>> coalesce(final List<TodoJournal.Entry> entries) {
+        Map<Long, Map<Long, TodoDTO>> creates = new HashMap<>(); // userId -> 임시 ID -> 생성할 항목
+        Map<Long, Map<Long, TodoDTO>> updates = new HashMap<>(); // userId -> ID -> 마지막 수정 내용
+        Map<Long, Set<Long>> deletes = new HashMap<>(); // userId -> 삭제할 ID
+
+        for (TodoJournal.Entry entry : entries) {
+            Long userId = entry.userId();
+            TodoDTO todo = entry.todo();
+            Map<Long, TodoDTO> userCreates = creates.computeIfAbsent(userId, id -> new LinkedHashMap<>());
+            switch (entry.op()) {
+                case CREATE -> userCreates.put(todo.getId(), todo);
+                case UPDATE -> {
+                    if (userCreates.containsKey(todo.getId())) {
+                        userCreates.put(todo.getId(), todo); // 반영 전 새 항목은 생성 내용 교체
+                    } else {
+                        updates.computeIfAbsent(userId, id -> new LinkedHashMap<>()).put(todo.getId(), todo);
+                    }
+                }
+                case DELETE -> {
+                    if (userCreates.remove(todo.getId()) == null) {
+                        deletes.computeIfAbsent(userId, id -> new LinkedHashSet<>()).add(todo.getId());
+                    }
+                }
+            }
+        }
+
+        SortedMap<Long, List<TodoBatchOperationDTO>> batches = new TreeMap<>(); // 사용자 행 잠금 순서 고정
+        for (Long userId : creates.keySet()) {
+            List<TodoBatchOperationDTO> operations = new ArrayList<>();
+            for (TodoDTO todo : creates.get(userId).values()) {
+                operations.add(operation(TodoBatchOperationDTO.Operation.CREATE, todo));
+            }
+            for (TodoDTO todo : updates.getOrDefault(userId, Map.of()).values()) {
+                operations.add(operation(TodoBatchOperationDTO.Operation.UPDATE, todo));
+            }
+            for (Long id : deletes.getOrDefault(userId, Set.of())) {
+                operations.add(operation(TodoBatchOperationDTO.Operation.DELETE, TodoDTO.builder().id(id).build()));
+            }
+            if (!operations.isEmpty()) {
+                batches.put(userId, operations);
+            }
+        }
+        return batches;
+    }
+
+    private static TodoBatchOperationDTO operation(final TodoBatchOperationDTO.Operation op, final TodoDTO todo) {
+        return TodoBatchOperationDTO.builder().op(op).todo(todo).build();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        for (Segment segment : sealed) {
+            segment.journal().close();
+        }
+        if (deadLetters != null) {
+            deadLetters.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spa_login.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 보관된 Todo 항목 응답 (GET /todo/archive)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TodoArchiveDTO {
+
+    private Long id; // 원래 항목 ID
+    private String title; // 할 일 제목
+    private Set<String> tags; // 태그
+    private Instant completedAt; // 완료 시각
+    private Instant archivedAt; // 보관 시각
+
+    public TodoArchiveDTO(final TodoArchiveEntity entity) {
+        this.id = entity.getId();
+        this.title = entity.getTitle();
+        this.tags = entity.getTags();
+        this.completedAt = entity.getCompletedAt();
+        this.archivedAt = entity.getArchivedAt();
+    }
+}
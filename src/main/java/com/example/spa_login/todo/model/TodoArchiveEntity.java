@@ -0,0 +1,45 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 보관된(오래전에 완료된) Todo 항목 (cold 테이블)
+ * - TodoArchiver 가 Todo 테이블에서 옮겨 옴 (id 는 원래 항목의 id 그대로 사용)
+ * - 목록 조회(GET /todo)에는 포함되지 않고 GET /todo/archive 로만 조회
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "TodoArchive",
+        indexes = @Index(name = "idx_todo_archive_user_id_id", columnList = "userId, id") // 사용자별 키셋 페이지네이션용 인덱스
+)
+public class TodoArchiveEntity {
+
+    @Id
+    private Long id; // 원래 항목 ID
+
+    private Long userId; // 사용자 ID
+
+    private String title; // 할 일 제목
+
+    @Column(length = 64)
+    private String position; // 보관 당시 정렬 키
+
+    @Convert(converter = TodoTagsConverter.class)
+    @Column(length = 1024)
+    @Builder.Default
+    private Set<String> tags = Set.of(); // 태그
+
+    private Instant completedAt; // 완료 시각
+
+    private Instant archivedAt; // 보관 시각
+}
@@ -0,0 +1,34 @@
+package com.example.spa_login.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Todo 일괄 처리 요청의 개별 작업
+ * - op: CREATE, UPDATE, DELETE
+ * - todo: 작업 대상 (CREATE는 id 무시, DELETE는 id만 사용)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TodoBatchOperationDTO {
+
+    private Operation op;
+    private TodoDTO todo;
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+}
+
+/**
+ ## 요청 예시 (POST /todo/batch)
+ [
+ {"op":"CREATE", "todo":{"title":"할 일 1", "done":false}},
+ {"op":"UPDATE", "todo":{"id":3, "title":"할 일 3", "done":true}},
+ {"op":"DELETE", "todo":{"id":5}}
+ ]
+ */
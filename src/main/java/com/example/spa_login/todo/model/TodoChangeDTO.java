@@ -0,0 +1,37 @@
+package com.example.spa_login.todo.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Todo 변경 알림 (GET /todo/stream 의 "todo" 이벤트 데이터)
+ * - todos: 생성/수정된 항목 (클라이언트는 id 기준으로 추가 또는 교체)
+ * - deletedIds: 삭제된 항목 ID
+ * - version: 변경 후 목록 버전 (GET /todo/sync 응답에서는 다음 요청의 since 로 사용할 변경 번호)
+ * - full: GET /todo/sync 응답에서 증분이 아닌 전체 목록인지 여부 (true 이면 클라이언트 목록을 todos 로 교체)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TodoChangeDTO {
+
+    private long version;
+    private List<TodoDTO> todos;
+    private Collection<Long> deletedIds;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean full;
+}
+
+/**
+ ## 이벤트 예시
+ event: todo
+ data: {"version":1760000000000001,"todos":[{"id":3,"title":"할 일 3","done":true,"version":2}],"deletedIds":[5]}
+ */
@@ -0,0 +1,42 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 삭제된 Todo 항목의 변경 이력 (증분 동기화의 삭제 표시)
+ * - 생성/수정은 TodoEntity.changeSeq 로 조회하므로 삭제만 기록
+ * - 보존 기간이 지난 이력은 TodoChangeLog.compact() 가 정리
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "TodoChangeLog",
+        indexes = @Index(name = "idx_todo_change_log_user_id_seq", columnList = "userId, seq") // 사용자별 증분 조회용 인덱스
+)
+public class TodoChangeLogEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_change_log_seq")
+    @SequenceGenerator(name = "todo_change_log_seq", sequenceName = "todo_change_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId; // 사용자 ID
+
+    @Column(nullable = false)
+    private long seq; // 삭제가 일어난 변경 번호
+
+    @Column(nullable = false)
+    private Long todoId; // 삭제된 항목 ID
+
+    @Column(nullable = false)
+    private Instant createdAt; // 기록 시각 (보존 기간 판단)
+}
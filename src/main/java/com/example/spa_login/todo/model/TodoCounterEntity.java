@@ -0,0 +1,29 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Todo 항목 수 (GET /todo/summary)
+ * - 생성/삭제/완료 여부 변경 트랜잭션에서 함께 갱신하고, TodoCounterRepairer 가 주기적으로 Todo 테이블 기준으로 다시 계산
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "TodoCounter")
+public class TodoCounterEntity {
+
+    @Id
+    private Long userId; // 사용자 ID
+
+    @Column(nullable = false)
+    private long total; // 전체 항목 수
+
+    @Column(nullable = false)
+    private long done; // 완료된 항목 수
+}
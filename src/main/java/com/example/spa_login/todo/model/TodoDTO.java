@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Comparator;
+import java.util.Set;
+
 /**
  * 클라이언트와의 데이터 전송을 위한 Todo DTO 클래스
  */
@@ -14,23 +17,36 @@ import lombok.NoArgsConstructor;
 @Data
 public class TodoDTO {
 
+    // 목록 순서 (DB 의 ORDER BY t.position, t.id 와 같음, position 이 없는 항목이 맨 앞)
+    public static final Comparator<TodoDTO> LIST_ORDER = Comparator
+            .comparing(TodoDTO::getPosition, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(TodoDTO::getId);
+
     private Long id;
     private String title;
     private boolean done;
+    private Long version; // 항목 버전 (수정/삭제 요청 시 보내면 동시 수정 충돌을 감지)
+    private String position; // 목록 순서 정렬 키 (문자열 비교 순서가 목록 순서, 서버에서만 지정, 수정 응답/이벤트에서 null 이면 변경 없음)
+    private Set<String> tags; // 태그 (수정 시 보낸 태그로 교체)
 
     // 엔터티 객체를 기반으로 DTO를 생성하는 생성자
     public TodoDTO(final TodoEntity entity) {
         this.id = entity.getId();
         this.title = entity.getTitle();
         this.done = entity.isDone();
+        this.version = entity.getVersion();
+        this.position = entity.getPosition();
+        this.tags = entity.getTags();
     }
 
-    // DTO 객체를 엔터티 객채로 변환하는 정적 메서드
+    // DTO 객체를 엔터티 객채로 변환하는 정적 메서드 (position 은 이동 API로만 변경)
     public static TodoEntity toEntity(final TodoDTO dto) {
         return TodoEntity.builder()
                 .id(dto.getId())
                 .title(dto.getTitle())
                 .done(dto.isDone())
+                .version(dto.getVersion())
+                .tags(dto.getTags() == null ? Set.of() : dto.getTags())
                 .build();
     }
 }
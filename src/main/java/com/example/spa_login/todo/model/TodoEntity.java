@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+import java.util.Set;
+
 /**
  * Todo 정보를 저장하는 데이터베이스 테이블과 매핑되는 JPA 엔터티 클래스
  */
@@ -14,11 +17,22 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor // 모든 필드를 포함한 생성자 자동 생성
 @Data // @Getter, @Setter, @ToString, @EqualsAndHashCode 등을 자동 생성
 @Entity // 클래스가 JPA 엔터티임을 명시
-@Table(name = "Todo") // 엔터티가 매핑될 테이블 이름 지정
+@Table(name = "Todo", // 엔터티가 매핑될 테이블 이름 지정
+        indexes = {
+                @Index(name = "idx_todo_user_id_position", columnList = "userId, position, id"), // 사용자별 목록 순서 조회, 키셋 페이지네이션용 인덱스
+                @Index(name = "idx_todo_user_id_change_seq", columnList = "userId, changeSeq"), // 증분 동기화용 인덱스
+                @Index(name = "idx_todo_completed_at", columnList = "completedAt, id") // 보관 대상(오래전에 완료된 항목) 조회용 인덱스
+        }
+)
 public class TodoEntity {
 
+    public static final int ID_ALLOCATION_SIZE = 50; // ID 할당 단위 (TodoSequenceCheck 에서도 사용)
+
     @Id //기본 키(PK) 설정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 자동 증가 전략 사용 (MySQL AUTO_INCREMENT 등)
+    // 시퀀스 전략 + pooled 할당 (한 번에 50개씩 ID 확보): IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음
+    // MySQL처럼 시퀀스가 없는 DB에서는 Hibernate가 todo_seq 테이블로 대체
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id; // 할 일을 고유 ID
 
     private Long userId; // 할 일을 작성한 사용자 ID
@@ -26,4 +40,31 @@ public class TodoEntity {
     private String title; // 할 일 제목 또는 내용
 
     private boolean done; // 완료 여부 (true: 완료, false: 미완료)
+
+    @Column(length = 64)
+    private String position; // 목록 순서 정렬 키 (TodoPosition 참고, 기존 항목은 null 이면 재배치 작업이 부여)
+
+    @Convert(converter = TodoTagsConverter.class)
+    @Column(length = 1024)
+    @Builder.Default
+    private Set<String> tags = Set.of(); // 태그 (TodoTags 로 정규화, 쉼표로 구분하여 한 컬럼에 저장)
+
+    @Version // 낙관적 잠금: 수정될 때마다 1씩 증가
+    @Column(nullable = false)
+    private Long version; // 항목 버전
+
+    private Long changeSeq; // 마지막으로 변경된 사용자별 변경 번호 (증분 동기화용, TodoChangeLog 참고)
+
+    private Instant completedAt; // 완료 시각 (미완료면 null, 보관 작업 기준 - TodoArchiver 참고)
+
+    // 저장/변경 감지 시 완료 여부에 맞춰 완료 시각 설정 (JPQL UPDATE 문은 쿼리에서 직접 설정)
+    @PrePersist
+    @PreUpdate
+    void stampCompletedAt() {
+        if (!done) {
+            completedAt = null;
+        } else if (completedAt == null) {
+            completedAt = Instant.now();
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.spa_login.todo.model;
+
+import java.util.Set;
+
+/**
+ * Todo 목록 필터 조건 (GET /todo/filter)
+ * - done: 완료 여부 (null 이면 조건 없음)
+ * - tags: 포함할 태그 (matchAll 이면 모두 포함 AND, 아니면 하나 이상 포함 OR, 비어 있으면 조건 없음)
+ * - excludedTags: 제외할 태그 (하나라도 있으면 제외 NOT)
+ */
+public record TodoFilter(Boolean done, Set<String> tags, boolean matchAll, Set<String> excludedTags) {
+}
@@ -0,0 +1,43 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * write-behind 저널의 노드/사용자별 체크포인트 (DB에 반영한 사용자의 마지막 저널 seq)
+ * - 저널 항목을 반영하는 트랜잭션에서 함께 갱신하므로, 재시작 시 이 값 이후의 항목만 다시 반영
+ * - 사용자별로 따로 반영될 수 있으므로 (한 사용자의 실패가 다른 사용자를 막지 않도록) 사용자마다 저장
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@IdClass(TodoJournalCheckpointEntity.Key.class)
+@Table(name = "TodoJournalCheckpoint")
+public class TodoJournalCheckpointEntity {
+
+    @Id
+    @Column(length = 64)
+    private String nodeId; // 노드 이름 (todo.write-behind.node-id)
+
+    @Id
+    private Long userId; // 사용자 ID
+
+    @Column(nullable = false)
+    private long seq; // 사용자의 마지막으로 반영한 저널 seq
+
+    // 복합 키 (nodeId, userId)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    public static class Key implements Serializable {
+        private String nodeId;
+        private Long userId;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * write-behind 저널로 생성된 항목의 임시 ID -> 실제 ID 변환
+ * - 저널 항목을 반영하는 트랜잭션에서 함께 저장하므로, 재시작 후에도 이전 임시 ID로 온 수정/삭제를 실제 항목에 반영
+ * - 임시 ID는 노드 안에서만 유일하므로 노드 이름과 함께 조회, 보존 기간이 지나면 TodoJournalFlusher 가 정리
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "TodoJournalId",
+        indexes = @Index(name = "idx_todo_journal_id_node_id_temp_id", columnList = "nodeId, tempId", unique = true)
+)
+public class TodoJournalIdEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_journal_id_seq")
+    @SequenceGenerator(name = "todo_journal_id_seq", sequenceName = "todo_journal_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId; // 임시 ID를 부여한 노드 (todo.write-behind.node-id)
+
+    @Column(nullable = false)
+    private Long tempId; // 임시 ID (음수)
+
+    @Column(nullable = false)
+    private Long todoId; // 생성된 항목의 실제 ID
+
+    @Column(nullable = false)
+    private Instant createdAt; // 반영 시각 (보존 기간 판단)
+}
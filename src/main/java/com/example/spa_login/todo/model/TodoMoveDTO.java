@@ -0,0 +1,31 @@
+package com.example.spa_login.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Todo 항목 이동 요청
+ * - id: 이동할 항목
+ * - afterId: 이동 후 바로 앞에 올 항목 (null 이면 beforeId 항목의 바로 앞, beforeId 가 맨 앞 항목이면 맨 앞)
+ * - beforeId: 이동 후 바로 뒤에 올 항목 (null 이면 afterId 항목의 바로 뒤, afterId 가 맨 뒤 항목이면 맨 뒤)
+ * - 둘 다 보내면 두 항목이 목록에서 바로 이웃해야 함 (아니면 클라이언트 목록이 오래된 것으로 보고 409)
+ * - version: 이동할 항목의 버전 (보내면 버전이 같을 때만 이동)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TodoMoveDTO {
+
+    private Long id;
+    private Long afterId;
+    private Long beforeId;
+    private Long version;
+}
+
+/**
+ ## 요청 예시 (PUT /todo/move): 항목 7을 항목 3과 항목 5 사이로 이동
+ {"id":7, "afterId":3, "beforeId":5}
+ */
@@ -0,0 +1,11 @@
+package com.example.spa_login.todo.model;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 조회 결과
+ * - items: 현재 페이지 항목
+ * - nextCursor: 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record TodoPage<T>(List<T> items, String nextCursor) {
+}
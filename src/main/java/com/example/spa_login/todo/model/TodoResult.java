@@ -0,0 +1,9 @@
+package com.example.spa_login.todo.model;
+
+/**
+ * 변경 결과와 그 결과가 반영한 목록 버전
+ * - value: 변경된 항목 수, 변경된 항목, 변경 후 목록 등
+ * - version: 변경이 커밋한 변경 번호 (응답의 version, 변경 후 다시 조회하지 않음)
+ */
+public record TodoResult<T>(T value, long version) {
+}
@@ -0,0 +1,24 @@
+package com.example.spa_login.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자의 Todo 항목 수 요약 (전체, 완료, 미완료)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TodoSummaryDTO {
+
+    private long total; // 전체 항목 수
+    private long done; // 완료된 항목 수
+    private long open; // 미완료 항목 수
+
+    public static TodoSummaryDTO of(final long total, final long done) {
+        return new TodoSummaryDTO(total, done, total - done);
+    }
+}
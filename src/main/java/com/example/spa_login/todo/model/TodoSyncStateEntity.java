@@ -0,0 +1,30 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 Todo 변경 번호 상태
+ * - seq: 마지막으로 할당한 변경 번호 (변경이 있을 때마다 1씩 증가, 동기화 API의 version)
+ * - horizon: 변경 이력 정리로 삭제된 이력 중 가장 큰 변경 번호 (이보다 오래된 version 으로는 증분 동기화 불가)
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "TodoSyncState")
+public class TodoSyncStateEntity {
+
+    @Id
+    private Long userId; // 사용자 ID
+
+    @Column(nullable = false)
+    private long seq; // 마지막 변경 번호
+
+    @Column(nullable = false)
+    private long horizon; // 보존된 이력의 시작 기준 (이 번호 이하의 삭제 이력은 정리됨)
+}
@@ -0,0 +1,35 @@
+package com.example.spa_login.todo.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Todo 태그 집합 <-> DB 컬럼 문자열 변환 (쉼표로 구분, 정렬된 순서)
+ * - 태그는 TodoTags.normalize() 로 정규화되어 쉼표를 포함하지 않음
+ */
+@Converter
+public class TodoTagsConverter implements AttributeConverter<Set<String>, String> {
+
+    private static final String SEPARATOR = ",";
+
+    @Override
+    public String convertToDatabaseColumn(Set<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        return String.join(SEPARATOR, new TreeSet<>(tags));
+    }
+
+    @Override
+    public Set<String> convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return Set.of();
+        }
+        return Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(column.split(SEPARATOR))));
+    }
+}
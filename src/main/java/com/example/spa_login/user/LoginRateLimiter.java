@@ -0,0 +1,197 @@
+package com.example.spa_login.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도 횟수를 사용자명, 클라이언트 IP 별로 제한하는 토큰 버킷
+ * - GCRA(Generic Cell Rate Algorithm): 버킷마다 "다음 토큰이 채워지는 이론적 시각(TAT)" 하나만 보관
+ * - 버킷은 ConcurrentHashMap 의 AtomicLong 이고 TAT 는 CAS 로만 갱신 (잠금 없음)
+ * - IP 토큰을 먼저 소모하고 사용자명 버킷이 비어 있으면 IP 토큰을 돌려줌 (거절된 시도는 어느 쪽 토큰도 소모하지 않음)
+ * - 키 수가 상한(login.rate-limit.max-keys)이면 새 키는 버킷 없이 허용하고 login.rate-limit.overflow 로 집계
+ *   (사용 중인 버킷을 지우지 않고, 사용자명을 바꿔가며 시도해 표를 채워도 다른 사용자의 로그인을 막지 못함)
+ * - 유휴 버킷(TAT 가 현재 이전 = 가득 참)은 주기적으로 제거, 제거할 버킷은 CAS 로 표시하여 동시에 진행 중인 시도는 새 버킷에서 다시 계산
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final long REMOVED = Long.MIN_VALUE; // 제거된 버킷 표시
+
+    // 키 -> TAT
+    private final ConcurrentHashMap<String, AtomicLong> tats = new ConcurrentHashMap<>();
+
+    private final Limit usernameLimit; // 사용자명 당 제한
+    private final Limit ipLimit; // IP 당 제한
+    private final boolean enabled; // 제한 사용 여부
+    private final int maxKeys; // 최대 버킷 수
+    private final LongSupplier nanoClock; // 현재 시각(ns)
+
+    private Counter rejectedCounter;
+    private Counter overflowCounter;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${login.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${login.rate-limit.username.capacity:5}") int usernameCapacity,
+                            @Value("${login.rate-limit.username.period:1m}") Duration usernamePeriod,
+                            @Value("${login.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${login.rate-limit.ip.period:1m}") Duration ipPeriod,
+                            @Value("${login.rate-limit.max-keys:100000}") int maxKeys,
+                            MeterRegistry meterRegistry) {
+        this(enabled, new Limit(usernameCapacity, usernamePeriod), new Limit(ipCapacity, ipPeriod),
+                maxKeys, System::nanoTime);
+
+        this.rejectedCounter = Counter.builder("login.rate-limit.rejected").register(meterRegistry);
+        this.overflowCounter = Counter.builder("login.rate-limit.overflow").register(meterRegistry);
+        Gauge.builder("login.rate-limit.keys", this, LoginRateLimiter::size).register(meterRegistry);
+    }
+
+    public LoginRateLimiter(boolean enabled, Limit usernameLimit, Limit ipLimit, int maxKeys, LongSupplier nanoClock) {
+        if (maxKeys < 2) {
+            throw new IllegalArgumentException("max-keys must be at least 2");
+        }
+        this.enabled = enabled;
+        this.usernameLimit = usernameLimit;
+        this.ipLimit = ipLimit;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    // 로그인 시도 허용 여부 판단: 허용이면 0, 거절이면 재시도까지 남은 시간(ms)
+    // - username 이 null 이면 IP 버킷만 확인
+    public long tryAcquire(String username, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long now = nanoClock.getAsLong();
+        String ipKey = "ip:" + clientIp;
+        String userKey = username == null ? null : "user:" + username.toLowerCase(Locale.ROOT);
+
+        long waitNanos = acquire(ipKey, ipLimit, now);
+        if (waitNanos == 0 && userKey != null) {
+            waitNanos = acquire(userKey, usernameLimit, now);
+            if (waitNanos > 0) {
+                refund(ipKey, ipLimit); // 사용자명 버킷이 비어 있음 (IP 토큰은 돌려줌)
+            }
+        }
+        if (waitNanos > 0) {
+            if (rejectedCounter != null) {
+                rejectedCounter.increment();
+            }
+            return Math.max(1, Duration.ofNanos(waitNanos).toMillis());
+        }
+
+        return 0;
+    }
+
+    // 키의 버킷에서 토큰 하나를 소모하면 0, 버킷이 비어 있으면 다음 토큰까지 대기 시간(ns)
+    private long acquire(String key, Limit limit, long now) {
+        while (true) {
+            AtomicLong bucket = bucket(key, now);
+            if (bucket == null) {
+                return 0; // 키 수 상한 (버킷 없이 허용)
+            }
+            long tat = bucket.get();
+            while (tat != REMOVED) {
+                long next = next(tat, limit, now);
+                long wait = next - now - limit.burstNanos();
+                if (wait > 0) {
+                    return wait;
+                }
+                if (bucket.compareAndSet(tat, next)) {
+                    return 0;
+                }
+                tat = bucket.get();
+            }
+            // 유휴 버킷 제거와 겹침: 새 버킷에서 다시 계산
+        }
+    }
+
+    // 소모한 토큰 하나를 돌려줌 (TAT 를 한 간격 되돌림)
+    private void refund(String key, Limit limit) {
+        AtomicLong bucket = tats.get(key);
+        if (bucket == null) {
+            return;
+        }
+        long tat = bucket.get();
+        while (tat != REMOVED && !bucket.compareAndSet(tat, tat - limit.intervalNanos())) {
+            tat = bucket.get();
+        }
+    }
+
+    // 키의 버킷 (없으면 유휴 버킷과 같은 TAT=now 로 추가, 키 수가 상한이면 null)
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = tats.get(key);
+        if (bucket != null && bucket.get() != REMOVED) {
+            return bucket;
+        }
+        if (bucket == null && tats.size() >= maxKeys) {
+            if (overflowCounter != null) {
+                overflowCounter.increment();
+            }
+            return null;
+        }
+        return tats.compute(key, (k, current) -> current == null || current.get() == REMOVED
+                ? new AtomicLong(now) : current);
+    }
+
+    // 토큰 하나를 소모한 뒤의 TAT
+    private static long next(long tat, Limit limit, long now) {
+        return Math.max(tat, now) + limit.intervalNanos();
+    }
+
+    // 유휴 버킷 주기적 제거 (TAT가 현재보다 이전이면 버킷이 가득 찬 상태로, 없는 것과 같음)
+    // - 제거 표시(CAS)에 성공한 버킷만 제거하므로 동시에 토큰을 소모한 버킷은 남음
+    @Scheduled(fixedDelayString = "${login.rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = nanoClock.getAsLong();
+        int before = tats.size();
+        tats.values().removeIf(bucket -> {
+            long tat = bucket.get();
+            return tat != REMOVED && tat <= now && bucket.compareAndSet(tat, REMOVED);
+        });
+        log.debug("Login rate limiter swept {} idle buckets", before - tats.size());
+    }
+
+    public int size() {
+        return tats.size();
+    }
+
+    /**
+     * 버킷 설정: capacity 개의 토큰이 period 동안 다시 채워짐
+     */
+    public record Limit(int capacity, Duration period) {
+
+        public Limit {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity must be positive: " + capacity);
+            }
+            if (period == null || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Rate limit period must be positive: " + period);
+            }
+        }
+
+        // 토큰 1개가 채워지는 간격
+        long intervalNanos() {
+            return period.toNanos() / capacity;
+        }
+
+        // 연속으로 허용되는 시도 폭
+        long burstNanos() {
+            return intervalNanos() * capacity;
+        }
+    }
+}
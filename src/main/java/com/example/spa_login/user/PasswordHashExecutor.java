@@ -0,0 +1,85 @@
+package com.example.spa_login.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt encode/matches) 전용 스레드 풀
+ * - 해시 연산을 Tomcat 요청 스레드에서 분리하여 로그인 폭주 시에도 /todo 요청이 처리되도록 함
+ * - 스레드 수는 CPU 코어 수, 대기열은 크기 제한 (대기열이 가득 차면 즉시 거절)
+ * - 대기열 길이, 대기 시간, 거절 횟수를 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int retryAfterSeconds; // 거절 시 클라이언트에게 안내할 재시도 대기 시간(초)
+
+    private final Timer waitTimer; // 작업이 대기열에서 기다린 시간
+    private final Counter rejectedCounter; // 대기열 초과로 거절된 작업 수
+
+    public PasswordHashExecutor(@Value("${password.hash.pool-size:0}") int poolSize,
+                                @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                                @Value("${password.hash.retry-after-seconds:1}") int retryAfterSeconds,
+                                MeterRegistry meterRegistry) {
+        // pool-size가 0 이하면 CPU 코어 수 사용
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), // 크기 제한 대기열
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()); // 대기열 초과 시 RejectedExecutionException
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.waitTimer = Timer.builder("password.hash.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+
+        log.info("Password hash executor started with {} threads, queue capacity {}", threads, queueCapacity);
+    }
+
+    // 해시 작업을 전용 풀에 제출 (대기열이 가득 차면 PasswordHashRejectedException 발생)
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        final long enqueuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hash queue is full (size {})", executor.getQueue().size());
+            throw new PasswordHashRejectedException(retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 해시 전용 스레드 이름 지정
+    private static class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.spa_login.user;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해시 대기열이 가득 차서 요청을 처리할 수 없을 때 발생하는 예외
+ * - 컨트롤러에서 503 Service Unavailable + Retry-After 응답으로 변환
+ */
+@Getter
+public class PasswordHashRejectedException extends RuntimeException {
+
+    private final int retryAfterSeconds; // 재시도까지 대기할 시간(초)
+
+    public PasswordHashRejectedException(int retryAfterSeconds) {
+        super("Too many requests, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.spa_login.user;
+
+import com.example.spa_login.user.model.UserEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 사용자 조회 결과를 보관하는 근거리 캐시 (username, id 두 키로 조회)
+ * - 인증에 필요한 필드만 불변 객체(CachedUser)로 보관하고, 조회 시 새 UserEntity로 복사하여 반환
+ * - TTL 만료 + LRU(접근 순서) 방식으로 크기 제한
+ * - 사용자 정보가 변경되면 write-through 무효화 (UserService.create, update)
+ * - 무효화와 동시에 진행 중이던 DB 조회 결과는 캐시에 저장하지 않음 (세대 번호 비교)
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final boolean enabled; // 캐시 사용 여부
+    private final int maxSize; // 최대 보관 사용자 수
+    private final long ttlNanos; // 항목 유효 시간
+
+    // username -> 캐시 항목 (접근 순서 유지, 가장 오래 사용하지 않은 항목부터 제거)
+    private final LinkedHashMap<String, Entry> byUsername;
+    // id -> username 보조 인덱스
+    private final Map<Long, String> idIndex = new HashMap<>();
+
+    private long generation; // 무효화가 일어날 때마다 증가
+
+    // 캐시 통계 카운터
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserCache(@Value("${user.cache.enabled:true}") boolean enabled,
+                     @Value("${user.cache.max-size:10000}") int maxSize,
+                     @Value("${user.cache.ttl:5m}") Duration ttl,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.byUsername = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > UserCache.this.maxSize) {
+                    idIndex.remove(eldest.getValue().user().id());
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        // 캐시 통계를 Micrometer 메트릭으로 노출
+        FunctionCounter.builder("user.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("user.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("user.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("user.cache.size", this, UserCache::size).register(meterRegistry);
+    }
+
+    // username으로 사용자 조회 (캐시에 없으면 loader로 조회 후 저장)
+    public UserEntity getByUsername(String username, Function<String, UserEntity> loader) {
+        if (!enabled || username == null) {
+            return loader.apply(username);
+        }
+
+        long observedGeneration;
+        synchronized (this) {
+            CachedUser cached = lookup(username);
+            if (cached != null) {
+                hits.increment();
+                return cached.toEntity();
+            }
+            observedGeneration = generation;
+        }
+
+        misses.increment();
+        return load(loader.apply(username), observedGeneration);
+    }
+
+    // id로 사용자 조회 (캐시에 없으면 loader로 조회 후 저장)
+    public UserEntity getById(Long id, Function<Long, UserEntity> loader) {
+        if (!enabled || id == null) {
+            return loader.apply(id);
+        }
+
+        long observedGeneration;
+        synchronized (this) {
+            String username = idIndex.get(id);
+            CachedUser cached = username != null ? lookup(username) : null;
+            if (cached != null) {
+                hits.increment();
+                return cached.toEntity();
+            }
+            observedGeneration = generation;
+        }
+
+        misses.increment();
+        return load(loader.apply(id), observedGeneration);
+    }
+
+    // 사용자 정보 변경 시 캐시 무효화
+    public synchronized void invalidate(UserEntity user) {
+        generation++;
+        if (user == null) {
+            return;
+        }
+
+        if (user.getUsername() != null) {
+            remove(user.getUsername());
+        }
+        if (user.getId() != null) {
+            String username = idIndex.get(user.getId());
+            if (username != null) {
+                remove(username);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return byUsername.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    // 조회 결과 저장 (조회하는 동안 무효화가 있었다면 저장하지 않음)
+    private UserEntity load(UserEntity loaded, long observedGeneration) {
+        if (loaded == null || loaded.getId() == null || loaded.getUsername() == null) {
+            return loaded; // 존재하지 않는 사용자는 캐시하지 않음
+        }
+
+        CachedUser cached = CachedUser.from(loaded);
+        synchronized (this) {
+            if (generation == observedGeneration) {
+                remove(cached.username());
+                byUsername.put(cached.username(), new Entry(cached, System.nanoTime() + ttlNanos));
+                idIndex.put(cached.id(), cached.username());
+            }
+        }
+
+        return cached.toEntity();
+    }
+
+    // 만료되지 않은 항목 조회 (만료된 항목은 제거) - 호출 측에서 동기화
+    private CachedUser lookup(String username) {
+        Entry entry = byUsername.get(username);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            remove(username);
+            evictions.increment();
+            return null;
+        }
+        return entry.user();
+    }
+
+    // 항목과 보조 인덱스 함께 제거 - 호출 측에서 동기화
+    private void remove(String username) {
+        Entry removed = byUsername.remove(username);
+        if (removed != null) {
+            idIndex.remove(removed.user().id());
+        }
+    }
+
+    private record Entry(CachedUser user, long expiresAt) {
+    }
+
+    /**
+     * 인증에 필요한 필드만 담은 불변 사용자 정보
+     */
+    private record CachedUser(Long id, String username, String password, String role, String authProvider) {
+
+        static CachedUser from(UserEntity user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getPassword(),
+                    user.getRole(), user.getAuthProvider());
+        }
+
+        // 호출 측에서 수정해도 캐시에 영향이 없도록 매번 새 엔터티로 복사
+        UserEntity toEntity() {
+            return UserEntity.builder()
+                    .id(id)
+                    .username(username)
+                    .password(password)
+                    .role(role)
+                    .authProvider(authProvider)
+                    .build();
+        }
+    }
+}
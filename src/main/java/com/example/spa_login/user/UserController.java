@@ -4,70 +4,146 @@ import com.example.spa_login.common.model.ResponseDTO;
 import com.example.spa_login.security.jwt.TokenProvider;
 import com.example.spa_login.user.model.UserDTO;
 import com.example.spa_login.user.model.UserEntity;
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * 사용자 회원가입 및 로그인 처리를 담당하는 컨트롤러
+ * - 비밀번호 해시는 PasswordHashExecutor 전용 풀에서 수행 (요청 스레드는 비동기로 반환)
+ * - 해시 풀에는 encode/matches 만 제출하고, 사용자 조회는 요청 스레드, 저장은 비동기 MVC 스레드(applicationTaskExecutor)에서 수행
+ *   (DB 대기가 CPU 코어 수만큼인 해시 스레드를 점유하지 않도록 함)
  */
 @Slf4j
-@RequiredArgsConstructor
 @RestController // @Controller + @ResponseBody
 @RequestMapping("/auth") // "/auth" 경로로 진입하는 요청 처리
 public class UserController {
 
     private final UserService userService;
     private final TokenProvider tokenProvider;
-
-    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final PasswordEncoder passwordEncoder; // PasswordEncoderConfig에서 등록한 인코더
+    private final AsyncTaskExecutor taskExecutor; // 해시 이후의 DB 작업을 수행할 비동기 MVC 풀
+
+    public UserController(UserService userService,
+                          TokenProvider tokenProvider,
+                          PasswordHashExecutor passwordHashExecutor,
+                          LoginRateLimiter loginRateLimiter,
+                          PasswordEncoder passwordEncoder,
+                          @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                          AsyncTaskExecutor taskExecutor) {
+        this.userService = userService;
+        this.tokenProvider = tokenProvider;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.loginRateLimiter = loginRateLimiter;
+        this.passwordEncoder = passwordEncoder;
+        this.taskExecutor = taskExecutor;
+    }
 
     //회원가입 처리 메서드
     @PostMapping("/signup")
-    public ResponseEntity<?> registerUser(@RequestBody UserDTO userDTO) {
-        try {
-            // 비밀번호가 없으면 예외 발생
-            if (userDTO == null || userDTO.getPassword() == null) {
-                throw new RuntimeException("Invalid Password value");
-            }
-
-            // 사용자 엔터티 생성 및 비밀번호 암호화
-            UserEntity user = UserEntity.builder()
-                    .username(userDTO.getUsername())
-                    .password(passwordEncoder.encode(userDTO.getPassword()))
-                    .build();
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody UserDTO userDTO) {
+        // 비밀번호가 없으면 에러 응답
+        if (userDTO == null || userDTO.getPassword() == null) {
+            return CompletableFuture.completedFuture(badRequest("Invalid Password value"));
+        }
 
-            // 사용자 등록
-            UserEntity registeredUser = userService.create(user);
+        try {
+            // 비밀번호 암호화는 전용 풀에서, 사용자 등록(DB)은 비동기 MVC 풀에서 수행
+            return passwordHashExecutor.submit(() -> passwordEncoder.encode(userDTO.getPassword()))
+                    .<ResponseEntity<?>>thenApplyAsync(encodedPassword -> {
+                        // 사용자 엔터티 생성
+                        UserEntity user = UserEntity.builder()
+                                .username(userDTO.getUsername())
+                                .password(encodedPassword)
+                                .build();
+
+                        // 사용자 등록
+                        UserEntity registeredUser = userService.create(user);
+
+                        // 응답 객체 생성 (비밀번호 제외)
+                        UserDTO responseUserDTO = UserDTO.builder()
+                                .id(registeredUser.getId())
+                                .username(registeredUser.getUsername())
+                                .build();
+
+                        return ResponseEntity.ok().body(responseUserDTO); // 200 OK 응답
+                    }, taskExecutor)
+                    // 예외 발생 시 에러 메시지 포함 응답 반환
+                    .exceptionally(e -> badRequest(unwrap(e).getMessage()));
+        } catch (PasswordHashRejectedException e) {
+            return CompletableFuture.completedFuture(serviceUnavailable(e)); // 대기열 초과
+        }
+    }
 
-            // 응답 객체 생성 (비밀번호 제외)
-            UserDTO responseUserDTO = UserDTO.builder()
-                    .id(registeredUser.getId())
-                    .username(registeredUser.getUsername())
-                    .build();
+    // 사용자명 사용 가능 여부 확인 메서드
+    @GetMapping("/username-available")
+    public ResponseEntity<?> isUsernameAvailable(@RequestParam String username, HttpServletRequest request) {
+        if (username.isBlank()) {
+            return badRequest("Invalid username");
+        }
 
-            return ResponseEntity.ok().body(responseUserDTO); // 200 OK 응답
+        // 사용자명 수집(열거) 방지: 로그인과 같은 IP 버킷 사용 (사용자명 버킷은 소모하지 않음)
+        long retryAfterMillis = loginRateLimiter.tryAcquire(null, request.getRemoteAddr());
+        if (retryAfterMillis > 0) {
+            return tooManyRequests(retryAfterMillis);
+        }
 
-        } catch (Exception e) {
-            // 예외 발생 시 에러 메시지 포함 응답 반환
-            ResponseDTO responseDTO = ResponseDTO.builder()
-                    .error(e.getMessage())
-                    .build();
+        ResponseDTO<Boolean> responseDTO = ResponseDTO.<Boolean>builder()
+                .data(List.of(userService.isUsernameAvailable(username)))
+                .build();
 
-            return ResponseEntity.badRequest().body(responseDTO); // 400 Bad Request
-        }
+        return ResponseEntity.ok().body(responseDTO); // 200 OK 응답
     }
 
     // 로그인 처리 메서드
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticate(@RequestBody UserDTO userDTO) {
-        // 입력받은 사용자 정보로 인증 시도
-        UserEntity user = userService.getByCredentials(userDTO.getUsername(),
-                userDTO.getPassword(), passwordEncoder);
+    public CompletableFuture<ResponseEntity<?>> authenticate(@RequestBody UserDTO userDTO,
+                                                             HttpServletRequest request) {
+        // 사용자명, IP 별 로그인 시도 제한 (DB 조회와 비밀번호 검증 이전에 판단)
+        long retryAfterMillis = loginRateLimiter.tryAcquire(userDTO.getUsername(), request.getRemoteAddr());
+        if (retryAfterMillis > 0) {
+            return CompletableFuture.completedFuture(tooManyRequests(retryAfterMillis));
+        }
+
+        // 비밀번호가 없는 요청은 인증 실패 처리 (소셜 로그인 사용자는 저장된 비밀번호가 없음)
+        final String password = userDTO.getPassword();
+        if (password == null) {
+            return CompletableFuture.completedFuture(signinResponse(null));
+        }
+
+        // 사용자 조회(캐시 우선, primary DB)는 요청 스레드에서 수행
+        final UserEntity user = userService.getByUsernameForSignin(userDTO.getUsername());
 
+        try {
+            // 비밀번호 검증(과 필요 시 재해시)만 전용 풀에서, 재해시 저장(DB)과 응답 생성은 비동기 MVC 풀에서 수행
+            return passwordHashExecutor.submit(() -> userService.checkPassword(user, password, passwordEncoder))
+                    .thenApplyAsync(check -> {
+                        if (!check.matched()) {
+                            return signinResponse(null);
+                        }
+                        userService.upgradePassword(user, check.upgradedPassword());
+                        return signinResponse(user);
+                    }, taskExecutor);
+        } catch (PasswordHashRejectedException e) {
+            return CompletableFuture.completedFuture(serviceUnavailable(e)); // 대기열 초과
+        }
+    }
+
+    // 인증 결과로 로그인 응답 생성
+    private ResponseEntity<?> signinResponse(UserEntity user) {
         if (user != null) {
             // 인증 성공 시 JWT 토큰 발급
             final String token = tokenProvider.create(user);
@@ -82,11 +158,45 @@ public class UserController {
             return ResponseEntity.ok().body(responseUserDTO); // 200 OK 응답
         } else {
             // 인증 실패 시 에러 응답
-            ResponseDTO responseDTO = ResponseDTO.builder()
-                    .error("Login failed")
-                    .build();
-
-            return ResponseEntity.badRequest().body(responseDTO); // 400 Bae Request
+            return badRequest("Login failed"); // 400 Bae Request
         }
     }
+
+    // 400 Bad Request 에러 응답 생성
+    private ResponseEntity<?> badRequest(String error) {
+        ResponseDTO responseDTO = ResponseDTO.builder()
+                .error(error)
+                .build();
+
+        return ResponseEntity.badRequest().body(responseDTO);
+    }
+
+    // 해시 대기열 초과 시 503 Service Unavailable + Retry-After 응답 생성
+    private ResponseEntity<?> serviceUnavailable(PasswordHashRejectedException e) {
+        ResponseDTO responseDTO = ResponseDTO.builder()
+                .error(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(responseDTO);
+    }
+
+    // 로그인 시도 제한 초과 시 429 Too Many Requests + Retry-After 응답 생성
+    private ResponseEntity<?> tooManyRequests(long retryAfterMillis) {
+        ResponseDTO responseDTO = ResponseDTO.builder()
+                .error("Too many login attempts")
+                .build();
+
+        long retryAfterSeconds = (retryAfterMillis + 999) / 1000; // 초 단위 올림
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(responseDTO);
+    }
+
+    // CompletableFuture 에서 감싼 예외의 원인 추출
+    private static Throwable unwrap(Throwable e) {
+        return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    }
 }
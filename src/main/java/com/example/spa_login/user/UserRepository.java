@@ -1,9 +1,14 @@
 package com.example.spa_login.user;
 
 import com.example.spa_login.user.model.UserEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 /**
  * UserEntity를 대상으로 DB 접근을 수행하는 JPA 리포지토리 인터페이스
  */
@@ -18,4 +23,9 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     // username과 password가 일치하는 사용자 조회 (로그인 검증에 사용 가능)
     UserEntity findByUsernameAndPassword(String username, String password);
+
+    // 모든 username을 스트리밍으로 조회 (블룸 필터 적재용, 트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.username FROM UserEntity u")
+    Stream<String> streamAllUsernames();
 }
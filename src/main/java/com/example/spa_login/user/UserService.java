@@ -1,8 +1,10 @@
 package com.example.spa_login.user;
 
+import com.example.spa_login.common.datasource.ReadWriteRoutingDataSource;
 import com.example.spa_login.user.model.UserEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache; // 사용자 조회 근거리 캐시
+    private final UsernameBloomFilter usernameBloomFilter; // 존재하는 사용자명 블룸 필터
 
     // 새 사용자를 등록하는 메서드
     public UserEntity create(final UserEntity userEntity) {
@@ -25,26 +29,106 @@ public class UserService {
 
         final String username = userEntity.getUsername(); // 사용자명 추출
 
-        // 이미 같은 사용자 명이 존재하는지 확인
-        if (userRepository.existsByUsername(username)) {
+        // 중복 확인 없이 바로 저장하고, username 유일 제약 조건 위반으로 중복을 감지 (DB 왕복 1회)
+        try {
+            return userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException e) {
             log.warn("Username already exists {}", username); // 중목 경고 로그 출력
             throw new RuntimeException("Username already exists"); // 중복 사용자 예외
+        } finally {
+            userCache.invalidate(userEntity); // 캐시 무효화
+            usernameBloomFilter.put(username); // 저장 성공, 중복 모두 존재하는 사용자명
         }
+    }
+
+    // 사용자명 사용 가능 여부 확인 (블룸 필터에 확실히 없으면 DB 조회 생략)
+    public boolean isUsernameAvailable(final String username) {
+        if (!usernameBloomFilter.mightContain(username)) {
+            return true;
+        }
+
+        return !userRepository.existsByUsername(username);
+    }
+
+    // 사용자 정보를 수정하는 메서드 (수정 후 캐시 무효화)
+    public UserEntity update(final UserEntity userEntity) {
+        if (userEntity == null || userEntity.getId() == null) {
+            throw new RuntimeException("Invalid arguments");
+        }
+
+        try {
+            return userRepository.save(userEntity);
+        } finally {
+            userCache.invalidate(userEntity); // 캐시 무효화
+        }
+    }
 
-        return userRepository.save(userEntity);
+    // username으로 사용자 조회 (캐시 우선)
+    public UserEntity getByUsername(final String username) {
+        return userCache.getByUsername(username, userRepository::findByUsername);
+    }
+
+    // 로그인용 사용자 조회 (캐시 우선, 캐시에 없으면 primary DB에서 조회)
+    // - 로그인 전에는 고정할 사용자가 없어 가입 직후의 로그인이 복제 지연 중인 replica 를 읽고 실패할 수 있으므로 primary 사용
+    public UserEntity getByUsernameForSignin(final String username) {
+        return userCache.getByUsername(username,
+                name -> ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findByUsername(name)));
     }
 
     // 사용자 인증 메서드: username과 password를 비교하여 사용자 반환
+    // - 조회(DB), 검증(해시), 재해시 저장(DB)을 한 스레드에서 차례로 수행 (비동기 호출은 UserController 참고)
     public UserEntity getByCredentials(final String username,
                                        final String password,
                                        final PasswordEncoder passwordEncoder) {
-        final UserEntity originalUser = userRepository.findByUsername(username); // 사용자명으로 사용자 조회
+        // 비밀번호가 없는 요청은 인증 실패 처리 (소셜 로그인 사용자는 저장된 비밀번호가 없음)
+        if (password == null) {
+            return null;
+        }
+
+        final UserEntity originalUser = getByUsernameForSignin(username); // 사용자명으로 사용자 조회 (캐시 우선, primary)
 
         // 사용자 존재 및 비밀번호 일치 여부 확인
-        if (originalUser != null && passwordEncoder.matches(password, originalUser.getPassword())) {
+        PasswordCheck check = checkPassword(originalUser, password, passwordEncoder);
+        if (check.matched()) {
+            upgradePassword(originalUser, check.upgradedPassword()); // 해시 알고리즘/cost 변경 시 재해시
             return originalUser; // 인증 성공 시 사용자 객체 반환
         }
 
         return null; // 인증 실패 시 null 반환
     }
+
+    // 비밀번호 검증 결과 (upgradedPassword: 저장된 해시가 현재 인코더 설정과 다를 때 새로 만든 해시, 아니면 null)
+    public record PasswordCheck(boolean matched, String upgradedPassword) {
+    }
+
+    // 비밀번호 검증과 재해시 (해시 연산만 수행, DB 접근 없음 → PasswordHashExecutor 풀에서 호출 가능)
+    public PasswordCheck checkPassword(final UserEntity user,
+                                       final String password,
+                                       final PasswordEncoder passwordEncoder) {
+        if (user == null || user.getPassword() == null || password == null
+                || !passwordEncoder.matches(password, user.getPassword())) {
+            return new PasswordCheck(false, null);
+        }
+
+        // 저장된 해시가 현재 인코더 설정(알고리즘, cost)과 다르면 새로 해시
+        String upgradedPassword = passwordEncoder.upgradeEncoding(user.getPassword())
+                ? passwordEncoder.encode(password) : null;
+        return new PasswordCheck(true, upgradedPassword);
+    }
+
+    // checkPassword 에서 만든 새 해시를 저장 (DB 접근만 수행, null 이면 무시)
+    public void upgradePassword(final UserEntity user, final String upgradedPassword) {
+        if (upgradedPassword == null) {
+            return;
+        }
+
+        try {
+            user.setPassword(upgradedPassword);
+            update(user);
+            log.info("Password hash upgraded for user {}", user.getId());
+        } catch (Exception e) {
+            // 재해시 실패는 로그인 결과에 영향을 주지 않음 (다음 로그인 시 재시도)
+            log.warn("Could not upgrade password hash for user {}", user.getId(), e);
+        }
+    }
 }
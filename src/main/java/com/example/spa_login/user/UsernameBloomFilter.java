@@ -0,0 +1,197 @@
+package com.example.spa_login.user;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.Collator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 존재하는 사용자명을 담는 블룸 필터
+ * - mightContain() 이 false 이면 DB에 없는 사용자명이 확실하므로 DB 조회를 생략
+ * - true 이면 존재할 "수도" 있으므로 DB로 확인 (오탐률은 username.bloom.fpp)
+ * - 기동 시 UserEntity 테이블을 스트리밍으로 읽어 적재하고, 이후 가입 시 추가
+ * - 적재가 끝나기 전에는 항상 true 를 반환 (DB 조회로 대체)
+ * - username.bloom.off-heap=true 이면 비트 배열을 direct ByteBuffer(힙 외부)에 할당
+ * - 사용 가능 응답은 안내용이며, 가입 시 중복은 DB 유니크 제약으로 판정 (UserService.create 에서 변환)
+ */
+@Slf4j
+@Component
+public class UsernameBloomFilter {
+
+    // long 단위 원자적 OR 연산을 위한 VarHandle (힙 배열 / direct 버퍼)
+    private static final VarHandle LONG_ARRAY = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle LONG_BUFFER = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    // 사용자명 비교 기준 (Collator 는 스레드 안전하지 않으므로 스레드별 인스턴스)
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY); // 대소문자, 악센트, 전각/반각 차이 무시
+        collator.setDecomposition(Collator.FULL_DECOMPOSITION);
+        return collator;
+    });
+
+    private final UserRepository userRepository;
+
+    private final boolean enabled; // 필터 사용 여부
+    private final long expectedInsertions; // 예상 사용자 수
+    private final long bitSize; // 비트 배열 크기
+    private final int hashCount; // 해시 함수 개수
+
+    private final long[] words; // 힙 비트 배열 (off-heap 모드에서는 null)
+    private final ByteBuffer buffer; // 힙 외부 비트 배열 (힙 모드에서는 null)
+
+    private final AtomicLong insertions = new AtomicLong(); // 추가된 사용자명 수
+    private volatile boolean ready; // 기동 시 적재 완료 여부
+
+    public UsernameBloomFilter(UserRepository userRepository,
+                               @Value("${username.bloom.enabled:true}") boolean enabled,
+                               @Value("${username.bloom.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${username.bloom.fpp:0.01}") double fpp,
+                               @Value("${username.bloom.off-heap:false}") boolean offHeap,
+                               MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE / Long.BYTES, Math.max(1, (optimalBits + 63) / 64));
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+
+        if (!enabled) {
+            this.words = null;
+            this.buffer = null;
+        } else if (offHeap) {
+            this.words = null;
+            this.buffer = ByteBuffer.allocateDirect(wordCount * Long.BYTES).order(ByteOrder.nativeOrder());
+        } else {
+            this.words = new long[wordCount];
+            this.buffer = null;
+        }
+
+        Gauge.builder("username.bloom.bytes", this, f -> f.enabled ? f.bitSize / 8 : 0).register(meterRegistry);
+        Gauge.builder("username.bloom.insertions", insertions, AtomicLong::get).register(meterRegistry);
+
+        log.info("Username bloom filter: {} bytes ({}), {} hash functions, expected {} usernames at fpp {}",
+                bitSize / 8, offHeap ? "off-heap" : "heap", hashCount, expectedInsertions, fpp);
+    }
+
+    // 기동 완료 후 기존 사용자명을 스트리밍으로 적재
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+            usernames.forEach(this::put);
+        }
+        ready = true;
+
+        log.info("Username bloom filter loaded {} usernames in {} ms",
+                insertions.get(), System.currentTimeMillis() - start);
+    }
+
+    // 사용자명 추가
+    public void put(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+
+        long[] hashes = hash(username);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hashes, i));
+        }
+
+        if (insertions.incrementAndGet() == expectedInsertions + 1) {
+            log.warn("Username bloom filter exceeded expected insertions {}, false positive rate will increase",
+                    expectedInsertions);
+        }
+    }
+
+    // 사용자명이 존재할 수도 있으면 true, 확실히 없으면 false
+    public boolean mightContain(String username) {
+        if (!enabled || !ready || username == null) {
+            return true; // 판단할 수 없으면 DB 조회로 대체
+        }
+
+        long[] hashes = hash(username);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(hashes, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher: 두 해시 값으로 k개의 비트 위치 생성
+    private long index(long[] hashes, int i) {
+        long combined = hashes[0] + i * hashes[1];
+        return (combined & Long.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bitIndex) {
+        long mask = 1L << (bitIndex & 63);
+        int word = (int) (bitIndex >>> 6);
+        if (words != null) {
+            LONG_ARRAY.getAndBitwiseOr(words, word, mask);
+        } else {
+            LONG_BUFFER.getAndBitwiseOr(buffer, word * Long.BYTES, mask);
+        }
+    }
+
+    private boolean getBit(long bitIndex) {
+        long mask = 1L << (bitIndex & 63);
+        int word = (int) (bitIndex >>> 6);
+        long value = words != null
+                ? (long) LONG_ARRAY.getVolatile(words, word)
+                : (long) LONG_BUFFER.getVolatile(buffer, word * Long.BYTES);
+        return (value & mask) != 0;
+    }
+
+    // 사용자명의 정렬 키로 64비트 해시 2개 계산 (FNV-1a + murmur3 finalizer)
+    private static long[] hash(String username) {
+        byte[] bytes = collationKey(username);
+
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x84222325cbf29ce4L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 ^ (b & 0xff)) * 0x9e3779b97f4a7c15L;
+        }
+
+        return new long[]{fmix64(h1), fmix64(h2) | 1}; // 두 번째 해시는 홀수로 (모든 위치가 0이 되지 않도록)
+    }
+
+    // MySQL 기본 collation(utf8mb4_0900_ai_ci)처럼 UCA 1차 강도로 같은 사용자명은 같은 키가 되도록
+    // - 대소문자, 악센트, 전각, 합자(ß = ss), 끝 공백 차이를 무시
+    // - 구두점도 무시하므로 DB보다 더 많이 같다고 판단할 수 있음 (오탐만 늘고 DB 조회로 확인)
+    private static byte[] collationKey(String username) {
+        return COLLATOR.get().getCollationKey(username).toByteArray();
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
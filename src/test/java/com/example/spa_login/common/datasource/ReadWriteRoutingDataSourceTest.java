@@ -0,0 +1,109 @@
+package com.example.spa_login.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+	private EmbeddedDatabase primary;
+	private EmbeddedDatabase replica;
+	private final AtomicLong now = new AtomicLong(); // PrimaryPinning 시각 (ns)
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	// 두 개의 H2 인메모리 DB를 primary/replica 로 사용하고, 각 DB에 자신의 이름을 기록
+	@BeforeEach
+	void setUp() {
+		primary = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		replica = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		for (EmbeddedDatabase database : new EmbeddedDatabase[]{primary, replica}) {
+			new JdbcTemplate(database).execute("CREATE TABLE node (name VARCHAR(16))");
+		}
+		new JdbcTemplate(primary).update("INSERT INTO node VALUES ('primary')");
+		new JdbcTemplate(replica).update("INSERT INTO node VALUES ('replica')");
+
+		PrimaryPinning pinning = new PrimaryPinning(Duration.ofSeconds(2), now::get);
+		LazyConnectionDataSourceProxy dataSource =
+				new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, pinning));
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	private String node(TransactionTemplate transaction) {
+		return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplica() {
+		assertEquals("replica", node(readOnly));
+		assertEquals("primary", node(readWrite));
+		assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class)); // 트랜잭션 밖
+	}
+
+	@Test
+	void userIsPinnedToPrimaryAfterWrite() {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("7", null, "ROLE_USER"));
+		assertEquals("replica", node(readOnly));
+
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+		assertEquals("primary", node(readOnly)); // 쓰기 직후에는 자신의 변경을 읽도록 primary
+
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("8", null, "ROLE_USER"));
+		assertEquals("replica", node(readOnly)); // 다른 사용자는 replica
+
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("7", null, "ROLE_USER"));
+		now.addAndGet(Duration.ofSeconds(3).toNanos());
+		assertEquals("replica", node(readOnly)); // 고정 시간이 지나면 다시 replica
+	}
+
+	@Test
+	void onPrimaryRoutesReadsWithoutUserToPrimary() {
+		// 로그인 전 (고정할 사용자 없음)
+		assertEquals("primary", ReadWriteRoutingDataSource.onPrimary(() -> node(readOnly)));
+		ReadWriteRoutingDataSource.onPrimary(() -> {
+			ReadWriteRoutingDataSource.onPrimary(() -> node(readOnly));
+			assertEquals("primary", node(readOnly)); // 중첩 호출이 끝나도 바깥 범위 유지
+			return null;
+		});
+		assertEquals("replica", node(readOnly)); // 범위를 벗어나면 다시 replica
+	}
+
+	@Test
+	void rolledBackWriteDoesNotPin() {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("7", null, "ROLE_USER"));
+
+		readWrite.executeWithoutResult(status -> {
+			jdbcTemplate.update("UPDATE node SET name = name");
+			status.setRollbackOnly();
+		});
+		assertEquals("replica", node(readOnly));
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.spa_login.security;
+
+import com.example.spa_login.user.UserCache;
+import com.example.spa_login.user.UserRepository;
+import com.example.spa_login.user.UsernameBloomFilter;
+import com.example.spa_login.user.model.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 소셜 로그인 사용자 조회/등록 (OAuth2 공급자 호출 없이 getUserEntity 만 확인)
+class CustomOAuth2UserServiceTest {
+
+	private UserRepository userRepository;
+	private CustomOAuth2UserService service;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		UserCache userCache = new UserCache(true, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		UsernameBloomFilter bloomFilter = new UsernameBloomFilter(userRepository, false, 1, 0.01, false,
+				new SimpleMeterRegistry());
+		service = new CustomOAuth2UserService(userRepository, userCache, bloomFilter);
+	}
+
+	private UserEntity getUserEntity(String username) {
+		return ReflectionTestUtils.invokeMethod(service, "getUserEntity", username, "github");
+	}
+
+	private static UserEntity user(Long id, String username) {
+		return UserEntity.builder().id(id).username(username).authProvider("github").build();
+	}
+
+	@Test
+	void existingUserIsReturnedWithoutInsert() {
+		when(userRepository.findByUsername("user@example.com")).thenReturn(user(1L, "user@example.com"));
+
+		assertEquals(1L, getUserEntity("user@example.com").getId());
+		verify(userRepository, never()).saveAndFlush(any(UserEntity.class));
+	}
+
+	@Test
+	void newUserIsInsertedWithoutExistenceCheck() {
+		when(userRepository.saveAndFlush(any(UserEntity.class))).thenReturn(user(2L, "new@example.com"));
+
+		assertEquals(2L, getUserEntity("new@example.com").getId());
+		verify(userRepository, times(1)).saveAndFlush(any(UserEntity.class));
+		verify(userRepository, never()).existsByUsername(anyString());
+	}
+
+	@Test
+	void concurrentFirstLoginReturnsTheUserThatWon() {
+		// 조회 시점에는 없었는데 저장 직전에 다른 요청이 먼저 등록
+		when(userRepository.findByUsername("race@example.com")).thenReturn(null, user(3L, "race@example.com"));
+		when(userRepository.saveAndFlush(any(UserEntity.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+		assertEquals(3L, getUserEntity("race@example.com").getId());
+		verify(userRepository, times(2)).findByUsername("race@example.com");
+	}
+}
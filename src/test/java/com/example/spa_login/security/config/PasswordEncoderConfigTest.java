@@ -0,0 +1,61 @@
+package com.example.spa_login.security.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncoderConfigTest {
+
+	// @Value 기본값과 같은 설정 (BCrypt cost 는 테스트 속도를 위해 낮춤)
+	private static PasswordEncoder encoder(String encoderId, int strength, boolean calibrate, int minStrength) {
+		PasswordEncoderConfig config = new PasswordEncoderConfig();
+		ReflectionTestUtils.setField(config, "encoderId", encoderId);
+		ReflectionTestUtils.setField(config, "strength", strength);
+		ReflectionTestUtils.setField(config, "calibrate", calibrate);
+		ReflectionTestUtils.setField(config, "targetMillis", 0L);
+		ReflectionTestUtils.setField(config, "minStrength", minStrength);
+		return config.passwordEncoder();
+	}
+
+	// 해시의 BCrypt cost ({bcrypt}$2a$05$...)
+	private static int cost(String encoded) {
+		int start = "{bcrypt}$2a$".length();
+		return Integer.parseInt(encoded.substring(start, start + 2));
+	}
+
+	@Test
+	void legacyHashWithoutPrefixMatchesAndIsUpgraded() {
+		PasswordEncoder encoder = encoder("bcrypt", 5, false, 4);
+		String legacy = new BCryptPasswordEncoder(4).encode("password"); // 접두사 없는 기존 해시
+
+		assertTrue(encoder.matches("password", legacy));
+		assertTrue(encoder.upgradeEncoding(legacy));
+
+		String upgraded = encoder.encode("password");
+		assertTrue(upgraded.startsWith("{bcrypt}$2a$05$"));
+		assertTrue(encoder.matches("password", upgraded));
+		assertFalse(encoder.upgradeEncoding(upgraded));
+		assertTrue(encoder("bcrypt", 6, false, 4).upgradeEncoding(upgraded)); // 설정한 cost 가 바뀌면 재해시
+	}
+
+	@Test
+	void encoderIdSelectsAlgorithmForNewHashesOnly() {
+		String bcrypt = encoder("bcrypt", 4, false, 4).encode("password");
+		PasswordEncoder pbkdf2 = encoder("pbkdf2", 4, false, 4);
+
+		String encoded = pbkdf2.encode("password");
+		assertTrue(encoded.startsWith("{pbkdf2}"));
+		assertTrue(pbkdf2.matches("password", encoded));
+		assertTrue(pbkdf2.matches("password", bcrypt)); // 기존 {bcrypt} 해시도 검증
+		assertTrue(pbkdf2.upgradeEncoding(bcrypt)); // 로그인 시 새 알고리즘으로 재해시
+	}
+
+	@Test
+	void calibratedStrengthIsNeverBelowConfiguredMinimum() {
+		// 목표 시간 0ms: 측정한 cost 와 관계없이 하한(min-strength) 이상
+		assertTrue(cost(encoder("bcrypt", 4, true, 6).encode("password")) >= 6);
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.spa_login.security.jwt;
+
+import com.example.spa_login.user.model.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+	private final TokenProvider tokenProvider = new TokenProvider();
+
+	@Test
+	void returnsCachedUserIdForSameToken() {
+		MutableClock clock = new MutableClock(Instant.now());
+		VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+
+		String token = tokenProvider.create(UserEntity.builder().id(1L).build());
+		Claims claims = tokenProvider.validateAndGetClaims(token);
+		cache.put(token, claims.getSubject(), claims.getExpiration());
+
+		assertEquals("1", cache.get(token));
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	void tamperedTokenNeverHitsCache() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(100, Clock.systemUTC());
+
+		String token = tokenProvider.create(UserEntity.builder().id(1L).build());
+		Claims claims = tokenProvider.validateAndGetClaims(token);
+		cache.put(token, claims.getSubject(), claims.getExpiration());
+
+		// 서명 부분의 첫 문자를 변경한 토큰
+		int signatureStart = token.lastIndexOf('.') + 1;
+		char first = token.charAt(signatureStart);
+		String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+				+ token.substring(signatureStart + 1);
+
+		assertNull(cache.get(tampered));
+		assertThrows(JwtException.class, () -> tokenProvider.validateAndGetClaims(tampered));
+	}
+
+	@Test
+	void expiredEntryIsNeverReturned() {
+		MutableClock clock = new MutableClock(Instant.now());
+		VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+
+		Date expiration = Date.from(clock.instant().plusSeconds(60));
+		cache.put("token", "1", expiration);
+		assertEquals("1", cache.get("token"));
+
+		// 만료 시각 경과
+		clock.advanceSeconds(61);
+		assertNull(cache.get("token"));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void alreadyExpiredTokenIsNotCached() {
+		MutableClock clock = new MutableClock(Instant.now());
+		VerifiedTokenCache cache = new VerifiedTokenCache(100, clock);
+
+		cache.put("token", "1", Date.from(clock.instant().minusSeconds(1)));
+
+		assertNull(cache.get("token"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void sizeIsBounded() {
+		MutableClock clock = new MutableClock(Instant.now());
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+		Date expiration = Date.from(clock.instant().plusSeconds(60));
+
+		for (int i = 0; i < 100; i++) {
+			cache.put("token-" + i, String.valueOf(i), expiration);
+		}
+
+		assertEquals(10, cache.size());
+		assertEquals(90, cache.getEvictionCount());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntry() {
+		MutableClock clock = new MutableClock(Instant.now());
+		VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+		Date expiration = Date.from(clock.instant().plusSeconds(60));
+
+		cache.put("a", "1", expiration);
+		cache.put("b", "2", expiration);
+		assertEquals("1", cache.get("a")); // a 가 최근 사용, b 가 가장 오래됨
+
+		cache.put("c", "3", expiration);
+
+		assertNull(cache.get("b"));
+		assertEquals("1", cache.get("a"));
+		assertEquals("3", cache.get("c"));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	// 테스트에서 시간을 앞으로 이동시킬 수 있는 시계
+	private static class MutableClock extends Clock {
+
+		private Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advanceSeconds(long seconds) {
+			instant = instant.plusSeconds(seconds);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
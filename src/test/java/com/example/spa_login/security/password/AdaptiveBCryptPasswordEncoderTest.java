@@ -0,0 +1,25 @@
+package com.example.spa_login.security.password;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+	private final AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+	@Test
+	void hashesWithAnotherCostAreUpgradedInBothDirections() {
+		assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))); // 낮은 cost
+		assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password"))); // 높은 cost (cost 를 낮춘 경우)
+		assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+	}
+
+	@Test
+	void nonBcryptValuesAreLeftAlone() {
+		assertFalse(encoder.upgradeEncoding(null));
+		assertFalse(encoder.upgradeEncoding(""));
+		assertFalse(encoder.upgradeEncoding("plain-text"));
+	}
+}
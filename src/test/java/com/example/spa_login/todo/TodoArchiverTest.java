@@ -0,0 +1,141 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 보관 작업 (H2 MySQL 호환 모드, 여러 묶음으로 나누도록 작은 묶음 크기, 사용자마다 커밋)
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:todo-archiver;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"todo.archive.age=1d",
+		"todo.archive.chunk-size=2",
+		"todo.archive.throttle-ms=0"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoArchiver.class, TodoService.class, TodoVersionTracker.class, TodoListCache.class, TodoChangeLog.class,
+		TodoTagIndex.class, TodoCounters.class, TodoWriteBehind.class, TodoArchiverTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoArchiverTest {
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+	}
+
+	private static final Instant OLD = Instant.parse("2020-01-01T00:00:00Z"); // 보관 기간이 지난 완료 시각
+
+	@Autowired
+	private TodoArchiver todoArchiver;
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// 완료 항목을 만들고 완료 시각을 completedAt 으로 바꿈
+	private Long done(Long userId, Instant completedAt) {
+		Long id = todoService.createOne(TodoEntity.builder().userId(userId).title("할 일").done(true).build()).getId();
+		jdbcTemplate.update("UPDATE todo SET completed_at = ? WHERE id = ?", Timestamp.from(completedAt), id);
+		return id;
+	}
+
+	private List<Long> ids(Long userId) {
+		return todoRepository.findByUserId(userId).stream().map(TodoEntity::getId).toList();
+	}
+
+	private long archivedCount(Long userId) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo_archive WHERE user_id = ?", Long.class, userId);
+	}
+
+	private double moved() {
+		return meterRegistry.counter("todo.archive.moved").count();
+	}
+
+	@Test
+	void archivesEveryChunkWhenCandidatesFillTheLastChunkExactly() {
+		// 두 사용자의 항목이 섞인 4개 = 묶음 2개가 가득 참 (마지막 빈 조회로 종료)
+		done(1L, OLD);
+		done(2L, OLD.plusSeconds(1));
+		done(1L, OLD.plusSeconds(2));
+		done(2L, OLD.plusSeconds(3));
+		Long recent = done(1L, Instant.now()); // 보관 기간 전
+		Long open = todoService.createOne(TodoEntity.builder().userId(2L).title("할 일").build()).getId(); // 미완료
+		double before = moved();
+
+		todoArchiver.archive();
+
+		assertEquals(List.of(recent), ids(1L));
+		assertEquals(List.of(open), ids(2L));
+		assertEquals(2, archivedCount(1L));
+		assertEquals(2, archivedCount(2L));
+		assertEquals(4, moved() - before);
+	}
+
+	@Test
+	void cursorMovesPastSkippedCandidatesWithEqualCompletedAt() {
+		// 같은 완료 시각의 항목 3개가 묶음 경계에 걸침, 앞의 두 개는 조회 후 미완료로 바뀐 항목 (보관하지 않고 남음)
+		Long first = done(3L, OLD);
+		Long second = done(3L, OLD);
+		Long third = done(3L, OLD);
+		jdbcTemplate.update("UPDATE todo SET done = FALSE WHERE id IN (?, ?)", first, second);
+
+		// (completedAt, id) 다음부터 조회: 같은 완료 시각이면 id 로 이어서 조회
+		List<Long> next = todoRepository.findArchiveCandidates(Instant.now(), OLD, first, Limit.of(2)).stream()
+				.map(TodoRepository.ArchiveCandidate::getId).toList();
+		assertEquals(List.of(second, third), next);
+
+		todoArchiver.archive();
+
+		assertEquals(List.of(first, second), ids(3L));
+		assertEquals(1, archivedCount(3L));
+		assertTrue(todoService.retrieveArchivePage(3L, null, null).items().stream()
+				.anyMatch(archived -> archived.getId().equals(third)));
+	}
+
+	@Test
+	void legacyDoneTodosAreStampedAndKept() {
+		// 완료 시각 도입 전 완료 항목: 지금부터 보관 기간 계산
+		Long legacy = done(4L, OLD);
+		jdbcTemplate.update("UPDATE todo SET completed_at = NULL WHERE id = ?", legacy);
+
+		todoArchiver.archive();
+
+		assertEquals(List.of(legacy), ids(4L));
+		Instant stamped = todoRepository.findById(legacy).orElseThrow().getCompletedAt();
+		assertNotNull(stamped);
+		assertTrue(stamped.isAfter(Instant.now().minus(Duration.ofMinutes(1))));
+	}
+}
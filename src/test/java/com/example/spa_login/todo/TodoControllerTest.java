@@ -0,0 +1,175 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.common.model.ResponseDTO;
+import com.example.spa_login.todo.model.TodoChangeDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoEntity;
+import com.example.spa_login.todo.model.TodoResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TodoControllerTest {
+
+	private static final String USER_ID = "1";
+
+	private TodoService todoService;
+	private TodoController todoController;
+
+	@BeforeEach
+	void setUp() {
+		todoService = mock(TodoService.class);
+		todoController = new TodoController(todoService, mock(TodoResponseCache.class), new ObjectMapper(),
+				mock(TodoEventBroker.class));
+	}
+
+	@Test
+	void updateOfMissingTodoIsNotFound() {
+		when(todoService.updateOne(any(TodoEntity.class))).thenThrow(new TodoNotFoundException(10L));
+
+		ResponseEntity<?> response = todoController.updateTodo(USER_ID, todo(10L, 0L), "single", null);
+
+		assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+		assertEquals("Todo not found: 10", error(response));
+	}
+
+	@Test
+	void updateWithStaleVersionConflicts() {
+		when(todoService.update(any(TodoEntity.class))).thenThrow(new TodoConflictException(10L));
+
+		ResponseEntity<?> response = todoController.updateTodo(USER_ID, todo(10L, 0L), null, null);
+
+		assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+		assertEquals("Todo was modified concurrently: 10", error(response));
+	}
+
+	@Test
+	void otherUpdateFailuresAreBadRequests() {
+		when(todoService.updateOne(any(TodoEntity.class))).thenThrow(new RuntimeException("Unknown user"));
+
+		ResponseEntity<?> response = todoController.updateTodo(USER_ID, todo(10L, null), "single", null);
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals("Unknown user", error(response));
+	}
+
+	@Test
+	void updateWithoutVersionReturnsStoredVersion() {
+		when(todoService.updateOne(any(TodoEntity.class))).thenAnswer(invocation -> {
+			TodoEntity entity = invocation.getArgument(0);
+			entity.setVersion(4L); // 수정 후 저장된 버전
+			return entity;
+		});
+
+		ResponseEntity<?> response = todoController.updateTodo(USER_ID, todo(10L, null), "single", null);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		TodoDTO updated = (TodoDTO) ((ResponseDTO<?>) response.getBody()).getData().get(0);
+		assertEquals(4L, updated.getVersion());
+	}
+
+	@Test
+	void bulkFailuresUseErrorEnvelope() {
+		when(todoService.markAll(1L, true)).thenThrow(new RuntimeException("Lock wait timeout"));
+		when(todoService.deleteCompleted(1L)).thenThrow(new RuntimeException("Lock wait timeout"));
+
+		ResponseEntity<?> marked = todoController.markAll(USER_ID, true);
+		ResponseEntity<?> deleted = todoController.deleteCompleted(USER_ID);
+
+		assertEquals(HttpStatus.BAD_REQUEST, marked.getStatusCode());
+		assertEquals("Lock wait timeout", error(marked));
+		assertEquals(HttpStatus.BAD_REQUEST, deleted.getStatusCode());
+		assertEquals("Lock wait timeout", error(deleted));
+	}
+
+	@Test
+	void bulkResponsesCarryCountAndVersion() {
+		when(todoService.markAll(1L, false)).thenReturn(new TodoResult<>(3, 12L));
+
+		ResponseEntity<?> response = todoController.markAll(USER_ID, false);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(List.of(3), ((ResponseDTO<?>) response.getBody()).getData());
+		assertEquals(12L, ((ResponseDTO<?>) response.getBody()).getVersion());
+		verify(todoService, never()).currentVersion(1L); // 변경이 커밋한 번호 사용
+	}
+
+	@Test
+	void streamModeWritesTheListEnvelopeRowByRow() throws Exception {
+		List<TodoDTO> todos = List.of(todo(1L, 0L), todo(2L, 3L));
+		when(todoService.currentVersion(1L)).thenReturn(7L);
+		when(todoService.versionTag(1L, 7L)).thenReturn("\"7\"");
+		doAnswer(invocation -> {
+			Consumer<TodoDTO> consumer = invocation.getArgument(1);
+			todos.forEach(consumer);
+			return null;
+		}).when(todoService).streamDtos(eq(1L), any());
+
+		ResponseEntity<?> response = todoController.retrieveTodoList(USER_ID, null, null, "stream", null,
+				new ServletWebRequest(new MockHttpServletRequest()));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		((StreamingResponseBody) response.getBody()).writeTo(out);
+
+		// 목록 응답(ResponseDTO)과 같은 형식, 목록은 읽지 않음
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(new ObjectMapper().writeValueAsString(ResponseDTO.<TodoDTO>builder().data(todos).version(7L).build()),
+				out.toString(StandardCharsets.UTF_8));
+		verify(todoService, never()).retrieveSnapshot(any(), anyLong());
+	}
+
+	@Test
+	void streamFailureAbortsTheResponse() {
+		when(todoService.currentVersion(1L)).thenReturn(7L);
+		when(todoService.versionTag(1L, 7L)).thenReturn("\"7\"");
+		doAnswer(invocation -> {
+			Consumer<TodoDTO> consumer = invocation.getArgument(1);
+			consumer.accept(todo(1L, 0L));
+			throw new RuntimeException("Connection reset");
+		}).when(todoService).streamDtos(eq(1L), any());
+
+		ResponseEntity<?> response = todoController.retrieveTodoList(USER_ID, null, null, null, "stream",
+				new ServletWebRequest(new MockHttpServletRequest()));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// 상태 코드를 보낸 뒤이므로 오류 응답 대신 예외로 연결을 끊음 (닫히지 않은 JSON)
+		assertThrows(RuntimeException.class, () -> ((StreamingResponseBody) response.getBody()).writeTo(out));
+		assertThrows(Exception.class, () -> new ObjectMapper().readTree(out.toByteArray()));
+	}
+
+	@Test
+	void syncResponseCarriesTheChangeVersion() {
+		TodoChangeDTO full = TodoChangeDTO.builder().version(9L).todos(List.of(todo(1L, 0L))).deletedIds(List.of())
+				.full(true).build();
+		when(todoService.sync(1L, 20L)).thenReturn(full); // 현재 번호보다 큰 version → 전체 목록
+
+		ResponseEntity<?> response = todoController.sync(USER_ID, 20L);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(List.of(full), ((ResponseDTO<?>) response.getBody()).getData());
+		assertEquals(9L, ((ResponseDTO<?>) response.getBody()).getVersion());
+	}
+
+	private static TodoDTO todo(Long id, Long version) {
+		return new TodoDTO(id, "할 일", false, version, null, null);
+	}
+
+	private static String error(ResponseEntity<?> response) {
+		return ((ResponseDTO<?>) response.getBody()).getError();
+	}
+}
@@ -0,0 +1,79 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoCounterEntity;
+import com.example.spa_login.todo.model.TodoEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 항목 수 보정 (H2 MySQL 호환 모드, 여러 번 조회하도록 작은 배치 크기, 보정마다 커밋)
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:todo-counter-repair;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"todo.counter.repair-batch-size=2"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoCounterRepairer.class, TodoCounters.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoCounterRepairerTest {
+
+	@Autowired
+	private TodoCounterRepairer todoCounterRepairer;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TodoCounterRepository todoCounterRepository;
+
+	private void todo(Long userId, boolean done) {
+		todoRepository.save(TodoEntity.builder().userId(userId).title("할 일").done(done).build());
+	}
+
+	private void counter(Long userId, long total, long done) {
+		todoCounterRepository.save(TodoCounterEntity.builder().userId(userId).total(total).done(done).build());
+	}
+
+	private void assertCounter(Long userId, long total, long done) {
+		TodoCounterEntity counter = todoCounterRepository.findById(userId).orElseThrow();
+		assertEquals(total, counter.getTotal(), "total of user " + userId);
+		assertEquals(done, counter.getDone(), "done of user " + userId);
+	}
+
+	@Test
+	void repairsDriftedAndMissingCounters() {
+		// 항목과 카운터가 userId 순으로 섞여 있어 두 목록을 여러 번 나눠서 합침
+		todo(1L, true);
+		todo(1L, false);
+		counter(1L, 5, 5); // 어긋난 카운터
+		todo(2L, false); // 카운터 행 없음
+		counter(4L, 1, 0); // 맞는 카운터
+		todo(4L, false);
+
+		todoCounterRepairer.repair();
+
+		assertCounter(1L, 2, 1);
+		assertCounter(2L, 1, 0);
+		assertCounter(4L, 1, 0);
+	}
+
+	@Test
+	void repairsCountersOfUsersWithoutTodos() {
+		// 항목이 모두 삭제되었는데 카운터가 남은 사용자 (항목이 있는 사용자 목록에는 없음)
+		counter(103L, 3, 1);
+		todo(104L, true);
+		counter(105L, 2, 2);
+		counter(106L, 1, 0);
+
+		todoCounterRepairer.repair();
+
+		assertCounter(103L, 0, 0);
+		assertCounter(104L, 1, 1);
+		assertCounter(105L, 0, 0);
+		assertCounter(106L, 0, 0);
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoCounterEntity;
+import com.example.spa_login.todo.model.TodoEntity;
+import com.example.spa_login.todo.model.TodoSummaryDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 사용자별 항목 수 증감/보정 (H2 MySQL 호환 모드, 호출마다 커밋)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:todo-counters;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TodoCounters.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoCountersTest {
+
+	@Autowired
+	private TodoCounters todoCounters;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TodoCounterRepository todoCounterRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private void todo(Long userId, boolean done) {
+		todoRepository.save(TodoEntity.builder().userId(userId).title("할 일").done(done).build());
+	}
+
+	private void adjust(Long userId, long total, long done) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				todoCounters.adjust(userId, total, done));
+	}
+
+	private void assertSummary(Long userId, long total, long done) {
+		TodoSummaryDTO summary = todoCounters.summary(userId);
+		assertEquals(total, summary.getTotal());
+		assertEquals(done, summary.getDone());
+		assertEquals(total - done, summary.getOpen());
+	}
+
+	@Test
+	void summaryWithoutCounterRowCountsTodos() {
+		todo(1L, true);
+		todo(1L, false);
+
+		assertSummary(1L, 2, 1);
+		assertFalse(todoCounterRepository.existsById(1L)); // 조회만으로는 카운터 행을 만들지 않음
+	}
+
+	@Test
+	void firstAdjustmentRecomputesFromTodoTable() {
+		// 기능 도입 전 항목 2개 + 이번 트랜잭션에서 추가된 완료 항목 1개 (이미 Todo 테이블에 반영)
+		todo(2L, false);
+		todo(2L, true);
+		todo(2L, true);
+
+		adjust(2L, 1, 1);
+		assertSummary(2L, 3, 2);
+
+		adjust(2L, -1, 0); // 이후에는 변경분만 증감
+		assertSummary(2L, 2, 2);
+		assertEquals(2, todoCounterRepository.findById(2L).orElseThrow().getTotal());
+	}
+
+	@Test
+	void repairRewritesOnlyDriftedCounters() {
+		todo(3L, true);
+		todoCounterRepository.save(TodoCounterEntity.builder().userId(3L).total(1).done(1).build());
+		assertFalse(todoCounters.repair(3L)); // 일치
+
+		todoCounterRepository.save(TodoCounterEntity.builder().userId(3L).total(7).done(0).build());
+		assertTrue(todoCounters.repair(3L));
+		assertSummary(3L, 1, 1);
+		assertFalse(todoCounters.repair(3L));
+	}
+}
@@ -0,0 +1,199 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoChangeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoEventBrokerTest {
+
+	private final TodoVersionTracker versionTracker = new TodoVersionTracker(userId -> 0L, Duration.ofSeconds(5));
+
+	@Test
+	void thousandsOfIdleSubscribersUseOnlyDispatchThreads() throws Exception {
+		ThreadPoolExecutor dispatcher = (ThreadPoolExecutor) Executors.newFixedThreadPool(2);
+		CountDownLatch release = new CountDownLatch(1); // 클라이언트가 읽기 전까지 모든 전송이 막힘
+		AtomicInteger sent = new AtomicInteger();
+		TodoEventBroker broker = new TodoEventBroker(versionTracker, 10_000, 5, 32,
+				TodoEventBroker.OverflowPolicy.DROP_OLDEST, 60_000, 60_000, dispatcher, new SimpleMeterRegistry()) {
+			@Override
+			SseEmitter newEmitter(long timeoutMillis) {
+				return new SseEmitter(timeoutMillis) {
+					@Override
+					public void send(SseEventBuilder builder) {
+						try {
+							release.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						sent.incrementAndGet();
+					}
+				};
+			}
+		};
+
+		for (long userId = 1; userId <= 1000; userId++) {
+			for (int i = 0; i < 5; i++) {
+				broker.subscribe(userId);
+			}
+		}
+		for (long userId = 1; userId <= 1000; userId++) {
+			broker.onTodoChanged(new TodoChangedEvent(userId, 1, List.of(), List.of(userId)));
+		}
+		broker.heartbeat();
+
+		// 연결마다 스레드를 쓰지 않음: 막힌 전송은 전송 스레드 2개뿐, 나머지 이벤트는 연결별 버퍼에서 대기
+		assertEquals(5000, broker.connectionCount());
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (dispatcher.getActiveCount() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(2, dispatcher.getActiveCount());
+		assertEquals(2, dispatcher.getLargestPoolSize());
+
+		release.countDown();
+		deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (sent.get() < 15_000 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(15_000, sent.get()); // ready, todo, heartbeat 각 5000
+		assertEquals(2, dispatcher.getLargestPoolSize());
+		assertEquals(0, broker.getDroppedCount());
+		assertEquals(5000, broker.connectionCount());
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void eventsCarryCommittedChangeSeq() {
+		List<Object> data = new ArrayList<>();
+		TodoEventBroker broker = new TodoEventBroker(new TodoVersionTracker(userId -> 7L, Duration.ofSeconds(5)),
+				10, 5, 8, TodoEventBroker.OverflowPolicy.DROP_OLDEST, 60_000, 5_000, Runnable::run,
+				new SimpleMeterRegistry()) {
+			@Override
+			SseEmitter newEmitter(long timeoutMillis) {
+				return new SseEmitter(timeoutMillis) {
+					@Override
+					public void send(SseEventBuilder builder) {
+						builder.build().forEach(part -> data.add(part.getData()));
+					}
+				};
+			}
+		};
+
+		broker.subscribe(1L);
+		broker.onTodoChanged(new TodoChangedEvent(1L, 9, List.of(), List.of(3L)));
+
+		assertTrue(data.contains(7L)); // ready: 현재 목록 버전
+		TodoChangeDTO change = data.stream().filter(TodoChangeDTO.class::isInstance).map(TodoChangeDTO.class::cast)
+				.findFirst().orElseThrow();
+		assertEquals(9, change.getVersion()); // todo: 변경이 커밋한 변경 번호
+		assertEquals(List.of(3L), change.getDeletedIds());
+	}
+
+	@Test
+	void slowSubscriberDropsOldestEvents() {
+		List<Runnable> pending = new ArrayList<>(); // 전송하지 않는 dispatcher (느린 구독자)
+		TodoEventBroker broker = new TodoEventBroker(versionTracker, 10, 5, 2,
+				TodoEventBroker.OverflowPolicy.DROP_OLDEST, 60_000, 5_000, pending::add, new SimpleMeterRegistry());
+
+		broker.subscribe(1L); // ready 이벤트 1개
+		for (long id = 1; id <= 4; id++) {
+			broker.onTodoChanged(new TodoChangedEvent(1L, 1, List.of(), List.of(id)));
+		}
+
+		assertEquals(3, broker.getDroppedCount());
+		assertEquals(1, broker.connectionCount());
+		assertEquals(1, pending.size()); // 구독자당 전송 작업은 하나만 예약
+	}
+
+	@Test
+	void slowSubscriberIsDisconnected() {
+		List<Runnable> pending = new ArrayList<>();
+		TodoEventBroker broker = new TodoEventBroker(versionTracker, 10, 5, 2,
+				TodoEventBroker.OverflowPolicy.DISCONNECT, 60_000, 5_000, pending::add, new SimpleMeterRegistry());
+
+		broker.subscribe(1L);
+		for (long id = 1; id <= 4; id++) {
+			broker.onTodoChanged(new TodoChangedEvent(1L, 1, List.of(), List.of(id)));
+		}
+		pending.forEach(Runnable::run);
+
+		assertEquals(1, broker.getDisconnectedCount());
+		assertEquals(0, broker.connectionCount());
+	}
+
+	@Test
+	void stalledSendIsDroppedWithoutDelayingOtherSubscribers() throws Exception {
+		ThreadPoolExecutor dispatcher = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+		CountDownLatch release = new CountDownLatch(1); // 읽지 않는 클라이언트의 전송을 막아 둠
+		CountDownLatch delivered = new CountDownLatch(1);
+		TodoEventBroker broker = new TodoEventBroker(versionTracker, 10, 5, 8,
+				TodoEventBroker.OverflowPolicy.DROP_OLDEST, 60_000, 50, dispatcher, new SimpleMeterRegistry()) {
+			private int created;
+
+			@Override
+			SseEmitter newEmitter(long timeoutMillis) {
+				CountDownLatch latch = created++ == 0 ? release : null;
+				return new SseEmitter(timeoutMillis) {
+					@Override
+					public void send(SseEventBuilder builder) throws IOException {
+						if (latch == null) {
+							delivered.countDown();
+							return;
+						}
+						try {
+							latch.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						throw new IOException("Broken pipe");
+					}
+				};
+			}
+		};
+
+		broker.subscribe(1L); // 하나뿐인 전송 스레드가 이 구독자의 전송에서 막힘
+		broker.subscribe(2L); // 막힌 전송 뒤에 대기
+		Thread.sleep(100);
+		assertEquals(1, delivered.getCount());
+
+		broker.checkSends();
+		assertEquals(1, broker.getTimedOutCount());
+		assertEquals(1, broker.connectionCount());
+		assertTrue(delivered.await(5, TimeUnit.SECONDS)); // 늘린 전송 스레드가 다른 구독자에게 전송
+
+		release.countDown(); // 막혔던 전송이 실패로 끝나면 늘린 스레드를 줄임
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (dispatcher.getCorePoolSize() != 1 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, dispatcher.getCorePoolSize());
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void rejectsConnectionsBeyondLimits() {
+		TodoEventBroker broker = new TodoEventBroker(versionTracker, 3, 2, 8,
+				TodoEventBroker.OverflowPolicy.DROP_OLDEST, 60_000, 5_000, Runnable::run, new SimpleMeterRegistry());
+
+		broker.subscribe(1L);
+		broker.subscribe(1L);
+		assertThrows(TodoStreamRejectedException.class, () -> broker.subscribe(1L)); // 사용자별 제한
+		broker.subscribe(2L);
+		assertThrows(TodoStreamRejectedException.class, () -> broker.subscribe(3L)); // 전체 제한
+
+		assertEquals(3, broker.connectionCount());
+	}
+}
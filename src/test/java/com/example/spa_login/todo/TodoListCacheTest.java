@@ -0,0 +1,211 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoListCacheTest {
+
+	private static final Long USER_ID = 1L;
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	@Test
+	void mutationUpdatesCachedListInPlace() {
+		TodoListCache cache = new TodoListCache(true, 1000, TTL, new SimpleMeterRegistry());
+		AtomicLong loads = new AtomicLong();
+
+		cache.get(USER_ID, id -> {
+			loads.incrementAndGet();
+			return snapshot(1, todo(1L, 0L));
+		});
+
+		try (TodoListCache.Mutation mutation = cache.begin(USER_ID)) {
+			mutation.apply(2, todos -> List.of(todos.get(0), todo(2L, 0L)));
+		}
+
+		List<TodoDTO> todos = cache.get(USER_ID, id -> {
+			loads.incrementAndGet();
+			return snapshot(2);
+		});
+
+		assertEquals(2, todos.size());
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	void failedMutationRemovesCachedList() {
+		TodoListCache cache = new TodoListCache(true, 1000, TTL, new SimpleMeterRegistry());
+		cache.get(USER_ID, id -> snapshot(1, todo(1L, 0L)));
+
+		assertThrows(RuntimeException.class, () -> {
+			try (TodoListCache.Mutation mutation = cache.begin(USER_ID)) {
+				throw new RuntimeException("DB error");
+			}
+		});
+
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void expiredListIsReloadedEvenAfterMutations() throws InterruptedException {
+		TodoListCache cache = new TodoListCache(true, 1000, Duration.ofMillis(50), new SimpleMeterRegistry());
+		AtomicLong loads = new AtomicLong();
+
+		cache.get(USER_ID, id -> {
+			loads.incrementAndGet();
+			return snapshot(1, todo(1L, 0L));
+		});
+		Thread.sleep(60);
+
+		// 변경 내용을 반영해도 만료 시각은 연장되지 않음
+		try (TodoListCache.Mutation mutation = cache.begin(USER_ID)) {
+			mutation.apply(2, todos -> List.of(todos.get(0), todo(2L, 0L)));
+		}
+
+		List<TodoDTO> todos = cache.get(USER_ID, id -> {
+			loads.incrementAndGet();
+			return snapshot(3, todo(1L, 1L));
+		});
+
+		assertEquals(List.of(todo(1L, 1L)), todos);
+		assertEquals(2, loads.get());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedListsBeyondItemLimit() {
+		TodoListCache cache = new TodoListCache(true, 10, TTL, new SimpleMeterRegistry());
+
+		cache.get(1L, id -> snapshot(1, todo(1L, 0L), todo(2L, 0L), todo(3L, 0L))); // 4
+		cache.get(2L, id -> snapshot(1, todo(4L, 0L), todo(5L, 0L), todo(6L, 0L))); // 8
+		cache.get(1L, id -> snapshot(1)); // 사용자 1 최근 사용
+		cache.get(3L, id -> snapshot(1, todo(7L, 0L), todo(8L, 0L))); // 11 -> 사용자 2 제거
+
+		assertEquals(2, cache.size());
+		assertEquals(7, cache.itemCount());
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	void interleavedMutationsAndReadsNeverReturnStaleList() throws Exception {
+		TodoListCache cache = new TodoListCache(true, 1000, TTL, new SimpleMeterRegistry());
+
+		// DB 역할: 한 항목의 버전 (커밋될 때마다 증가)
+		AtomicLong committed = new AtomicLong();
+		ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+
+		int writers = 4;
+		int readers = 4;
+		int iterations = 2000;
+		ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Runnable> tasks = new ArrayList<>();
+
+		for (int w = 0; w < writers; w++) {
+			tasks.add(() -> {
+				for (int i = 0; i < iterations; i++) {
+					try (TodoListCache.Mutation mutation = cache.begin(USER_ID)) {
+						long version = committed.incrementAndGet(); // 커밋
+						Thread.yield();
+						mutation.apply(version, todos -> List.of(todo(1L, version)));
+					}
+				}
+			});
+		}
+		for (int r = 0; r < readers; r++) {
+			tasks.add(() -> {
+				for (int i = 0; i < iterations; i++) {
+					long before = committed.get();
+					List<TodoDTO> todos = cache.get(USER_ID, id -> {
+						long version = committed.get(); // DB 조회
+						Thread.yield();
+						return snapshot(version, todo(1L, version));
+					});
+					long seen = todos.get(0).getVersion();
+					if (seen < before) {
+						failures.add("read version " + seen + " after commit " + before);
+					}
+				}
+			});
+		}
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (Runnable task : tasks) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				task.run();
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertTrue(failures.isEmpty(), () -> failures.peek());
+
+		// 모든 변경이 끝난 뒤에는 캐시가 마지막 커밋을 반영
+		assertEquals(committed.get(), cache.get(USER_ID, id -> snapshot(committed.get(), todo(1L, committed.get()))).get(0).getVersion());
+	}
+
+	@Test
+	void listOlderThanRequestedSeqIsReloaded() {
+		TodoListCache cache = new TodoListCache(true, 1000, TTL, new SimpleMeterRegistry());
+		AtomicLong loads = new AtomicLong();
+
+		cache.get(USER_ID, 5, id -> {
+			loads.incrementAndGet();
+			return snapshot(5, todo(1L, 0L));
+		});
+
+		// 같은 변경 번호: 캐시 적중
+		assertEquals(5, cache.get(USER_ID, 5, id -> snapshot(6)).seq());
+		// 다른 인스턴스의 변경으로 변경 번호가 올라감: DB 조회 후 저장
+		TodoListCache.Snapshot reloaded = cache.get(USER_ID, 6, id -> {
+			loads.incrementAndGet();
+			return snapshot(6, todo(1L, 1L));
+		});
+		assertEquals(6, reloaded.seq());
+		assertEquals(6, cache.get(USER_ID, 6, id -> snapshot(0)).seq());
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void mutationAdvancesCachedSeq() {
+		TodoListCache cache = new TodoListCache(true, 1000, TTL, new SimpleMeterRegistry());
+		cache.get(USER_ID, 1, id -> snapshot(1, todo(1L, 0L)));
+
+		try (TodoListCache.Mutation mutation = cache.begin(USER_ID)) {
+			mutation.apply(2, todos -> List.of());
+		}
+
+		TodoListCache.Snapshot cached = cache.get(USER_ID, 2, id -> snapshot(0, todo(9L, 0L)));
+		assertEquals(2, cached.seq());
+		assertTrue(cached.todos().isEmpty());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	private static TodoListCache.Snapshot snapshot(long seq, TodoDTO... todos) {
+		return new TodoListCache.Snapshot(seq, List.of(todos));
+	}
+
+	private static TodoDTO todo(Long id, Long version) {
+		return new TodoDTO(id, "할 일 " + id, false, version, null, Set.of());
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.spa_login.todo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoPositionTest {
+
+	@Test
+	void betweenReturnsKeyStrictlyBetweenBounds() {
+		assertTrue("a".compareTo(TodoPosition.between("a", "b")) < 0);
+		assertTrue(TodoPosition.between("a", "b").compareTo("b") < 0);
+		assertTrue(TodoPosition.between(null, "01").compareTo("01") < 0);
+		assertTrue("zz".compareTo(TodoPosition.between("zz", null)) < 0);
+		assertThrows(IllegalArgumentException.class, () -> TodoPosition.between("b", "a"));
+	}
+
+	@Test
+	void randomMovesKeepOrderWithOneNewKeyPerMove() {
+		List<String> keys = new ArrayList<>(TodoPosition.spread(100));
+		Random random = new Random(42);
+
+		for (int i = 0; i < 10_000; i++) {
+			keys.remove(random.nextInt(keys.size())); // 이동할 항목
+			int index = random.nextInt(keys.size() + 1);
+			String lower = index == 0 ? null : keys.get(index - 1);
+			String upper = index == keys.size() ? null : keys.get(index);
+
+			String moved = TodoPosition.between(lower, upper);
+			assertFalse(moved.endsWith("0"));
+			keys.add(index, moved);
+		}
+
+		for (int i = 1; i < keys.size(); i++) {
+			assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0, keys.get(i - 1) + " >= " + keys.get(i));
+		}
+	}
+
+	@Test
+	void appendsStayShort() {
+		String key = null;
+		for (int i = 0; i < 1000; i++) {
+			String next = TodoPosition.after(key);
+			assertTrue(key == null || key.compareTo(next) < 0);
+			key = next;
+		}
+
+		List<String> spread = TodoPosition.spread(1000);
+		key = spread.get(spread.size() - 1);
+		for (int i = 0; i < 10_000; i++) {
+			key = TodoPosition.after(key);
+		}
+		assertTrue(key.length() <= spread.get(0).length()); // 재배치 후에는 끝에 추가해도 키가 길어지지 않음
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.spa_login.todo;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// MySQL 처럼 todo_seq 를 테이블로 쓰는 경우의 기동 시 확인
+class TodoSequenceCheckTest {
+
+	private EmbeddedDatabase database;
+	private JdbcTemplate jdbcTemplate;
+	private TodoSequenceCheck check;
+
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE todo (id BIGINT PRIMARY KEY)");
+		check = new TodoSequenceCheck(jdbcTemplate, true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	private void sequence(long nextVal) {
+		jdbcTemplate.execute("CREATE TABLE todo_seq (next_val BIGINT NOT NULL)");
+		jdbcTemplate.update("INSERT INTO todo_seq (next_val) VALUES (?)", nextVal);
+	}
+
+	@Test
+	void sequenceBelowExistingIdsFailsStartup() {
+		jdbcTemplate.update("INSERT INTO todo (id) VALUES (1), (1000)");
+		sequence(1); // 마이그레이션하지 않은 기존 DB (ddl-auto 초기값)
+
+		RuntimeException e = assertThrows(RuntimeException.class, check::check);
+		assertTrue(e.getMessage().contains("1050"));
+	}
+
+	@Test
+	void sequenceWhoseNextBlockOverlapsExistingIdsFailsStartup() {
+		jdbcTemplate.update("INSERT INTO todo (id) VALUES (1000)");
+		sequence(1049); // 다음 블록이 1000부터 시작
+
+		assertThrows(RuntimeException.class, check::check);
+	}
+
+	@Test
+	void migratedSequencePasses() {
+		jdbcTemplate.update("INSERT INTO todo (id) VALUES (1000)");
+		jdbcTemplate.execute("CREATE TABLE todo_seq (next_val BIGINT NOT NULL)");
+		jdbcTemplate.update("INSERT INTO todo_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM todo"); // README
+
+		assertDoesNotThrow(check::check);
+	}
+
+	@Test
+	void emptyTableOrNativeSequenceIsNotChecked() {
+		sequence(1); // 새 DB
+		assertDoesNotThrow(check::check);
+
+		jdbcTemplate.execute("DROP TABLE todo_seq");
+		jdbcTemplate.update("INSERT INTO todo (id) VALUES (1000)");
+		assertDoesNotThrow(check::check); // 시퀀스를 지원하는 DB
+	}
+}
@@ -0,0 +1,374 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoArchiveDTO;
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoChangeDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoEntity;
+import com.example.spa_login.todo.model.TodoMoveDTO;
+import com.example.spa_login.todo.model.TodoPage;
+import com.example.spa_login.todo.model.TodoResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 서비스 변경 경로 (H2 MySQL 호환 모드, 서비스 호출마다 커밋)
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:todo-service;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoService.class, TodoVersionTracker.class, TodoListCache.class, TodoChangeLog.class, TodoTagIndex.class,
+		TodoCounters.class, TodoWriteBehind.class, TodoServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoServiceTest {
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+	}
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TodoChangeLog todoChangeLog;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private List<Long> create(Long userId, String... titles) {
+		for (String title : titles) {
+			todoService.createOne(TodoEntity.builder().userId(userId).title(title).build());
+		}
+		return ids(userId);
+	}
+
+	private List<Long> ids(Long userId) {
+		return todoRepository.findByUserId(userId).stream().map(TodoEntity::getId).toList();
+	}
+
+	private static TodoMoveDTO move(Long id, Long afterId, Long beforeId) {
+		return TodoMoveDTO.builder().id(id).afterId(afterId).beforeId(beforeId).build();
+	}
+
+	@Test
+	void moveAfterMiddleItemKeepsFollowingItems() {
+		List<Long> ids = create(1L, "a", "b", "c");
+
+		todoService.move(1L, move(ids.get(2), ids.get(0), null)); // c 를 a 바로 뒤로
+
+		assertEquals(List.of(ids.get(0), ids.get(2), ids.get(1)), ids(1L));
+	}
+
+	@Test
+	void moveBeforeMiddleItemKeepsPrecedingItems() {
+		List<Long> ids = create(2L, "a", "b", "c");
+
+		todoService.move(2L, move(ids.get(0), null, ids.get(2))); // a 를 c 바로 앞으로
+
+		assertEquals(List.of(ids.get(1), ids.get(0), ids.get(2)), ids(2L));
+	}
+
+	@Test
+	void moveBetweenNonAdjacentItemsConflicts() {
+		List<Long> ids = create(3L, "a", "b", "c", "d");
+
+		// 클라이언트 목록이 오래됨: a 와 c 사이에 b 가 있음
+		assertThrows(TodoConflictException.class, () -> todoService.move(3L, move(ids.get(3), ids.get(0), ids.get(2))));
+		assertEquals(ids, ids(3L));
+
+		todoService.move(3L, move(ids.get(3), ids.get(0), ids.get(1)));
+		assertEquals(List.of(ids.get(0), ids.get(3), ids.get(1), ids.get(2)), ids(3L));
+	}
+
+	@Test
+	void filterFollowsCommittedChanges() {
+		List<Long> ids = create(4L, "a", "b");
+		assertEquals(List.of(), todoService.filter(4L, true, List.of(), true, List.of())); // 인덱스 생성
+
+		TodoEntity done = todoRepository.findById(ids.get(1)).orElseThrow();
+		done.setDone(true);
+		done.setTags(Set.of("work"));
+		todoService.updateOne(done);
+		todoService.deleteOne(TodoEntity.builder().id(ids.get(0)).userId(4L).build());
+
+		assertEquals(List.of(ids.get(1)), todoService.filter(4L, true, List.of("Work"), true, List.of()).stream()
+				.map(TodoDTO::getId).toList());
+		assertEquals(List.of(ids.get(1)), todoService.filter(4L, null, List.of(), true, List.of()).stream()
+				.map(TodoDTO::getId).toList());
+	}
+
+	@Test
+	void updateKeepsPositionAndReturnsNewVersion() {
+		List<Long> ids = create(7L, "a", "b", "c");
+		todoService.filter(7L, null, List.of(), true, List.of()); // 인덱스 생성
+
+		// 버전 없이 보낸 수정: 응답과 이벤트의 항목은 저장된 정렬 키와 새 버전을 가짐
+		TodoEntity updated = todoService.updateOne(TodoEntity.builder().id(ids.get(1)).userId(7L).title("b2").build());
+		TodoEntity stored = todoRepository.findById(ids.get(1)).orElseThrow();
+		assertEquals(stored.getVersion(), updated.getVersion());
+		assertEquals(stored.getPosition(), updated.getPosition());
+
+		assertEquals(ids, todoService.filter(7L, null, List.of(), true, List.of()).stream()
+				.map(TodoDTO::getId).toList());
+		assertEquals(ids, todoService.retrieveDtos(7L).stream().map(TodoDTO::getId).toList());
+	}
+
+	@Test
+	void pagesPastRunOfEqualPositions() {
+		List<Long> ids = create(8L, "a", "b", "c", "d", "e");
+		// 정렬 키가 없는 기존 항목 하나, 같은 정렬 키가 이어지는 항목 셋
+		String[] positions = {null, "m", "m", "m", "t"};
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			for (int i = 0; i < ids.size(); i++) {
+				todoRepository.findById(ids.get(i)).orElseThrow().setPosition(positions[i]);
+			}
+		});
+
+		List<Long> paged = new ArrayList<>();
+		String cursor = null;
+		do {
+			TodoPage<TodoDTO> page = todoService.retrievePage(8L, cursor, 2);
+			page.items().forEach(todo -> paged.add(todo.getId()));
+			cursor = page.nextCursor();
+		} while (cursor != null);
+		assertEquals(ids, paged);
+	}
+
+	@Test
+	void updateOfOtherUsersTodoIsNotFoundAndStaleVersionConflicts() {
+		List<Long> ids = create(9L, "a");
+		long version = todoRepository.findById(ids.get(0)).orElseThrow().getVersion();
+
+		assertThrows(TodoNotFoundException.class, () -> todoService.updateOne(
+				TodoEntity.builder().id(ids.get(0)).userId(10L).title("b").build()));
+		assertThrows(TodoNotFoundException.class, () -> todoService.updateOne(
+				TodoEntity.builder().id(-1L).userId(9L).title("b").build()));
+
+		todoService.updateOne(TodoEntity.builder().id(ids.get(0)).userId(9L).title("b").version(version).build());
+		assertThrows(TodoConflictException.class, () -> todoService.updateOne(
+				TodoEntity.builder().id(ids.get(0)).userId(9L).title("c").version(version).build()));
+		assertEquals("b", todoRepository.findById(ids.get(0)).orElseThrow().getTitle());
+	}
+
+	@Test
+	void bulkDoneAndDeleteCompletedUpdateListCountersAndSync() {
+		List<Long> ids = create(11L, "a", "b", "c");
+		todoService.retrieveDtos(11L); // 목록 캐시
+		long before = todoService.currentVersion(11L);
+
+		assertEquals(3, todoService.markAll(11L, true).value());
+		assertEquals(0, todoService.markAll(11L, true).value()); // 이미 완료된 항목은 변경하지 않음
+		assertTrue(todoService.retrieveDtos(11L).stream().allMatch(TodoDTO::isDone));
+		assertEquals(3, todoService.summary(11L).getDone());
+
+		todoService.updateOne(TodoEntity.builder().id(ids.get(0)).userId(11L).title("a").done(false).build());
+		assertEquals(2, todoService.deleteCompleted(11L).value());
+		assertEquals(List.of(ids.get(0)), ids(11L));
+		assertEquals(List.of(ids.get(0)), todoService.retrieveDtos(11L).stream().map(TodoDTO::getId).toList());
+		assertEquals(1, todoService.summary(11L).getTotal());
+		assertEquals(0, todoService.summary(11L).getDone());
+
+		// 삭제된 ID를 알 수 없으므로 이전 버전의 증분 동기화는 전체 목록
+		TodoChangeDTO sync = todoService.sync(11L, before);
+		assertTrue(sync.getFull());
+		assertEquals(List.of(ids.get(0)), sync.getTodos().stream().map(TodoDTO::getId).toList());
+	}
+
+	@Test
+	void deleteByIdsSkipsOtherUsersTodos() {
+		List<Long> mine = create(12L, "a", "b");
+		List<Long> theirs = create(13L, "c");
+
+		assertEquals(1, todoService.deleteByIds(12L, List.of(mine.get(0), theirs.get(0))).value());
+		assertEquals(List.of(mine.get(1)), ids(12L));
+		assertEquals(theirs, ids(13L));
+		assertEquals(1, todoService.summary(12L).getTotal());
+		assertEquals(1, todoService.summary(13L).getTotal());
+	}
+
+	@Test
+	void batchTouchingSameIdTwiceIsRejected() {
+		List<Long> ids = create(5L, "a", "b");
+		TodoDTO update = TodoDTO.builder().id(ids.get(0)).title("a2").done(true).build();
+		TodoDTO delete = TodoDTO.builder().id(ids.get(0)).build();
+
+		assertThrows(RuntimeException.class, () -> todoService.applyBatch(5L, List.of(
+				new TodoBatchOperationDTO(TodoBatchOperationDTO.Operation.DELETE, delete),
+				new TodoBatchOperationDTO(TodoBatchOperationDTO.Operation.UPDATE, update))));
+		assertEquals(ids, ids(5L)); // 아무것도 반영되지 않음
+
+		todoService.applyBatch(5L, List.of(
+				new TodoBatchOperationDTO(TodoBatchOperationDTO.Operation.UPDATE, update),
+				new TodoBatchOperationDTO(TodoBatchOperationDTO.Operation.DELETE, TodoDTO.builder().id(ids.get(1)).build())));
+		assertEquals(List.of(ids.get(0)), ids(5L));
+		assertTrue(todoRepository.findById(ids.get(0)).orElseThrow().isDone());
+	}
+
+	@Test
+	void versionFollowsCommittedChangesWithoutReadingTheDb() {
+		List<Long> ids = create(6L, "a");
+		long version = todoService.currentVersion(6L);
+		assertEquals(todoChangeLog.state(6L).getSeq(), version);
+		assertEquals(version, todoService.retrieveSnapshot(6L, version).getVersion()); // 목록 캐시에 저장
+
+		// 다른 인스턴스의 변경: 이 인스턴스가 보관한 버전은 TTL 이 지날 때까지 그대로, 스냅샷은 DB에서 읽음
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			TodoEntity entity = todoRepository.findById(ids.get(0)).orElseThrow();
+			entity.setTitle("b");
+			entity.setChangeSeq(todoChangeLog.nextSeq(6L));
+		});
+		assertEquals(version, todoService.currentVersion(6L));
+		assertEquals("a", todoService.retrieveSnapshot(6L, version).getTodos().get(0).getTitle()); // 목록 캐시
+		TodoChangeDTO snapshot = todoService.retrieveSnapshot(6L, version + 1); // 목록 캐시보다 새 버전 요청 → DB 조회
+		assertEquals(version + 1, snapshot.getVersion());
+		assertEquals("b", snapshot.getTodos().get(0).getTitle());
+
+		// 이 인스턴스의 변경은 커밋 이벤트의 변경 번호로 바로 반영
+		todoService.updateOne(TodoEntity.builder().id(ids.get(0)).userId(6L).title("c").build());
+		assertEquals(version + 2, todoService.currentVersion(6L));
+		assertEquals("c", todoService.retrieveSnapshot(6L, version + 2).getTodos().get(0).getTitle());
+	}
+
+	@Test
+	void mutationsReturnTheSeqTheyCommitted() {
+		TodoResult<List<TodoDTO>> created = todoService.create(TodoEntity.builder().userId(14L).title("a").build());
+		assertEquals(todoChangeLog.state(14L).getSeq(), created.version());
+		assertEquals(List.of("a"), created.value().stream().map(TodoDTO::getTitle).toList());
+
+		Long id = created.value().get(0).getId();
+		TodoEntity updated = todoService.updateOne(TodoEntity.builder().id(id).userId(14L).title("b").build());
+		assertEquals(created.version() + 1, updated.getChangeSeq());
+
+		TodoResult<Integer> marked = todoService.markAll(14L, true);
+		assertEquals(created.version() + 2, marked.version());
+		assertEquals(marked.version(), todoService.deleteByIds(14L, List.of()).version()); // 변경 없음
+
+		TodoResult<List<TodoDTO>> deleted = todoService.delete(TodoEntity.builder().id(id).userId(14L).build());
+		assertEquals(created.version() + 3, deleted.version());
+		assertEquals(List.of(), deleted.value());
+		assertEquals(todoChangeLog.state(14L).getSeq(), deleted.version());
+	}
+
+	@Test
+	void archiveRemovesTodosFromListCountersAndTagIndex() {
+		Long old = todoService.createOne(TodoEntity.builder().userId(15L).title("a").done(true).tags(Set.of("x")).build()).getId();
+		Long recent = todoService.createOne(TodoEntity.builder().userId(15L).title("b").done(true).tags(Set.of("x")).build()).getId();
+		Long open = todoService.createOne(TodoEntity.builder().userId(15L).title("c").tags(Set.of("x")).build()).getId();
+		jdbcTemplate.update("UPDATE todo SET completed_at = ? WHERE id = ?",
+				Timestamp.from(Instant.parse("2020-01-01T00:00:00Z")), old);
+		assertEquals(3, todoService.filter(15L, null, List.of("x"), false, List.of()).size()); // 목록 캐시, 태그 인덱스
+		long before = todoService.currentVersion(15L);
+
+		Instant cutoff = Instant.now().minus(Duration.ofDays(1));
+		assertEquals(1, todoService.archive(15L, List.of(old, recent, open), cutoff)); // 보관 기간이 지난 완료 항목만
+
+		assertEquals(List.of(recent, open), todoService.retrieveDtos(15L).stream().map(TodoDTO::getId).toList());
+		assertEquals(List.of(recent, open), todoService.filter(15L, null, List.of("x"), false, List.of()).stream()
+				.map(TodoDTO::getId).toList());
+		assertEquals(2, todoService.summary(15L).getTotal());
+		assertEquals(1, todoService.summary(15L).getDone());
+		assertEquals(List.of(old), todoService.sync(15L, before).getDeletedIds()); // 클라이언트에는 삭제로 전달
+		assertEquals(List.of(old), todoService.retrieveArchivePage(15L, null, null).items().stream()
+				.map(TodoArchiveDTO::getId).toList());
+
+		assertEquals(0, todoService.archive(15L, List.of(old), cutoff)); // 이미 옮긴 항목
+	}
+
+	@Test
+	void streamDtosFollowsListOrder() {
+		List<Long> ids = create(16L, "a", "b", "c");
+		todoService.move(16L, move(ids.get(2), null, ids.get(0))); // c, a, b
+
+		List<Long> streamed = new ArrayList<>();
+		todoService.streamDtos(16L, todo -> streamed.add(todo.getId()));
+
+		assertEquals(List.of(ids.get(2), ids.get(0), ids.get(1)), streamed);
+		assertEquals(todoService.retrieveDtos(16L).stream().map(TodoDTO::getId).toList(), streamed);
+	}
+
+	@Test
+	void syncReturnsChangesAfterSinceWithTombstones() {
+		List<Long> ids = create(17L, "a", "b", "c");
+		long since = todoService.currentVersion(17L);
+
+		todoService.updateOne(TodoEntity.builder().id(ids.get(0)).userId(17L).title("a2").build());
+		long afterUpdate = todoService.currentVersion(17L);
+		todoService.deleteOne(TodoEntity.builder().id(ids.get(1)).userId(17L).build());
+		Long created = todoService.createOne(TodoEntity.builder().userId(17L).title("d").build()).getId();
+
+		TodoChangeDTO sync = todoService.sync(17L, since);
+		assertFalse(sync.getFull());
+		assertEquals(since + 3, sync.getVersion());
+		assertEquals(List.of(ids.get(0), created), sync.getTodos().stream().map(TodoDTO::getId).toList());
+		assertEquals(List.of(ids.get(1)), List.copyOf(sync.getDeletedIds()));
+
+		// 중간 version 부터는 그 뒤의 변경만
+		TodoChangeDTO partial = todoService.sync(17L, afterUpdate);
+		assertEquals(List.of(created), partial.getTodos().stream().map(TodoDTO::getId).toList());
+		assertEquals(List.of(ids.get(1)), List.copyOf(partial.getDeletedIds()));
+
+		TodoChangeDTO latest = todoService.sync(17L, sync.getVersion());
+		assertFalse(latest.getFull());
+		assertTrue(latest.getTodos().isEmpty());
+		assertTrue(latest.getDeletedIds().isEmpty());
+	}
+
+	@Test
+	void syncOutsideRetainedRangeReturnsFullList() {
+		List<Long> ids = create(18L, "a", "b");
+		long beforeDelete = todoService.currentVersion(18L);
+		todoService.deleteOne(TodoEntity.builder().id(ids.get(0)).userId(18L).build());
+		long current = todoService.currentVersion(18L);
+
+		assertTrue(todoService.sync(18L, 0).getFull()); // 처음 동기화
+		TodoChangeDTO ahead = todoService.sync(18L, current + 5); // 현재 번호보다 큰 version (다른 DB 등)
+		assertTrue(ahead.getFull());
+		assertEquals(current, ahead.getVersion());
+		assertEquals(List.of(ids.get(1)), ahead.getTodos().stream().map(TodoDTO::getId).toList());
+
+		// 보존 기간이 지난 삭제 이력 정리: 그 이전 version 은 삭제를 알 수 없으므로 전체 목록
+		jdbcTemplate.update("UPDATE todo_change_log SET created_at = ? WHERE user_id = ?",
+				Timestamp.from(Instant.parse("2020-01-01T00:00:00Z")), 18L);
+		todoChangeLog.compact();
+
+		assertEquals(current, todoChangeLog.state(18L).getHorizon());
+		TodoChangeDTO stale = todoService.sync(18L, beforeDelete);
+		assertTrue(stale.getFull());
+		assertEquals(List.of(ids.get(1)), stale.getTodos().stream().map(TodoDTO::getId).toList());
+		assertFalse(todoService.sync(18L, current).getFull()); // horizon 이후는 계속 증분
+	}
+}
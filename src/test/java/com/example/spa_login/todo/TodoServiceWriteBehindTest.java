@@ -0,0 +1,135 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoEntity;
+import com.example.spa_login.todo.model.TodoPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// write-behind 모드에서 저널을 거치지 않는 변경 (H2 MySQL 호환 모드, 서비스 호출마다 커밋)
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:todo-write-behind;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"todo.write-behind.enabled=true",
+		"todo.write-behind.node-id=test",
+		"todo.write-behind.journal-path=${java.io.tmpdir}/todo-write-behind-test/${random.uuid}/todo-journal.log"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TodoService.class, TodoVersionTracker.class, TodoListCache.class, TodoChangeLog.class, TodoTagIndex.class,
+		TodoCounters.class, TodoWriteBehind.class, TodoServiceWriteBehindTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoServiceWriteBehindTest {
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+	}
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TodoWriteBehind todoWriteBehind;
+
+	private static TodoEntity todo(Long userId, Long id, String title, boolean done) {
+		return TodoEntity.builder().id(id).userId(userId).title(title).done(done).build();
+	}
+
+	@Test
+	void directWriteAppliesPendingCreateFirst() {
+		TodoEntity created = todoService.createOne(todo(1L, null, "a", false));
+		assertTrue(created.getId() < 0); // 저널에만 기록됨
+
+		assertEquals(1, todoService.markAll(1L, true).value()); // 저널의 생성을 먼저 반영한 뒤 변경
+		assertEquals(0, todoWriteBehind.pendingCount());
+
+		List<TodoEntity> stored = todoRepository.findByUserId(1L);
+		assertEquals(1, stored.size());
+		assertTrue(stored.get(0).isDone());
+	}
+
+	@Test
+	void pendingUpdateDoesNotOverwriteLaterDirectWrite() {
+		todoService.createOne(todo(2L, null, "a", false));
+		todoService.flushJournal();
+		Long id = todoRepository.findByUserId(2L).get(0).getId();
+
+		todoService.updateOne(todo(2L, id, "a2", false)); // 저널에만 기록됨
+		todoService.markAll(2L, true); // 이후의 직접 변경
+
+		assertTrue(todoService.flushJournal().isEmpty()); // 나중에 반영될 저널 항목이 남아 있지 않음
+		TodoEntity stored = todoRepository.findByUserId(2L).get(0);
+		assertEquals("a2", stored.getTitle());
+		assertTrue(stored.isDone());
+	}
+
+	@Test
+	void directWriteAppliesOnlyItsOwnUsersEntries() {
+		todoService.createOne(todo(3L, null, "a", false));
+		todoService.createOne(todo(4L, null, "b", false));
+
+		todoService.markAll(3L, true);
+
+		assertTrue(todoWriteBehind.pendingEntries(3L).isEmpty());
+		assertEquals(1, todoWriteBehind.pendingEntries(4L).size()); // 다른 사용자의 항목은 주기 반영에 남김
+		assertTrue(todoRepository.findByUserId(4L).isEmpty());
+		assertEquals(1, todoRepository.findByUserId(3L).size());
+	}
+
+	@Test
+	void rolledBackDirectWriteKeepsPendingEntries() {
+		todoService.createOne(todo(5L, null, "a", false));
+
+		assertThrows(RuntimeException.class, () -> todoService.applyBatch(5L, List.of(
+				new TodoBatchOperationDTO(TodoBatchOperationDTO.Operation.UPDATE, TodoDTO.builder().build()))));
+
+		assertEquals(1, todoWriteBehind.pendingEntries(5L).size()); // 롤백되어 다시 반영할 항목으로 남음
+		assertTrue(todoRepository.findByUserId(5L).isEmpty());
+		assertEquals(1, todoService.flushJournal().size());
+		assertEquals(1, todoRepository.findByUserId(5L).size()); // 한 번만 반영됨
+	}
+
+	@Test
+	void pagesAndStreamsIncludePendingWrites() {
+		todoService.createOne(todo(6L, null, "a", false));
+		todoService.flushJournal();
+		Long stored = todoRepository.findByUserId(6L).get(0).getId();
+		todoService.updateOne(todo(6L, stored, "a2", false));
+		TodoEntity pending = todoService.createOne(todo(6L, null, "b", false));
+
+		TodoPage<TodoDTO> first = todoService.retrievePage(6L, null, 1);
+		TodoPage<TodoDTO> second = todoService.retrievePage(6L, first.nextCursor(), 1);
+		assertEquals(List.of("a2"), first.items().stream().map(TodoDTO::getTitle).toList());
+		assertEquals(List.of(pending.getId()), second.items().stream().map(TodoDTO::getId).toList());
+		assertNull(second.nextCursor());
+
+		List<String> streamed = new ArrayList<>();
+		todoService.streamDtos(6L, todo -> streamed.add(todo.getTitle()));
+		assertEquals(List.of("a2", "b"), streamed);
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoChangeLogEntity;
+import com.example.spa_login.todo.model.TodoSyncStateEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TodoSyncStateRepositoryTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TodoSyncStateRepository todoSyncStateRepository;
+
+	private final Instant now = Instant.now();
+	private final Instant cutoff = now.minus(Duration.ofDays(7));
+
+	// 사용자 1: 변경 번호 10, 보존 기간이 지난 삭제 이력(3)과 최근 삭제 이력(8)
+	@BeforeEach
+	void setUp() {
+		entityManager.persist(TodoSyncStateEntity.builder().userId(1L).seq(10).horizon(0).build());
+		entityManager.persist(changeLog(1L, 3, cutoff.minus(Duration.ofDays(1))));
+		entityManager.persist(changeLog(1L, 8, now));
+		entityManager.flush();
+	}
+
+	@Test
+	void compactionDoesNotLowerHorizonRaisedByResync() {
+		// 전체 재동기화로 horizon 을 올린 직후 정리가 실행되어도 낮아지지 않음
+		assertEquals(1, todoSyncStateRepository.raiseHorizon(1L, 10));
+		assertEquals(0, todoSyncStateRepository.raiseHorizons(cutoff));
+
+		assertEquals(10, horizon(1L));
+	}
+
+	@Test
+	void resyncAfterCompactionRaisesHorizonFurther() {
+		assertEquals(1, todoSyncStateRepository.raiseHorizons(cutoff));
+		assertEquals(3, horizon(1L));
+
+		assertEquals(1, todoSyncStateRepository.raiseHorizon(1L, 10));
+		assertEquals(0, todoSyncStateRepository.raiseHorizons(cutoff));
+
+		assertEquals(10, horizon(1L));
+	}
+
+	private long horizon(Long userId) {
+		entityManager.clear();
+		return entityManager.find(TodoSyncStateEntity.class, userId).getHorizon();
+	}
+
+	private static TodoChangeLogEntity changeLog(Long userId, long seq, Instant createdAt) {
+		return TodoChangeLogEntity.builder().userId(userId).seq(seq).todoId(seq).createdAt(createdAt).build();
+	}
+}
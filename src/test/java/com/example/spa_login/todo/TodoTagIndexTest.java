@@ -0,0 +1,132 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoDTO;
+import com.example.spa_login.todo.model.TodoFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoTagIndexTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Test
+	void combinesDoneAndTagBitmaps() {
+		TodoTagIndex index = new TodoTagIndex(true, 100, new SimpleMeterRegistry());
+		List<TodoDTO> todos = List.of(
+				todo(1L, "a", true, "work"),
+				todo(2L, "b", false, "work", "home"),
+				todo(3L, "c", true, "home"),
+				todo(4L, "d", true, "work", "later"));
+
+		assertEquals(List.of(1L, 4L), ids(index.filter(USER_ID, 1, () -> snapshot(1, todos),
+				new TodoFilter(true, Set.of("work"), true, Set.of()))));
+		assertEquals(List.of(2L), ids(index.filter(USER_ID, 1, () -> snapshot(1, todos),
+				new TodoFilter(null, Set.of("work", "home"), true, Set.of()))));
+		assertEquals(List.of(1L, 2L, 3L), ids(index.filter(USER_ID, 1, () -> snapshot(1, todos),
+				new TodoFilter(null, Set.of("work", "home"), false, Set.of("later")))));
+		assertEquals(List.of(), ids(index.filter(USER_ID, 1, () -> snapshot(1, todos),
+				new TodoFilter(null, Set.of("unknown"), true, Set.of()))));
+		assertEquals(1, index.getBuildCount());
+	}
+
+	@Test
+	void appliesChangeEventsWithoutReloadingList() {
+		TodoTagIndex index = new TodoTagIndex(true, 100, new SimpleMeterRegistry());
+		TodoFilter doneWork = new TodoFilter(true, Set.of("work"), true, Set.of());
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<TodoListCache.Snapshot> loader = () -> {
+			loads.incrementAndGet();
+			return snapshot(1, List.of(todo(1L, "a", true, "work"), todo(2L, "b", false, "work")));
+		};
+
+		assertEquals(List.of(1L), ids(index.filter(USER_ID, 1, loader, doneWork)));
+
+		// 항목 2 완료, 항목 1 삭제, 항목 3 추가
+		index.onTodoChanged(new TodoChangedEvent(USER_ID, 2, List.of(todo(2L, "b", 1L, true, "work")), List.of(1L)));
+		index.onTodoChanged(new TodoChangedEvent(USER_ID, 3, List.of(todo(3L, "c", true, "home")), List.of()));
+
+		assertEquals(List.of(2L), ids(index.filter(USER_ID, 3, loader, doneWork)));
+		assertEquals(List.of(3L), ids(index.filter(USER_ID, 3, loader, new TodoFilter(null, Set.of(), true, Set.of("work")))));
+		assertEquals(1, loads.get());
+		assertEquals(1, index.getBuildCount());
+		assertEquals(2, index.getUpdateCount());
+	}
+
+	@Test
+	void ignoresStaleEventsAndRebuildsAfterResync() {
+		TodoTagIndex index = new TodoTagIndex(true, 100, new SimpleMeterRegistry());
+		TodoFilter all = new TodoFilter(null, Set.of(), true, Set.of());
+		List<TodoDTO> todos = List.of(todo(1L, "a", 2L, true, "work"), todo(2L, "b", false, "work"));
+		assertEquals(List.of(1L, 2L), ids(index.filter(USER_ID, 3, () -> snapshot(3, todos), all)));
+
+		// 늦게 도착한 이전 버전의 수정, 삭제 이후에 도착한 이전 수정
+		index.onTodoChanged(new TodoChangedEvent(USER_ID, 2, List.of(todo(1L, "a", 1L, false, "work")), List.of()));
+		index.onTodoChanged(new TodoChangedEvent(USER_ID, 4, List.of(), List.of(2L)));
+		index.onTodoChanged(new TodoChangedEvent(USER_ID, 3, List.of(todo(2L, "b", false, "home")), List.of()));
+
+		assertEquals(List.of(1L), ids(index.filter(USER_ID, 4, () -> snapshot(4, todos), new TodoFilter(true, Set.of(), true, Set.of()))));
+		assertEquals(List.of(1L), ids(index.filter(USER_ID, 4, () -> snapshot(4, todos), all)));
+
+		// 변경된 항목을 특정할 수 없는 변경: 다음 조회 때 목록으로 다시 생성
+		index.onTodoChanged(TodoChangedEvent.resync(USER_ID, 5));
+		assertEquals(0, index.size());
+		assertEquals(List.of(3L), ids(index.filter(USER_ID, 5, () -> snapshot(5, List.of(todo(3L, "c", false))), all)));
+		assertEquals(2, index.getBuildCount());
+	}
+
+	@Test
+	void disabledIndexScansList() {
+		TodoTagIndex index = new TodoTagIndex(false, 100, new SimpleMeterRegistry());
+		List<TodoDTO> todos = List.of(todo(1L, "a", true, "work"), todo(2L, "b", false, "work"));
+
+		assertEquals(List.of(2L), ids(index.filter(USER_ID, 1, () -> snapshot(1, todos), new TodoFilter(false, Set.of("work"), true, Set.of()))));
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void rebuildsWhenVersionIsAheadOfIndex() {
+		TodoTagIndex index = new TodoTagIndex(true, 100, new SimpleMeterRegistry());
+		TodoFilter done = new TodoFilter(true, Set.of(), true, Set.of());
+		assertEquals(List.of(), ids(index.filter(USER_ID, 1, () -> snapshot(1, List.of(todo(1L, "a", false))), done)));
+
+		// 다른 인스턴스에서 완료 처리 (이 인스턴스는 이벤트를 받지 못함, 목록 버전만 2로 올라감)
+		assertEquals(List.of(1L), ids(index.filter(USER_ID, 2, () -> snapshot(2, List.of(todo(1L, "a", 1L, true))), done)));
+		assertEquals(2, index.getBuildCount());
+	}
+
+	@Test
+	void dropsIndexWhenEventSeqSkipsAChange() {
+		TodoTagIndex index = new TodoTagIndex(true, 100, new SimpleMeterRegistry());
+		TodoFilter all = new TodoFilter(null, Set.of(), true, Set.of());
+		index.filter(USER_ID, 1, () -> snapshot(1, List.of(todo(1L, "a", false))), all);
+
+		// 변경 번호 2 는 다른 인스턴스의 변경: 3 이 도착하면 인덱스를 제거
+		index.onTodoChanged(new TodoChangedEvent(USER_ID, 3, List.of(todo(2L, "b", false)), List.of()));
+		assertEquals(0, index.size());
+		assertEquals(List.of(1L, 2L, 3L), ids(index.filter(USER_ID, 3,
+				() -> snapshot(3, List.of(todo(1L, "a", false), todo(2L, "b", false), todo(3L, "c", false))), all)));
+	}
+
+	private static TodoListCache.Snapshot snapshot(long seq, List<TodoDTO> todos) {
+		return new TodoListCache.Snapshot(seq, todos);
+	}
+
+	private static TodoDTO todo(Long id, String position, boolean done, String... tags) {
+		return todo(id, position, 0L, done, tags);
+	}
+
+	private static TodoDTO todo(Long id, String position, Long version, boolean done, String... tags) {
+		return new TodoDTO(id, "할 일 " + id, done, version, position, Set.of(tags));
+	}
+
+	private static List<Long> ids(List<TodoDTO> todos) {
+		return todos.stream().map(TodoDTO::getId).toList();
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.spa_login.todo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoVersionTrackerTest {
+
+	private final AtomicLong stored = new AtomicLong(10); // DB에 커밋된 변경 번호
+	private final AtomicInteger loads = new AtomicInteger(); // DB 조회 횟수
+
+	private TodoVersionTracker tracker(Duration ttl) {
+		return new TodoVersionTracker(userId -> {
+			loads.incrementAndGet();
+			return stored.get();
+		}, ttl);
+	}
+
+	@Test
+	void readsTheDbOnlyOnMiss() {
+		TodoVersionTracker tracker = tracker(Duration.ofMinutes(1));
+
+		assertEquals(10, tracker.current(1L));
+		assertEquals(10, tracker.current(1L));
+		assertEquals(1, loads.get());
+
+		tracker.onTodoChanged(new TodoChangedEvent(1L, 11, List.of(), List.of(5L)));
+		assertEquals(11, tracker.current(1L)); // 커밋 이벤트로 올림
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void expiredVersionIsReloadedButNeverLowered() {
+		TodoVersionTracker tracker = tracker(Duration.ZERO);
+
+		stored.set(12);
+		assertEquals(12, tracker.current(1L));
+		tracker.advance(1L, 14); // 커밋 이벤트가 먼저 올린 값
+		stored.set(13); // 늦게 읽은 (복제 지연 등) DB 값
+		assertEquals(14, tracker.current(1L));
+		assertEquals(2, loads.get()); // 만료되어 다시 읽음
+	}
+
+	@Test
+	void uncommittedJournalEventsDoNotChangeTheVersion() {
+		TodoVersionTracker tracker = tracker(Duration.ofMinutes(1));
+		tracker.current(1L);
+
+		tracker.onTodoChanged(new TodoChangedEvent(1L, 0, List.of(), List.of(-3L)));
+		assertEquals(10, tracker.current(1L));
+	}
+}
@@ -0,0 +1,339 @@
+package com.example.spa_login.todo;
+
+import com.example.spa_login.todo.model.TodoBatchOperationDTO;
+import com.example.spa_login.todo.model.TodoBatchOperationDTO.Operation;
+import com.example.spa_login.todo.model.TodoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoWriteBehindTest {
+
+	@TempDir
+	Path dir;
+
+	// DB에 저장된 임시 ID -> 실제 ID 변환
+	private final Map<Long, Long> tempIds = new HashMap<>();
+
+	// 같은 저널 파일로 새 프로세스가 기동한 것처럼 복구 (checkpoints: 사용자별 체크포인트)
+	private TodoWriteBehind start(Map<Long, Long> checkpoints) {
+		TodoWriteBehind writeBehind = new TodoWriteBehind(true, dir.resolve("todo-journal.log"), "test", 3,
+				new ObjectMapper(), null, null, new SimpleMeterRegistry());
+		writeBehind.recover(checkpoints, tempIds::get);
+		return writeBehind;
+	}
+
+	private static TodoDTO todo(Long id, String title) {
+		return new TodoDTO(id, title, false, null, null, Set.of());
+	}
+
+	// 사용자별 마지막 seq (반영 트랜잭션에서 저장하는 체크포인트)
+	private static Map<Long, Long> lastSeqs(SortedMap<Long, List<TodoJournal.Entry>> entries) {
+		Map<Long, Long> seqs = new HashMap<>();
+		entries.forEach((userId, list) -> seqs.put(userId, list.get(list.size() - 1).seq()));
+		return seqs;
+	}
+
+	// 기록 중인 세그먼트 파일
+	private Path currentSegment() throws Exception {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.filter(file -> file.getFileName().toString().matches("todo-journal\\.log\\.\\d+"))
+					.max(Comparator.comparingLong(file -> Long.parseLong(
+							file.getFileName().toString().substring("todo-journal.log.".length()))))
+					.orElseThrow();
+		}
+	}
+
+	@Test
+	void pendingChangesAreReplayedWhenKilledMidFlush() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		TodoDTO first = writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "b"));
+		writeBehind.submit(1L, Operation.UPDATE, todo(first.getId(), "a2"));
+		writeBehind.submit(1L, Operation.DELETE, todo(5L, null));
+
+		// DB 트랜잭션 커밋 전에 종료
+		assertThrows(IllegalStateException.class, () -> writeBehind.flush(entries -> {
+			throw new IllegalStateException("killed");
+		}));
+
+		TodoWriteBehind restarted = start(Map.of());
+		assertEquals(4, restarted.pendingCount());
+
+		Map<Long, List<TodoBatchOperationDTO>> applied = new HashMap<>();
+		restarted.flush(entries -> {
+			entries.values().forEach(list -> applied.putAll(TodoWriteBehind.coalesce(list)));
+			return Map.of();
+		});
+
+		List<TodoBatchOperationDTO> operations = applied.get(1L);
+		assertEquals(3, operations.size()); // 새 항목의 수정은 생성에 합쳐짐
+		assertEquals("a2", operations.get(0).getTodo().getTitle());
+		assertEquals("b", operations.get(1).getTodo().getTitle());
+		assertEquals(Operation.DELETE, operations.get(2).getOp());
+		assertEquals(0, restarted.pendingCount());
+		assertEquals(0, start(Map.of()).pendingCount()); // 반영 후 세그먼트는 삭제됨
+	}
+
+	// 별도 JVM에서 저널에 기록하고 (submit 이 fsync 후 반환) 기록을 마쳤다고 알린 뒤 종료를 기다림
+	static class JournalWriter {
+		public static void main(String[] args) throws Exception {
+			TodoWriteBehind writeBehind = new TodoWriteBehind(true, Path.of(args[0]), "test", 3,
+					new ObjectMapper(), null, null, new SimpleMeterRegistry());
+			writeBehind.recover(Map.of(), tempId -> null);
+			for (int i = 0; i < Integer.parseInt(args[1]); i++) {
+				writeBehind.submit(1L, Operation.CREATE, todo(null, "t" + i));
+			}
+			System.out.println("submitted");
+			System.out.flush();
+			Thread.sleep(60_000); // 부모가 강제 종료 (close/flush 없이)
+		}
+	}
+
+	@Test
+	void syncedEntriesSurviveProcessKill() throws Exception {
+		String java = ProcessHandle.current().info().command().orElse("java");
+		Process writer = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				JournalWriter.class.getName(), dir.resolve("todo-journal.log").toString(), "3")
+				.redirectErrorStream(true)
+				.start();
+		try (BufferedReader output = new BufferedReader(new InputStreamReader(writer.getInputStream(),
+				StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = output.readLine()) != null && !line.equals("submitted")) {
+				// 기동 로그
+			}
+			assertEquals("submitted", line);
+		} finally {
+			writer.destroyForcibly(); // SIGKILL: 종료 처리 없이 프로세스 종료
+			assertTrue(writer.waitFor(10, TimeUnit.SECONDS));
+		}
+
+		// 같은 파일로 새 저널/새 인스턴스를 열면 응답한 항목이 모두 남아 있음
+		try (TodoJournal journal = TodoJournal.open(currentSegment(), new ObjectMapper())) {
+			assertEquals(List.of("t0", "t1", "t2"), journal.entries().stream().map(entry -> entry.todo().getTitle()).toList());
+		}
+		TodoWriteBehind restarted = start(Map.of());
+		assertEquals(3, restarted.pendingCount());
+		assertEquals(3, restarted.overlay(1L, List.of()).size());
+	}
+
+	@Test
+	void appliedRemovesOnlyThatUsersEntries() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		TodoDTO created = writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+		writeBehind.submit(2L, Operation.CREATE, todo(null, "b"));
+
+		// 요청 트랜잭션에서 사용자 1의 항목이 반영되어 커밋됨
+		writeBehind.applied(1L, writeBehind.lastPendingSeq(1L), Map.of(created.getId(), 100L));
+
+		assertTrue(writeBehind.pendingEntries(1L).isEmpty());
+		assertEquals(1, writeBehind.pendingEntries(2L).size());
+		assertEquals(100L, writeBehind.submit(1L, Operation.UPDATE, todo(created.getId(), "a2")).getId());
+	}
+
+	@Test
+	void committedEntriesAreNotReappliedWhenKilledBeforeDelete() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+		writeBehind.submit(2L, Operation.CREATE, todo(null, "b"));
+
+		// 체크포인트와 함께 커밋된 뒤, 세그먼트를 지우기 전에 종료
+		Map<Long, Long> checkpoints = new HashMap<>();
+		assertThrows(IllegalStateException.class, () -> writeBehind.flush(entries -> {
+			checkpoints.putAll(lastSeqs(entries));
+			throw new IllegalStateException("killed");
+		}));
+
+		TodoWriteBehind restarted = start(checkpoints);
+		assertEquals(0, restarted.pendingCount());
+
+		restarted.submit(1L, Operation.CREATE, todo(null, "c"));
+		TodoWriteBehind again = start(checkpoints);
+		assertEquals(1, again.pendingCount()); // 새 항목은 체크포인트 이후 seq 로 기록됨
+	}
+
+	@Test
+	void incompleteLastEntryIsDiscarded() throws Exception {
+		TodoWriteBehind writeBehind = start(Map.of());
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "b"));
+
+		// 기록 도중 종료
+		Files.writeString(currentSegment(), "{\"seq\":3,\"userId\":1,\"op\":\"CRE",
+				StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+		TodoWriteBehind restarted = start(Map.of());
+		assertEquals(2, restarted.pendingCount());
+
+		restarted.submit(1L, Operation.CREATE, todo(null, "c"));
+		assertEquals(3, start(Map.of()).pendingCount());
+	}
+
+	@Test
+	void overlayShowsPendingChanges() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		List<TodoDTO> stored = List.of(
+				new TodoDTO(1L, "one", false, 0L, "h", Set.of()),
+				new TodoDTO(2L, "two", false, 0L, "i", Set.of()));
+
+		TodoDTO created = writeBehind.submit(7L, Operation.CREATE, todo(null, "three"));
+		writeBehind.submit(7L, Operation.UPDATE, new TodoDTO(1L, "one!", true, null, null, Set.of()));
+		writeBehind.submit(7L, Operation.DELETE, todo(2L, null));
+
+		List<TodoDTO> todos = writeBehind.overlay(7L, stored);
+		assertEquals(2, todos.size());
+		assertEquals("one!", todos.get(0).getTitle());
+		assertEquals(created.getId(), todos.get(1).getId());
+		assertTrue(created.getId() < 0); // 반영 전 새 항목은 임시 ID
+
+		assertSame(stored, writeBehind.overlay(8L, stored)); // 다른 사용자는 그대로
+	}
+
+	@Test
+	void tempIdsAreResolvedAfterFlush() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		TodoDTO created = writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+		writeBehind.flush(entries -> {
+			tempIds.put(created.getId(), 100L); // 반영 트랜잭션에서 변환도 저장
+			return Map.of(created.getId(), 100L);
+		});
+
+		TodoDTO updated = writeBehind.submit(1L, Operation.UPDATE, todo(created.getId(), "a2"));
+		assertEquals(100L, updated.getId());
+	}
+
+	@Test
+	void tempIdsAreResolvedAfterRestart() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		TodoDTO created = writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+		Map<Long, Long> checkpoints = new HashMap<>();
+		writeBehind.flush(entries -> {
+			checkpoints.putAll(lastSeqs(entries));
+			tempIds.put(created.getId(), 100L);
+			return Map.of(created.getId(), 100L);
+		});
+
+		// 재시작 후 새 항목의 임시 ID는 이전 임시 ID와 겹치지 않음
+		TodoWriteBehind restarted = start(checkpoints);
+		TodoDTO next = restarted.submit(1L, Operation.CREATE, todo(null, "b"));
+		assertNotEquals(created.getId(), next.getId());
+
+		// 이전 임시 ID로 온 수정은 저장된 변환으로 실제 항목에 반영
+		TodoDTO updated = restarted.submit(1L, Operation.UPDATE, todo(created.getId(), "a2"));
+		assertEquals(100L, updated.getId());
+
+		Map<Long, List<TodoBatchOperationDTO>> applied = new HashMap<>();
+		restarted.flush(entries -> {
+			entries.values().forEach(list -> applied.putAll(TodoWriteBehind.coalesce(list)));
+			return Map.of(next.getId(), 101L);
+		});
+		List<TodoBatchOperationDTO> operations = applied.get(1L);
+		assertEquals(2, operations.size());
+		assertEquals(Operation.UPDATE, operations.get(1).getOp());
+		assertEquals(100L, operations.get(1).getTodo().getId());
+	}
+
+	@Test
+	void unresolvedTempIdsAreKeptForApply() {
+		// 변환을 모르는 이전 임시 ID 의 수정/삭제는 버리지 않고 반영 시 DB의 변환으로 바꿈 (TodoService.applyJournal)
+		SortedMap<Long, List<TodoBatchOperationDTO>> batches = TodoWriteBehind.coalesce(List.of(
+				new TodoJournal.Entry(5, 1L, Operation.UPDATE, todo(-1L, "a3")),
+				new TodoJournal.Entry(6, 1L, Operation.DELETE, todo(-2L, null))));
+
+		List<TodoBatchOperationDTO> operations = batches.get(1L);
+		assertEquals(2, operations.size());
+		assertEquals(-1L, operations.get(0).getTodo().getId());
+		assertEquals(-2L, operations.get(1).getTodo().getId());
+	}
+
+	@Test
+	void failingUserIsMovedToDeadLetterWithoutBlockingOthers() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "poison"));
+		writeBehind.submit(2L, Operation.CREATE, todo(null, "ok"));
+
+		Map<Long, Long> checkpoints = new HashMap<>();
+		TodoWriteBehind.Applier applier = entries -> {
+			if (entries.containsKey(1L)) {
+				throw new IllegalArgumentException("constraint violation");
+			}
+			checkpoints.putAll(lastSeqs(entries));
+			return Map.of();
+		};
+
+		// 다른 사용자의 항목은 사용자별 트랜잭션으로 반영
+		assertEquals(Set.of(2L), writeBehind.flush(applier));
+		assertEquals(1, writeBehind.pendingCount());
+
+		assertThrows(IllegalArgumentException.class, () -> writeBehind.flush(applier));
+		assertEquals(Set.of(1L), writeBehind.flush(applier)); // 세 번째 실패에서 dead letter 로
+		assertEquals(0, writeBehind.pendingCount());
+
+		assertEquals(0, start(checkpoints).pendingCount()); // 재시작 후에도 다시 반영하지 않음
+	}
+
+	@Test
+	void transientFailuresAreRetried() {
+		TodoWriteBehind writeBehind = start(Map.of());
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+
+		for (int i = 0; i < 5; i++) {
+			assertThrows(QueryTimeoutException.class, () -> writeBehind.flush(entries -> {
+				throw new QueryTimeoutException("timeout");
+			}));
+		}
+		assertEquals(1, writeBehind.pendingCount()); // DB 연결 문제는 dead letter 로 옮기지 않음
+	}
+
+	@Test
+	void submitIsNotBlockedByFlush() throws Exception {
+		TodoWriteBehind writeBehind = start(Map.of());
+		writeBehind.submit(1L, Operation.CREATE, todo(null, "a"));
+
+		CountDownLatch applying = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Set<Long>> flush = CompletableFuture.supplyAsync(() -> writeBehind.flush(entries -> {
+			applying.countDown();
+			try {
+				release.await(); // DB 트랜잭션 진행 중
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return Map.of();
+		}));
+		assertTrue(applying.await(5, TimeUnit.SECONDS));
+
+		CompletableFuture<TodoDTO> submit = CompletableFuture.supplyAsync(() ->
+				writeBehind.submit(1L, Operation.CREATE, todo(null, "b")));
+		assertNotNull(submit.get(5, TimeUnit.SECONDS)); // 반영을 기다리지 않음
+
+		release.countDown();
+		assertEquals(Set.of(1L), flush.get(5, TimeUnit.SECONDS));
+		assertEquals(1, writeBehind.pendingCount()); // 반영 중에 들어온 항목은 다음 반영 대상
+		assertEquals(1, start(Map.of(1L, 1L)).pendingCount());
+	}
+
+	@Test
+	void nodeIdIsRequired() {
+		TodoWriteBehind writeBehind = new TodoWriteBehind(true, dir.resolve("todo-journal.log"), " ", 3,
+				new ObjectMapper(), null, null, new SimpleMeterRegistry());
+		assertThrows(IllegalStateException.class, writeBehind::init);
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.spa_login.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+	private final AtomicLong now = new AtomicLong(); // 현재 시각 (ns)
+
+	// 사용자명 3회, IP 5회 / 1분
+	private LoginRateLimiter limiter(int maxKeys) {
+		return new LoginRateLimiter(true,
+				new LoginRateLimiter.Limit(3, Duration.ofMinutes(1)),
+				new LoginRateLimiter.Limit(5, Duration.ofMinutes(1)),
+				maxKeys, now::get);
+	}
+
+	@Test
+	void rejectedUsernameDoesNotSpendIpToken() {
+		LoginRateLimiter limiter = limiter(100);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, limiter.tryAcquire("alice", "10.0.0.1"));
+		}
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.tryAcquire("alice", "10.0.0.1") > 0); // 사용자명 제한
+		}
+
+		// 거절된 시도는 IP 토큰을 소모하지 않았으므로 남은 2회는 다른 사용자명으로 허용
+		assertEquals(0, limiter.tryAcquire("bob", "10.0.0.1"));
+		assertEquals(0, limiter.tryAcquire("carol", "10.0.0.1"));
+		assertTrue(limiter.tryAcquire("dave", "10.0.0.1") > 0);
+	}
+
+	@Test
+	void fullTableAllowsNewKeysWithoutEvictingActiveBuckets() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		LoginRateLimiter limiter = new LoginRateLimiter(true, 3, Duration.ofMinutes(1), 5, Duration.ofMinutes(1),
+				4, registry);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, limiter.tryAcquire("victim", "10.0.0.1"));
+		}
+		assertTrue(limiter.tryAcquire("victim", "10.0.0.1") > 0);
+
+		// 다른 IP에서 사용자명을 바꿔가며 표를 채워도 피해자의 버킷은 남고, 새 키의 시도는 버킷 없이 허용
+		for (int i = 0; i < 100; i++) {
+			limiter.tryAcquire("user" + i, "10.0.0." + (2 + i % 3));
+		}
+		assertEquals(4, limiter.size());
+		assertTrue(limiter.tryAcquire("victim", "10.0.0.1") > 0);
+		assertEquals(0, limiter.tryAcquire("newcomer", "10.0.0.9"));
+		assertTrue(registry.get("login.rate-limit.overflow").counter().count() > 0);
+	}
+
+	@Test
+	void sweptBucketsAreRecreatedIdle() {
+		LoginRateLimiter limiter = limiter(100);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, limiter.tryAcquire("alice", "10.0.0.1"));
+		}
+		limiter.sweep();
+		assertEquals(2, limiter.size()); // 사용 중인 버킷은 남음
+
+		now.addAndGet(Duration.ofMinutes(2).toNanos());
+		limiter.sweep();
+		assertEquals(0, limiter.size());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(0, limiter.tryAcquire("alice", "10.0.0.1"));
+		}
+		assertTrue(limiter.tryAcquire("alice", "10.0.0.1") > 0);
+	}
+
+	@Test
+	void concurrentAttemptsNeverExceedCapacity() throws Exception {
+		LoginRateLimiter limiter = limiter(100);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		AtomicInteger allowed = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < 100; i++) {
+					if (limiter.tryAcquire("alice", "10.0.0.1") == 0) {
+						allowed.incrementAndGet();
+					}
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertEquals(3, allowed.get());
+		assertEquals(0, limiter.tryAcquire("bob", "10.0.0.1")); // 거절된 시도는 IP 토큰을 소모하지 않음
+	}
+
+	@Test
+	void nonPositiveCapacityIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new LoginRateLimiter.Limit(0, Duration.ofMinutes(1)));
+		assertThrows(IllegalArgumentException.class, () -> new LoginRateLimiter.Limit(-1, Duration.ofMinutes(1)));
+		assertThrows(IllegalArgumentException.class, () -> new LoginRateLimiter.Limit(1, Duration.ZERO));
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.spa_login.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	// 스레드 1개, 대기열 1개, 재시도 2초
+	private final PasswordHashExecutor executor = new PasswordHashExecutor(1, 1, 2, meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdown();
+	}
+
+	private String block() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return Thread.currentThread().getName();
+	}
+
+	@Test
+	void fullQueueRejectsImmediatelyWithRetryAfter() throws Exception {
+		CompletableFuture<String> running = executor.submit(this::block);
+		CompletableFuture<String> queued = executor.submit(this::block);
+
+		// 실행 중 1개 + 대기 1개: 다음 작업은 기다리지 않고 거절
+		PasswordHashRejectedException e = assertThrows(PasswordHashRejectedException.class,
+				() -> executor.submit(() -> "rejected"));
+		assertEquals(2, e.getRetryAfterSeconds());
+		assertEquals(1, meterRegistry.get("password.hash.rejected").counter().count());
+		assertEquals(1, meterRegistry.get("password.hash.queue.size").gauge().value());
+
+		release.countDown();
+		assertTrue(running.get(5, TimeUnit.SECONDS).startsWith("password-hash-")); // 요청 스레드가 아닌 해시 전용 스레드
+		assertTrue(queued.get(5, TimeUnit.SECONDS).startsWith("password-hash-"));
+		assertEquals(2, meterRegistry.get("password.hash.wait").timer().count());
+
+		assertEquals("accepted", executor.submit(() -> "accepted").get(5, TimeUnit.SECONDS)); // 대기열이 비면 다시 받음
+	}
+}
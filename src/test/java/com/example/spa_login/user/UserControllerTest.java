@@ -0,0 +1,182 @@
+package com.example.spa_login.user;
+
+import com.example.spa_login.common.model.ResponseDTO;
+import com.example.spa_login.security.jwt.TokenProvider;
+import com.example.spa_login.user.model.UserDTO;
+import com.example.spa_login.user.model.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserControllerTest {
+
+	private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+	private final Map<String, String> threads = new ConcurrentHashMap<>(); // 호출 → 실행 스레드 이름
+
+	private UserService userService;
+	private PasswordHashExecutor passwordHashExecutor;
+	private ExecutorService asyncPool;
+	private UserController userController;
+
+	@BeforeEach
+	void setUp() {
+		userService = mock(UserService.class);
+		passwordHashExecutor = new PasswordHashExecutor(1, 1, 2, new SimpleMeterRegistry());
+		asyncPool = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "mvc-async"));
+		LoginRateLimiter loginRateLimiter = new LoginRateLimiter(true,
+				new LoginRateLimiter.Limit(100, Duration.ofMinutes(1)),
+				new LoginRateLimiter.Limit(100, Duration.ofMinutes(1)),
+				100, System::nanoTime);
+		userController = new UserController(userService, new TokenProvider(), passwordHashExecutor, loginRateLimiter,
+				passwordEncoder, new TaskExecutorAdapter(asyncPool));
+	}
+
+	@AfterEach
+	void tearDown() {
+		passwordHashExecutor.shutdown();
+		asyncPool.shutdown();
+	}
+
+	private static UserDTO credentials(String password) {
+		return UserDTO.builder().username("user@example.com").password(password).build();
+	}
+
+	private static MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr("10.0.0.1");
+		return request;
+	}
+
+	private void record(String call) {
+		threads.put(call, Thread.currentThread().getName());
+	}
+
+	@Test
+	void signinHashesOnHashPoolAndSavesOffIt() throws Exception {
+		UserEntity user = UserEntity.builder().id(1L).username("user@example.com")
+				.password(passwordEncoder.encode("password")).build();
+		when(userService.getByUsernameForSignin("user@example.com")).thenAnswer(invocation -> {
+			record("lookup");
+			return user;
+		});
+		when(userService.checkPassword(eq(user), anyString(), any())).thenAnswer(invocation -> {
+			record("check");
+			return new UserService.PasswordCheck(true, "rehashed");
+		});
+		doAnswer(invocation -> {
+			record("upgrade");
+			return null;
+		}).when(userService).upgradePassword(user, "rehashed");
+
+		ResponseEntity<?> response = userController.authenticate(credentials("password"), request())
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNotNull(((UserDTO) response.getBody()).getToken());
+		assertEquals(Thread.currentThread().getName(), threads.get("lookup")); // 조회는 요청 스레드
+		assertTrue(threads.get("check").startsWith("password-hash-")); // 해시만 전용 풀
+		assertEquals("mvc-async", threads.get("upgrade")); // 재해시 저장은 비동기 MVC 풀
+	}
+
+	@Test
+	void signinWithWrongPasswordFails() throws Exception {
+		when(userService.checkPassword(any(), anyString(), any())).thenReturn(new UserService.PasswordCheck(false, null));
+
+		ResponseEntity<?> response = userController.authenticate(credentials("wrong"), request())
+				.get(5, TimeUnit.SECONDS);
+
+		assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+		assertEquals("Login failed", ((ResponseDTO<?>) response.getBody()).getError());
+		verify(userService, never()).upgradePassword(any(), any());
+	}
+
+	@Test
+	void signupEncodesOnHashPoolAndCreatesOffIt() throws Exception {
+		when(userService.create(any(UserEntity.class))).thenAnswer(invocation -> {
+			record("create");
+			UserEntity user = invocation.getArgument(0);
+			assertTrue(passwordEncoder.matches("password", user.getPassword()));
+			user.setId(1L);
+			return user;
+		});
+
+		ResponseEntity<?> response = userController.registerUser(credentials("password")).get(5, TimeUnit.SECONDS);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(1L, ((UserDTO) response.getBody()).getId());
+		assertEquals("mvc-async", threads.get("create"));
+	}
+
+	@Test
+	void saturatedHashPoolReturnsServiceUnavailableWithRetryAfter() throws Exception {
+		// 해시 스레드 1개와 대기열 1개를 채움
+		CountDownLatch release = new CountDownLatch(1);
+		for (int i = 0; i < 2; i++) {
+			passwordHashExecutor.submit(() -> {
+				try {
+					return release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			});
+		}
+
+		try {
+			ResponseEntity<?> signin = userController.authenticate(credentials("password"), request())
+					.get(5, TimeUnit.SECONDS);
+			ResponseEntity<?> signup = userController.registerUser(credentials("password")).get(5, TimeUnit.SECONDS);
+
+			// 기다리지 않고 바로 503 응답
+			for (ResponseEntity<?> response : new ResponseEntity<?>[]{signin, signup}) {
+				assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+				assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+			}
+			verify(userService, never()).create(any(UserEntity.class));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void usernameAvailableIsRateLimitedPerIp() {
+		when(userService.isUsernameAvailable(anyString())).thenReturn(true);
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(HttpStatus.OK, userController.isUsernameAvailable("user" + i, request()).getStatusCode());
+		}
+
+		// 같은 IP의 101번째 확인은 DB 조회 없이 거절
+		ResponseEntity<?> rejected = userController.isUsernameAvailable("user100", request());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatusCode());
+		assertNotNull(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		verify(userService, times(100)).isUsernameAvailable(anyString());
+
+		// 다른 IP는 영향 없음
+		MockHttpServletRequest other = request();
+		other.setRemoteAddr("10.0.0.2");
+		assertEquals(HttpStatus.OK, userController.isUsernameAvailable("user100", other).getStatusCode());
+	}
+}
@@ -0,0 +1,146 @@
+package com.example.spa_login.user;
+
+import com.example.spa_login.security.config.PasswordEncoderConfig;
+import com.example.spa_login.user.model.UserEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+	private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+	// DB에 저장된 사용자 (UserRepository 스텁이 반환)
+	private final AtomicReference<UserEntity> stored = new AtomicReference<>();
+
+	private UserRepository userRepository;
+	private UserCache userCache;
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		stored.set(UserEntity.builder()
+				.id(1L)
+				.username("user@example.com")
+				.password(passwordEncoder.encode("old-password"))
+				.build());
+
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findByUsername(anyString())).thenAnswer(invocation -> copy(stored.get()));
+		when(userRepository.save(any(UserEntity.class))).thenAnswer(invocation -> {
+			UserEntity saved = copy(invocation.getArgument(0));
+			stored.set(saved);
+			return saved;
+		});
+
+		userCache = new UserCache(true, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+		UsernameBloomFilter bloomFilter = new UsernameBloomFilter(userRepository, false, 1, 0.01, false, new SimpleMeterRegistry());
+		userService = new UserService(userRepository, userCache, bloomFilter);
+	}
+
+	@Test
+	void repeatedLookupsAreServedFromCache() {
+		assertNotNull(userService.getByCredentials("user@example.com", "old-password", passwordEncoder));
+		assertNotNull(userService.getByCredentials("user@example.com", "old-password", passwordEncoder));
+
+		verify(userRepository, times(1)).findByUsername("user@example.com");
+		assertEquals(1, userCache.getHitCount());
+	}
+
+	@Test
+	void staleEntryCannotAuthenticateWithOldPassword() {
+		// 이전 비밀번호로 로그인하여 캐시에 적재
+		UserEntity user = userService.getByCredentials("user@example.com", "old-password", passwordEncoder);
+		assertNotNull(user);
+
+		// 비밀번호 변경
+		user.setPassword(passwordEncoder.encode("new-password"));
+		userService.update(user);
+
+		assertNull(userService.getByCredentials("user@example.com", "old-password", passwordEncoder));
+		assertNotNull(userService.getByCredentials("user@example.com", "new-password", passwordEncoder));
+	}
+
+	@Test
+	void returnedEntityDoesNotMutateCache() {
+		UserEntity user = userService.getByUsername("user@example.com");
+		user.setPassword("tampered");
+
+		assertNotNull(userService.getByCredentials("user@example.com", "old-password", passwordEncoder));
+	}
+
+	@Test
+	void checkPasswordOnlyHashesAndUpgradeOnlyStores() {
+		UserEntity user = userService.getByUsername("user@example.com");
+		PasswordEncoder stronger = new BCryptPasswordEncoder(5);
+
+		// 해시 풀에서 호출되는 검증: 저장소에 접근하지 않음
+		UserService.PasswordCheck check = userService.checkPassword(user, "old-password", stronger);
+		assertTrue(check.matched());
+		assertNotNull(check.upgradedPassword()); // cost 가 달라 재해시
+		verify(userRepository, never()).save(any(UserEntity.class));
+		assertFalse(userService.checkPassword(user, "wrong-password", stronger).matched());
+
+		userService.upgradePassword(user, check.upgradedPassword());
+		assertEquals(check.upgradedPassword(), stored.get().getPassword());
+		assertNull(userService.checkPassword(user, "old-password", stronger).upgradedPassword());
+	}
+
+	@Test
+	void successfulLoginRehashesLegacyHashWithConfiguredEncoder() {
+		PasswordEncoderConfig config = new PasswordEncoderConfig();
+		ReflectionTestUtils.setField(config, "encoderId", "bcrypt");
+		ReflectionTestUtils.setField(config, "strength", 5);
+		PasswordEncoder configured = config.passwordEncoder();
+
+		// 접두사 없는 cost 4 해시로 로그인: 인증 후 {bcrypt} cost 5 해시로 저장
+		assertNotNull(userService.getByCredentials("user@example.com", "old-password", configured));
+		String rehashed = stored.get().getPassword();
+		assertTrue(rehashed.startsWith("{bcrypt}$2a$05$"));
+		assertTrue(configured.matches("old-password", rehashed));
+
+		// 이미 맞는 해시는 다시 저장하지 않음, 실패한 로그인은 재해시하지 않음
+		assertNotNull(userService.getByCredentials("user@example.com", "old-password", configured));
+		assertNull(userService.getByCredentials("user@example.com", "wrong-password", configured));
+		verify(userRepository, times(1)).save(any(UserEntity.class));
+		assertEquals(rehashed, stored.get().getPassword());
+	}
+
+	@Test
+	void createInsertsOnceAndMapsUniqueViolationToDuplicateUsername() {
+		when(userRepository.saveAndFlush(any(UserEntity.class)))
+				.thenAnswer(invocation -> copy(invocation.getArgument(0)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry 'user@example.com' for key 'username'"));
+
+		assertNotNull(userService.create(UserEntity.builder().username("new@example.com").password("x").build()));
+		RuntimeException e = assertThrows(RuntimeException.class,
+				() -> userService.create(UserEntity.builder().username("user@example.com").password("x").build()));
+		assertEquals("Username already exists", e.getMessage());
+
+		// 존재 여부를 먼저 조회하지 않고 INSERT 한 번
+		verify(userRepository, times(2)).saveAndFlush(any(UserEntity.class));
+		verify(userRepository, never()).existsByUsername(anyString());
+	}
+
+	private static UserEntity copy(UserEntity user) {
+		return user == null ? null : UserEntity.builder()
+				.id(user.getId())
+				.username(user.getUsername())
+				.password(user.getPassword())
+				.role(user.getRole())
+				.authProvider(user.getAuthProvider())
+				.build();
+	}
+}
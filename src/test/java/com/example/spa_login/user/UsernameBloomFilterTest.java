@@ -0,0 +1,61 @@
+package com.example.spa_login.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UsernameBloomFilterTest {
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void noFalseNegativesAndBoundedFalsePositives(boolean offHeap) {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.streamAllUsernames()).thenReturn(Stream.of("existing@example.com"));
+
+		UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, true, 10_000, 0.01, offHeap,
+				new SimpleMeterRegistry());
+
+		// 적재 전에는 항상 DB 조회 대상
+		assertTrue(filter.mightContain("unknown@example.com"));
+
+		filter.load();
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("user" + i + "@example.com");
+		}
+
+		assertTrue(filter.mightContain("existing@example.com"));
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightContain("user" + i + "@example.com"));
+		}
+		// 대소문자, 악센트만 다른 사용자명은 같은 이름으로 취급 (MySQL collation 기준)
+		assertTrue(filter.mightContain("USER1@EXAMPLE.COM"));
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("absent" + i + "@example.com")) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"STRASSE", "straße", "ｓｔｒａｓｓｅ", "strässe", "strasse  "})
+	void collationEqualUsernamesAreNeverReportedAbsent(String variant) {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.streamAllUsernames()).thenReturn(Stream.of("strasse"));
+
+		UsernameBloomFilter filter = new UsernameBloomFilter(userRepository, true, 1_000, 0.01, false,
+				new SimpleMeterRegistry());
+		filter.load();
+
+		// DB가 같은 이름으로 비교하는 사용자명은 필터에서도 존재할 수 있다고 판단해야 함
+		assertTrue(filter.mightContain(variant));
+	}
+}